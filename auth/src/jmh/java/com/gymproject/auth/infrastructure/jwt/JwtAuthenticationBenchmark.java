@@ -0,0 +1,50 @@
+package com.gymproject.auth.infrastructure.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+    JwtAuthFilter의 토큰 인증 비용 비교
+    - cold  : 요청마다 JSON 파싱 + HS512 서명 검증 (기존)
+    - cached: 같은 토큰을 다시 받았을 때 (SHA-256 한번 + Map 조회)
+
+    실행: ./gradlew :auth:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+
+    // HS512는 512비트(64바이트) 이상의 키가 필요함
+    private static final String ACCESS_SECRET = "benchmark-access-secret-benchmark-access-secret-benchmark-access-secret";
+    private static final String REFRESH_SECRET = "benchmark-refresh-secret-benchmark-refresh-secret-benchmark-refresh-secret";
+
+    private TokenProvider tokenProvider;
+    private VerifiedTokenCache verifiedTokenCache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new TokenProvider(ACCESS_SECRET, REFRESH_SECRET, 3, 168, "gym");
+        verifiedTokenCache = new VerifiedTokenCache(new SimpleMeterRegistry(), 10_000);
+        token = tokenProvider.createAccessToken("member@test.com", "MEMBER", 1L, "Gildong Hong");
+
+        // cached 측정 전에 한번 검증해서 넣어둠
+        verifiedTokenCache.getOrVerify(token, tokenProvider::verifyAccessToken);
+    }
+
+    @Benchmark
+    public VerifiedToken cold() {
+        return tokenProvider.verifyAccessToken(token);
+    }
+
+    @Benchmark
+    public VerifiedToken cached() {
+        return verifiedTokenCache.getOrVerify(token, tokenProvider::verifyAccessToken);
+    }
+}
@@ -12,6 +12,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
@@ -39,9 +40,11 @@ public class AuthController {
                     2. Refresh Token 발급(HttpOnly Cookie): 자바스크립트 접근이 불가능한 쿠키에 담겨 전달, 토큰 만료 시 재발급 용도로만 사용됩니다.
                     """)
     @PostMapping("/login")
-    public ResponseEntity<CommonResDto<LoginResponse>> login(@RequestBody @Valid LoginRequest dto) {
+    public ResponseEntity<CommonResDto<LoginResponse>> login(@RequestBody @Valid LoginRequest dto,
+                                                             HttpServletRequest request) {
 
-        LoginResponse response = authService.login(dto);
+        // 운영에서는 forward-headers-strategy로 프록시 뒤의 실제 클라이언트 IP가 들어옴
+        LoginResponse response = authService.login(dto, request.getRemoteAddr());
 
         // RefreshToken 의 경우는 헤더에 담아서 전달
         // JS 접근 불가(XSS)
@@ -97,6 +100,7 @@ public class AuthController {
 
     @Operation(summary = "3. 로그아웃", description = """
     서버의 RefreshToken을 삭제하고, 클라이언트의 쿠키를 만료시킵니다.
+    Authorization 헤더의 AccessToken은 만료 전까지 사용할 수 없도록 무효화됩니다.
     (프론트에서 AccessToken 삭제 필요)
     """)
     @PostMapping("/logout")
@@ -111,6 +115,11 @@ public class AuthController {
             authService.logout(refreshToken);
         }
 
+        // 1-1. 액세스 토큰도 만료 전까지 사용 못하게 무효화
+        if (accessToken != null) {
+            authService.revokeAccessToken(accessToken);
+        }
+
         // 2. 쿠키 삭제용 "빈 쿠키" 생성 (Max-Age를 0으로 설정)
         // [주의] path나 domain이 발급 때와 완전히 똑같아야 삭제됩니다!
         ResponseCookie deleteCookie = ResponseCookie.from("refreshToken", "") // 값 비우기
@@ -0,0 +1,6 @@
+package com.gymproject.auth.application.port;
+
+public interface AccessTokenDenylistPort {
+    // 액세스 토큰 무효화 (로그아웃 등). 토큰 만료 시각까지만 보관
+    void revoke(String jti, long expiresAtMillis);
+}
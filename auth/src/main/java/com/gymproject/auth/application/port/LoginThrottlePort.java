@@ -0,0 +1,11 @@
+package com.gymproject.auth.application.port;
+
+public interface LoginThrottlePort {
+    // 로그인 시도 횟수 확인 + 기록 (이메일/IP 기준, 초과면 예외)
+    // 비밀번호 해시 비교 전에 호출해야 함
+    void checkLoginAttempt(String email, String clientIp);
+
+    // 로그인 성공 시 이메일별 시도 기록 초기화 (이메일 제한은 실패한 시도만 세도록)
+    // IP별 기록은 그대로 둠 (요청량 제한)
+    void resetEmailAttempts(String email);
+}
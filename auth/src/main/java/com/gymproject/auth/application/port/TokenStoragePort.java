@@ -1,8 +1,8 @@
 package com.gymproject.auth.application.port;
 
 public interface TokenStoragePort {
-    // 1. 저장된 토큰과 요청된 토큰이 일치하는지 검증
-    void verifyTokenMatch(Long userId, String requestToken);
+    // 1. 저장된 토큰이 요청된 토큰과 일치할 때만 새 토큰으로 교체 (검증 + 갱신을 한번에, 불일치면 예외)
+    void rotateRefreshToken(Long userId, String requestToken, String newToken, long ttlMillis);
 
     // 2. 리프레시 토큰 저장 및 갱신 (TTL 포함)
     void updateRefreshToken(Long userId, String newToken, long ttlMillis);
@@ -3,16 +3,20 @@ package com.gymproject.auth.application.service;
 import com.gymproject.auth.application.dto.request.LoginRequest;
 import com.gymproject.auth.application.dto.response.LoginResponse;
 import com.gymproject.auth.application.dto.response.OAuthLoginResponse;
+import com.gymproject.auth.application.port.AccessTokenDenylistPort;
+import com.gymproject.auth.application.port.LoginThrottlePort;
 import com.gymproject.auth.application.port.TokenStoragePort;
 import com.gymproject.auth.domain.entity.Identity;
 import com.gymproject.auth.exception.IdentityErrorCode;
 import com.gymproject.auth.exception.IdentityException;
 import com.gymproject.auth.infrastructure.external.CustomOAuth2User;
 import com.gymproject.auth.infrastructure.jwt.TokenProvider;
+import com.gymproject.auth.infrastructure.jwt.VerifiedToken;
 import com.gymproject.common.dto.auth.TokenResponse;
 import com.gymproject.common.dto.auth.UserAuthInfo;
 import com.gymproject.common.port.user.UserProfilePort;
 import com.gymproject.common.security.AuthProvider;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -33,6 +37,8 @@ public class AuthService {
 //    private final GoogleOAuthClient googleOAuthClient;
     private final IdentityService identityService; // 신원 확인 담당
     private final TokenStoragePort tokenStoragePort; // 저장소 담당
+    private final LoginThrottlePort loginThrottlePort; // 로그인 시도 제한 담당
+    private final AccessTokenDenylistPort accessTokenDenylistPort; // 액세스 토큰 무효화 담당
     private final TokenProvider tokenProvider; // 토큰 발행 담당
     private final UserProfilePort userProfilePort;
 
@@ -46,13 +52,19 @@ public class AuthService {
     private String failureRedirectUrl;
 
     // 1. 일반 로그인
-    public LoginResponse login(LoginRequest dto) {
+    public LoginResponse login(LoginRequest dto, String clientIp) {
+        // 0. 시도 횟수 제한 (비밀번호 해시 비교 전에 거절해서 CPU를 보호)
+        loginThrottlePort.checkLoginAttempt(dto.getEmail(), clientIp);
+
         // 1. 유저 모듈에 해당 유저의 정보가 맞는지 검증(IdentityService 위임)
-        UserAuthInfo authInfo = identityService.verifyIdentity(
+        UserAuthInfo authInfo = withDisplayName(identityService.verifyIdentity(
                 dto.getEmail(),
-                dto.getPassword());
+                dto.getPassword()));
+
+        // 1-1. 로그인 성공 -> 이메일별 시도 기록 초기화 (정상 사용자의 로그인이 이메일 제한에 쌓이지 않게 함)
+        loginThrottlePort.resetEmailAttempts(dto.getEmail());
 
-        // 2. 검증된 정보를 바탕으로 토큰 발행(TokenProvider 위임)
+        // 2. 검증된 정보를 바탕으로 토큰 발행(TokenProvider 위임, 이름도 토큰에 담음)
         TokenResponse tokenResponse = tokenProvider.issueToken(authInfo);
 
         // 3. refresh를 위해 리프레시 토큰을 Redis에 저장(Port 위임)
@@ -66,7 +78,7 @@ public class AuthService {
         LoginResponse loginResponse = LoginResponse.builder()
                 .role(authInfo.getRole())
                 .email(authInfo.getEmail())
-                .userName(userProfilePort.getUserFullName(authInfo.getUserId()))
+                .userName(authInfo.getDisplayName())
                 .userId(authInfo.getUserId())
                 .accessToken(tokenResponse.getAccessToken())
                 .refreshToken(tokenResponse.getRefreshToken())
@@ -101,27 +113,29 @@ public class AuthService {
         // 2. refresh 토큰에서 identityId 추출
         Long identityId = tokenProvider.extractIdentityId(refreshToken);
 
-        // 3. Redis 저장값과 비교(Token Rotation 체크 - 탈취 방어)
-
-        log.info("Refresh Token: {}", refreshToken.toString());
-        tokenStoragePort.verifyTokenMatch(identityId, refreshToken);
-
-        // 4. 실시간 유저 상태확인
+        // 3. 실시간 유저 상태확인
         Identity identity = identityService.getActiveIdentity(identityId);
 
-        // 5. 새로운 토큰 발급
-        TokenResponse newTokens = tokenProvider.rotateToken(identity.toAuthInfo(), refreshToken);
-
-        // 6. Redis 인프라 갱신
-        updateStoredToken(identityId, newTokens.getRefreshToken(), refreshToken);
+        // 4. 새로운 토큰 발급 (재발급 시점의 이름을 다시 담음)
+        UserAuthInfo authInfo = withDisplayName(identity.toAuthInfo());
+        TokenResponse newTokens = tokenProvider.rotateToken(authInfo, refreshToken);
+
+        // 5. Redis 저장값과 비교 후 교체(Token Rotation 체크 - 탈취 방어)
+        // [중요] 비교와 저장을 한번에 처리 -> 같은 토큰으로 동시에 재발급해도 하나만 성공
+        tokenStoragePort.rotateRefreshToken(
+                identityId,
+                refreshToken,
+                newTokens.getRefreshToken(),
+                newTokens.getRefreshTokenDuration() // 기존 토큰의 남은 수명
+        );
 
-        // 7. LoginResponse 생성
+        // 6. LoginResponse 생성
         LoginResponse response = LoginResponse.builder()
                 .refreshToken(newTokens.getRefreshToken())
                 .refreshTokenDuration(newTokens.getRefreshTokenDuration())
                 .accessToken(newTokens.getAccessToken())
                 .email(identity.getEmail())
-                .userName(userProfilePort.getUserFullName(identityId))
+                .userName(authInfo.getDisplayName())
                 .role(identity.getRole())
                 .userId(identityId)
                 .build();
@@ -138,6 +152,7 @@ public class AuthService {
 
         // 1. 소셜로 가입한 사람의 아이디를 조회
         return identityService.findAuthInfoBySocial(provider, providerId)
+                .map(this::withDisplayName)
                 .map(authInfo -> {
                     // 가입된 유저 -> 토큰 발급 후 메인으로 리다이렉트
                     TokenResponse tokens = tokenProvider.issueToken(authInfo);
@@ -195,6 +210,18 @@ public class AuthService {
         tokenStoragePort.deleteRefreshToken(userId);
     }
 
+    // 6. 액세스 토큰 무효화 (로그아웃 시, 만료 전까지 해당 토큰 사용 불가)
+    public void revokeAccessToken(String bearerToken) {
+        String accessToken = bearerToken.startsWith("Bearer ") ? bearerToken.substring(7) : bearerToken;
+        try {
+            VerifiedToken verified = tokenProvider.verifyAccessToken(accessToken);
+            accessTokenDenylistPort.revoke(verified.jti(), verified.expiresAtMillis());
+        } catch (JwtException | IllegalArgumentException e) {
+            // 이미 만료됐거나 위조된 토큰은 막을 필요 없음
+            log.debug("무효화할 필요 없는 액세스 토큰: {}", e.getMessage());
+        }
+    }
+
     // 토큰 형식 검사(JWT 형식검사)
     private void verifyTokenStructure(String refreshToken) {
         if (!tokenProvider.validateRefreshToken(refreshToken)) {
@@ -202,10 +229,9 @@ public class AuthService {
         }
     }
 
-    // -- Refresh 토큰 발급 헬퍼
-    private void updateStoredToken(Long identityId, String newRefreshToken, String oldRefreshToken) {
-        long ttl = tokenProvider.getRemainingMillis(oldRefreshToken);
-        tokenStoragePort.updateRefreshToken(identityId, newRefreshToken, ttl);
+    // 토큰 발급 헬퍼: 이름은 발급할 때 한번만 조회해서 토큰에 담음 (이후 요청은 토큰의 이름 사용)
+    private UserAuthInfo withDisplayName(UserAuthInfo authInfo) {
+        return authInfo.withDisplayName(userProfilePort.getUserFullName(authInfo.getUserId()));
     }
 
 
@@ -4,10 +4,12 @@ import com.gymproject.auth.application.dto.request.*;
 import com.gymproject.auth.application.dto.response.FindEmailResponse;
 import com.gymproject.auth.application.dto.response.VerifyCodeResponse;
 import com.gymproject.auth.domain.entity.Identity;
+import com.gymproject.auth.domain.vo.IdentityStatus;
 import com.gymproject.auth.exception.IdentityErrorCode;
 import com.gymproject.auth.exception.IdentityException;
 import com.gymproject.support.email.EmailMasker;
 import com.gymproject.auth.infrastructure.email.EmailVerificationManager;
+import com.gymproject.auth.infrastructure.password.PasswordHasher;
 import com.gymproject.auth.infrastructure.repository.IdentityRepository;
 import com.gymproject.auth.infrastructure.repository.OauthRepository;
 import com.gymproject.auth.infrastructure.service.RequestOAuthInfoService;
@@ -18,7 +20,6 @@ import com.gymproject.common.port.user.UserProfilePort;
 import com.gymproject.common.security.AuthProvider;
 import com.gymproject.common.security.Roles;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,7 +37,7 @@ public class IdentityService {
     private final OauthRepository oauthRepository;
 
     private final UserProfilePort userProfilePort;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher; // 해시는 전용 스레드 풀에서 (요청 스레드 보호)
     private final EmailVerificationManager emailVerificationManager;
     private final RequestOAuthInfoService requestOAuthInfoService;
 
@@ -77,7 +78,7 @@ public class IdentityService {
         // 5. 엔티티 생성
         Identity identity = Identity. signUp(
                 request.getEmail(),
-                passwordEncoder.encode(request.getPassword()),
+                passwordHasher.encode(request.getPassword()),
                 request.getProfileInfo()
         );
 
@@ -116,7 +117,7 @@ public class IdentityService {
         Identity identity = findIdentityByEmail(email);
 
         // 4. 비밀번호 변경
-        identity.changePassword(passwordEncoder.encode(request.getPassword()));
+        identity.changePassword(passwordHasher.encode(request.getPassword()));
         identityRepository.save(identity);
 
         // 5. 사용된 토큰 지우기
@@ -151,12 +152,12 @@ public class IdentityService {
         // 2. 유저 조회
         Identity identity = findById(userInfo.getUserId());
 
-        if (!passwordEncoder.matches(request.getCurrentPassword(), identity.getPassword())) {
+        if (!passwordHasher.matches(request.getCurrentPassword(), identity.getPassword())) {
             throw new IdentityException(IdentityErrorCode.PASSWORD_MISMATCH, "기존 비밀번호가 일치하지 않습니다.");
         }
 
         // 3. 비밀번호 변경
-        identity.changePassword(passwordEncoder.encode(request.getNewPassword()));
+        identity.changePassword(passwordHasher.encode(request.getNewPassword()));
         identityRepository.save(identity);
     }
 
@@ -258,7 +259,7 @@ public class IdentityService {
     }
 
     private void verifyPassword(String password, Identity identity) {
-        if (!passwordEncoder.matches(password, identity.getPassword())) {
+        if (!passwordHasher.matches(password, identity.getPassword())) {
             throw new InvalidCredentialsException("이메일 또는 비밀번호가 잘못되었습니다.");
         }
     }
@@ -275,6 +276,13 @@ public class IdentityService {
     }
 
     // --------- 다른 Service에서 사용하는 메서드
+
+    // 요청마다 확인하는 상태만 조회 (IdentityStatusInterceptor의 캐시가 없을 때 호출)
+    @Transactional(readOnly = true)
+    public IdentityStatus getIdentityStatus(Long identityId) {
+        return IdentityStatus.from(findById(identityId));
+    }
+
     @Transactional(readOnly = true)
     public Identity getActiveIdentity(Long identityId) {
         Identity identity = findById(identityId);
@@ -1,6 +1,7 @@
 package com.gymproject.auth.domain.entity;
 
 import com.gymproject.auth.domain.event.IdentityCreatedEvent;
+import com.gymproject.auth.domain.event.IdentityStatusChangedEvent;
 import com.gymproject.auth.domain.policy.IdentityPolicy;
 import com.gymproject.auth.exception.IdentityErrorCode;
 import com.gymproject.auth.exception.IdentityException;
@@ -120,6 +121,7 @@ public class Identity extends AbstractAggregateRoot<Identity> {
     public void withdraw(){
         checkUnsubscribed();
         this.unsubscribe = true;
+        registerStatusChanged();
     }
 
     // 5. 비밀번호 변경
@@ -127,18 +129,26 @@ public class Identity extends AbstractAggregateRoot<Identity> {
         checkUnsubscribed();
         validatePassword(newPassword);
         this.password = newPassword;
+        registerStatusChanged();
     }
 
     // 6.  멤버십 승급 Membership 도메인 이벤트에 의해서만 호출되어야함.
     public void promoteToMember(){
         checkUnsubscribed();
         this.role = Roles.MEMBER;
+        registerStatusChanged();
     }
 
     // 7. 멤버십 강등
     public void demoteToGuest(){
         checkUnsubscribed();
         this.role = Roles.GUEST;
+        registerStatusChanged();
+    }
+
+    // 요청마다 확인하는 상태(탈퇴, 역할, 비밀번호)가 바뀌면 캐시를 지우도록 알림
+    private void registerStatusChanged() {
+        registerEvent(new IdentityStatusChangedEvent(this.identityId));
     }
 
     // -- 검증 로직
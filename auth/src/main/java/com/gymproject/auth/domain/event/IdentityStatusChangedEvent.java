@@ -0,0 +1,14 @@
+package com.gymproject.auth.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class IdentityStatusChangedEvent {
+    private final Long identityId;
+}
+/*
+    탈퇴, 역할 변경, 비밀번호 변경처럼 요청마다 확인하는 상태가 바뀌었을 때 발생
+    커밋 후 상태 캐시(IdentityStatusCache)를 지우는 용도
+ */
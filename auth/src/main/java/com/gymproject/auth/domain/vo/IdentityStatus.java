@@ -0,0 +1,21 @@
+package com.gymproject.auth.domain.vo;
+
+import com.gymproject.auth.domain.entity.Identity;
+import com.gymproject.auth.exception.IdentityErrorCode;
+import com.gymproject.auth.exception.IdentityException;
+import com.gymproject.common.security.Roles;
+
+// 요청마다 확인하는 신원 상태(탈퇴 여부, 역할)만 담은 스냅샷
+public record IdentityStatus(Long identityId, Roles role, boolean unsubscribe) {
+
+    public static IdentityStatus from(Identity identity) {
+        return new IdentityStatus(identity.getIdentityId(), identity.getRole(), identity.isUnsubscribe());
+    }
+
+    // Identity.checkUnsubscribed()와 같은 검증
+    public void checkUnsubscribed() {
+        if (unsubscribe) {
+            throw new IdentityException(IdentityErrorCode.UNSUBSCRIBED);
+        }
+    }
+}
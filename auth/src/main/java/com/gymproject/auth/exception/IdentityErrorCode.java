@@ -38,7 +38,14 @@ public enum IdentityErrorCode {
     // 5. 권한 부족 (토큰은 유효하나 해당 API에 접근 권한이 없는 경우)
     ACCESS_DENIED("해당 리소스에 접근할 권한이 없습니다.", 403, "ACCESS_DENIED"),
     PASSWORD_SAME_AS_CURRENT("변경하는 비밀번호가 현재 비밀번호와 같을 수 없습니다.", 403 ,"PASSWORD_SAME_AS_CURRENT" ),
-    CODE_UNMATCHED("이메일 코드가 일치하지 않습니다.", 400 , "CODE_UNMATCHED"),;
+    CODE_UNMATCHED("이메일 코드가 일치하지 않습니다.", 400 , "CODE_UNMATCHED"),
+
+    // 429
+    TOO_MANY_LOGIN_ATTEMPTS("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.", 429, "TOO_MANY_LOGIN_ATTEMPTS"),
+
+    // 503
+    AUTH_BUSY("인증 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", 503, "AUTH_BUSY"),
+    TOKEN_CHECK_UNAVAILABLE("토큰 상태를 확인할 수 없습니다. 잠시 후 다시 시도해주세요.", 503, "TOKEN_CHECK_UNAVAILABLE"),;
 
     private final String message;
     private final int statusCode;
@@ -0,0 +1,103 @@
+package com.gymproject.auth.infrastructure.adapter;
+
+import com.gymproject.auth.application.port.LoginThrottlePort;
+import com.gymproject.auth.exception.IdentityErrorCode;
+import com.gymproject.auth.exception.IdentityException;
+import com.gymproject.support.redis.RateLimit;
+import com.gymproject.support.redis.RedisTool;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 로그인 시도 제한 (Redis 슬라이딩 윈도우)
+ * - 이메일별: 한 계정을 노리는 비밀번호 대입 방어 (로그인에 성공하면 초기화 -> 연속 실패만 셈)
+ * - IP별: 여러 계정을 돌아가며 시도하는 크리덴셜 스터핑 방어 (성공/실패 상관없이 요청량을 셈)
+ * - 초과한 시도는 비밀번호 해시 비교(CPU 비용)까지 가지 않고 바로 거절
+ */
+@Slf4j
+@Component
+public class RedisLoginThrottleAdapter implements LoginThrottlePort {
+
+    private static final String EMAIL_PREFIX = "LoginThrottle:email:";
+    private static final String IP_PREFIX = "LoginThrottle:ip:";
+
+    private final RedisTool redisTool;
+    private final int emailLimit;
+    private final Duration emailWindow;
+    private final int ipLimit;
+    private final Duration ipWindow;
+
+    private final Counter emailBlockedCounter;
+    private final Counter ipBlockedCounter;
+
+    public RedisLoginThrottleAdapter(RedisTool redisTool,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.login-throttle.email-limit:10}") int emailLimit,
+                                     @Value("${app.login-throttle.email-window:5m}") Duration emailWindow,
+                                     @Value("${app.login-throttle.ip-limit:50}") int ipLimit,
+                                     @Value("${app.login-throttle.ip-window:1m}") Duration ipWindow) {
+        this.redisTool = redisTool;
+        this.emailLimit = emailLimit;
+        this.emailWindow = emailWindow;
+        this.ipLimit = ipLimit;
+        this.ipWindow = ipWindow;
+
+        this.emailBlockedCounter = Counter.builder("auth.login.throttled")
+                .description("이메일별 제한 초과로 거절한 로그인 시도 수")
+                .tag("by", "email")
+                .register(meterRegistry);
+        this.ipBlockedCounter = Counter.builder("auth.login.throttled")
+                .description("IP별 제한 초과로 거절한 로그인 시도 수")
+                .tag("by", "ip")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void checkLoginAttempt(String email, String clientIp) {
+        List<RateLimit> limits = List.of(
+                new RateLimit(EMAIL_PREFIX + normalize(email), emailLimit, emailWindow),
+                new RateLimit(IP_PREFIX + clientIp, ipLimit, ipWindow)
+        );
+
+        int exceeded;
+        try {
+            exceeded = redisTool.tryAcquire(limits);
+        } catch (DataAccessException e) {
+            // Redis 장애로 로그인 자체가 막히지 않도록 제한 없이 통과 (로그만 남김)
+            log.warn("로그인 시도 제한 확인 실패, 제한 없이 진행: 이유={}", e.getMessage());
+            return;
+        }
+
+        if (exceeded == 0) {
+            emailBlockedCounter.increment();
+            throw new IdentityException(IdentityErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+        if (exceeded == 1) {
+            ipBlockedCounter.increment();
+            throw new IdentityException(IdentityErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+    }
+
+    @Override
+    public void resetEmailAttempts(String email) {
+        try {
+            redisTool.deleteValues(EMAIL_PREFIX + normalize(email));
+        } catch (DataAccessException e) {
+            // 초기화에 실패해도 로그인은 성공 처리 (기록은 window 뒤에 풀림)
+            log.warn("로그인 시도 기록 초기화 실패: 이유={}", e.getMessage());
+        }
+    }
+
+    // 대소문자/공백만 다른 이메일로 제한을 피하지 못하게 함
+    private static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
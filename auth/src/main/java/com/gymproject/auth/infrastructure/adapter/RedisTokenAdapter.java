@@ -16,14 +16,15 @@ public class RedisTokenAdapter implements TokenStoragePort {
     private final RedisTool redisTool;
     private static final String RT_PREFIX = "RT:";
 
-    // 1. 토큰 검증
+    // 1. 토큰 검증 + 교체 (Redis 왕복 한번)
+    // 동시에 같은 토큰으로 재발급을 요청해도 하나만 성공함
     @Override
-    public void verifyTokenMatch(Long userId, String requestToken) {
+    public void rotateRefreshToken(Long userId, String requestToken, String newToken, long ttlMillis) {
         String key = RT_PREFIX + userId;
-        String savedToken = redisTool.getValues(key);
+        boolean rotated = redisTool.compareAndSet(key, requestToken, newToken, Duration.ofMillis(ttlMillis));
 
         // 토큰이 없거나, 클라이언트가 보낸 것과 다르면 탈취 의심
-        if (savedToken == null || !savedToken.equals(requestToken)) {
+        if (!rotated) {
             throw new IdentityException(IdentityErrorCode.TOKEN_STOLEN);
         }
     }
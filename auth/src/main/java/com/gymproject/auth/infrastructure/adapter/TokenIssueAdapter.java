@@ -0,0 +1,52 @@
+package com.gymproject.auth.infrastructure.adapter;
+
+import com.gymproject.auth.application.port.AccessTokenDenylistPort;
+import com.gymproject.auth.infrastructure.jwt.TokenProvider;
+import com.gymproject.auth.infrastructure.jwt.VerifiedToken;
+import com.gymproject.common.dto.auth.UserAuthInfo;
+import com.gymproject.common.port.auth.TokenIssuePort;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenIssueAdapter implements TokenIssuePort {
+
+    private final TokenProvider tokenProvider;
+    private final AccessTokenDenylistPort accessTokenDenylistPort;
+
+    // 리프레시 토큰은 그대로 두고 액세스 토큰만 새로 발급
+    @Override
+    public String reissueAccessToken(UserAuthInfo userAuthInfo, String currentAccessToken) {
+        // 1. 바뀐 정보로 새 토큰 발급
+        String reissued = tokenProvider.createAccessToken(
+                userAuthInfo.getEmail(),
+                userAuthInfo.getRole().name(),
+                userAuthInfo.getUserId(),
+                userAuthInfo.getDisplayName()
+        );
+
+        // 2. 예전 정보가 담긴 기존 토큰은 만료 전까지 사용 못하게 무효화
+        revoke(currentAccessToken);
+        return reissued;
+    }
+
+    // ============ 헬퍼
+
+    // AuthService.revokeAccessToken과 같은 처리 (AuthService는 사용자 모듈에 의존하므로 여기서 직접 처리)
+    private void revoke(String bearerToken) {
+        if (bearerToken == null) return;
+
+        String accessToken = bearerToken.startsWith("Bearer ") ? bearerToken.substring(7) : bearerToken;
+        try {
+            VerifiedToken verified = tokenProvider.verifyAccessToken(accessToken);
+            accessTokenDenylistPort.revoke(verified.jti(), verified.expiresAtMillis());
+        } catch (JwtException | IllegalArgumentException e) {
+            // 이미 만료됐거나 위조된 토큰은 막을 필요 없음
+            log.debug("무효화할 필요 없는 액세스 토큰: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.gymproject.auth.infrastructure.cache;
+
+import com.gymproject.auth.domain.vo.IdentityStatus;
+import com.gymproject.common.security.Roles;
+import com.gymproject.support.cache.CacheEvictionBus;
+import com.gymproject.support.cache.TwoLevelCache;
+import com.gymproject.support.redis.RedisTool;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 신원 상태(탈퇴 여부, 역할) 캐시
+ * - 서버 메모리 -> Redis(app.identity-cache.redis-enabled=true 일 때만) -> DB 순서 (TwoLevelCache)
+ * - 탈퇴/역할 변경/비밀번호 변경이 커밋되면 IdentityStatusChangedEvent로 바로 지움
+ * - Redis를 쓰면 무효화를 CacheEvictionBus 채널로 발행해서 다른 서버의 메모리 캐시도 지움
+ */
+@Component
+public class IdentityStatusCache {
+
+    private static final int MAX_ENTRIES = 50_000;
+
+    private final TwoLevelCache<IdentityStatus> cache;
+
+    public IdentityStatusCache(RedisTool redisTool,
+                               CacheEvictionBus evictionBus,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.identity-cache.local-ttl:30s}") Duration localTtl,
+                               @Value("${app.identity-cache.redis-ttl:10m}") Duration redisTtl,
+                               @Value("${app.identity-cache.redis-enabled:false}") boolean redisEnabled) {
+        this.cache = new TwoLevelCache<>(
+                "IDENTITY_STATUS",
+                "identity.status.cache",
+                new TwoLevelCache.Settings(localTtl, MAX_ENTRIES, redisTtl, redisEnabled),
+                new TwoLevelCache.Codec<>() {
+                    // Redis 값: "<역할>:<탈퇴 여부>"
+                    @Override
+                    public String encode(IdentityStatus status) {
+                        return status.role().name() + ":" + status.unsubscribe();
+                    }
+
+                    @Override
+                    public IdentityStatus decode(Long identityId, String value) {
+                        String[] parts = value.split(":");
+                        return new IdentityStatus(identityId, Roles.valueOf(parts[0]), Boolean.parseBoolean(parts[1]));
+                    }
+                },
+                redisTool,
+                evictionBus,
+                meterRegistry);
+    }
+
+    // 1] 조회: 메모리 -> Redis -> DB(loader) 순서
+    public IdentityStatus get(Long identityId, Function<Long, IdentityStatus> loader) {
+        return cache.get(identityId, loader);
+    }
+
+    // 2] 무효화: 메모리 -> Redis 삭제 -> 다른 서버에 알림
+    public void evict(Long identityId) {
+        cache.evict(identityId);
+    }
+}
@@ -2,17 +2,15 @@ package com.gymproject.auth.infrastructure.email;
 
 import com.gymproject.auth.exception.IdentityErrorCode;
 import com.gymproject.auth.exception.IdentityException;
-import com.gymproject.support.email.EmailTool;
+import com.gymproject.support.email.MailOutbox;
 import com.gymproject.support.redis.RedisTool;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.time.Duration;
-import java.util.Random;
 import java.util.UUID;
 
 /**[중요]
@@ -28,7 +26,7 @@ import java.util.UUID;
 public class EmailVerificationManager {
 
     private final RedisTool redisTool;
-    private final EmailTool emailTool;
+    private final MailOutbox mailOutbox;
 
     private static final SecureRandom SECURE_RANDOM = new SecureRandom(); // 난수생성기 하나로만 사용
     private static final String AUTH_CODE_PREFIX = "AuthCode:";
@@ -53,8 +51,8 @@ public class EmailVerificationManager {
                 Duration.ofMillis(authCodeExpirationMillis)
         );
 
-        // 실제 메일 발송
-        emailTool.sendMail(email, title, authCode);
+        // 메일은 아웃박스에 넣기만 하고 바로 반환 (SMTP 발송은 MailOutboxDispatcher가 백그라운드에서)
+        mailOutbox.enqueue(email, title, authCode);
     }
 
     // 2. 인증 코드 검증 (6자리 숫자 비교)
@@ -72,15 +70,11 @@ public class EmailVerificationManager {
             throw new IdentityException(IdentityErrorCode.CODE_UNMATCHED);
         }
 
-        // 인증 성공 시 "VerifiedEmail" 마킹 (가입할 때 확인용)
-        redisTool.setValues(
-                VERIFIED_EMAIL_PREFIX + email,
-                "true",
-                Duration.ofMinutes(30) // 30분 내에 가입해야 함
-        );
-
-        // 사용한 인증 코드는 삭제
-        redisTool.deleteValues(AUTH_CODE_PREFIX + email);
+        // 인증 성공 시 "VerifiedEmail" 마킹 (가입할 때 확인용) + 사용한 인증 코드는 삭제
+        // 두 명령을 MULTI/EXEC로 한번에 전송 (왕복 한번, 둘 중 하나만 반영되는 일 없음)
+        redisTool.executeInTransaction(batch -> batch
+                .set(VERIFIED_EMAIL_PREFIX + email, "true", Duration.ofMinutes(30)) // 30분 내에 가입해야 함
+                .delete(AUTH_CODE_PREFIX + email));
     }
 
     // 3. 리셋 토큰 생성 및 저장
@@ -89,13 +83,10 @@ public class EmailVerificationManager {
         String resetToken = UUID.randomUUID().toString();
 
         // Redis에 저장(Key: 토큰, Value: 이메일 ) -> 토큰만 알면 이메일 알 수 있음
-        redisTool.setValues(
-                RESET_TOKEN_PREFIX + resetToken,
-                email,
-                Duration.ofMillis(RESET_TOKEN_VALIDITY_MS));
-
-        // 리셋 토큰 발급되면 인증 코드는 삭제
-        redisTool.deleteValues(AUTH_CODE_PREFIX + email);
+        // 리셋 토큰 발급되면 인증 코드는 삭제 (저장과 삭제를 한번에 전송)
+        redisTool.executeInTransaction(batch -> batch
+                .set(RESET_TOKEN_PREFIX + resetToken, email, Duration.ofMillis(RESET_TOKEN_VALIDITY_MS))
+                .delete(AUTH_CODE_PREFIX + email));
         return resetToken;
     }
 
@@ -127,19 +118,11 @@ public class EmailVerificationManager {
         redisTool.deleteValues(VERIFIED_EMAIL_PREFIX + email);
     }
 
-    // 난수 생성
+    // 난수 생성 (6자리, 앞자리 0 포함)
+    // getInstanceStrong()은 호출마다 새 생성기를 만들고, 리눅스에서는 엔트로피가 부족하면 블로킹됨
+    // -> 공유 SecureRandom(스레드 안전) 하나로 충분
     private static String createCode() {
-        try {
-            Random random = SECURE_RANDOM.getInstanceStrong();
-            StringBuilder builder = new StringBuilder();
-            for (int i = 0; i < 6; i++) {
-                builder.append(random.nextInt(10));
-            }
-            return builder.toString();
-        } catch (NoSuchAlgorithmException e) {
-            // 서버 환경 문제이므로 RuntimeException 처리
-            throw new RuntimeException("SecureRandom 알고리즘을 찾을 수 없습니다.", e);
-        }
+        return String.format("%06d", SECURE_RANDOM.nextInt(1_000_000));
     }
 
 }
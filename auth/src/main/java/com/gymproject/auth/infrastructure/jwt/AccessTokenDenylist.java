@@ -0,0 +1,141 @@
+package com.gymproject.auth.infrastructure.jwt;
+
+import com.gymproject.auth.application.port.AccessTokenDenylistPort;
+import com.gymproject.auth.exception.IdentityErrorCode;
+import com.gymproject.auth.exception.IdentityException;
+import com.gymproject.support.redis.RedisTool;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 액세스 토큰 무효화 목록 (jti 기준)
+ * - Redis: DeniedToken:{jti} (토큰 만료까지 TTL, 최종 판단용) + DeniedTokens (jti -> 무효화 시각, 서버 간 동기화용)
+ * - 서버 메모리: 블룸 필터. 요청마다 필터만 보고, "있을 수도 있음"일 때만 Redis 확인
+ *   -> 무효화되지 않은 대부분의 요청은 네트워크 요청 없이 통과
+ * - 다른 서버의 무효화는 동기화 주기(기본 1초)만큼 늦게 반영됨
+ * - Redis 장애 시: 필터가 "확실히 없음"이면 통과, Redis 확인이 필요한 토큰은 503으로 거절 (무효화된 토큰일 수 있음)
+ */
+@Slf4j
+@Component
+public class AccessTokenDenylist implements AccessTokenDenylistPort {
+
+    private static final String TOKEN_PREFIX = "DeniedToken:";
+    private static final String LOG_KEY = "DeniedTokens";
+    private static final double FPP = 0.01;
+    // 서버 간 시계 차이로 동기화에서 빠지는 항목이 없도록 겹쳐서 읽는 구간
+    private static final long SYNC_OVERLAP_MILLIS = 5_000;
+    // 만료된 jti를 필터에서 빼기 위해 주기적으로 새로 만듦
+    private static final long REBUILD_INTERVAL_MILLIS = Duration.ofMinutes(10).toMillis();
+
+    private final RedisTool redisTool;
+    private final int expectedInsertions;
+    private final long maxTokenLifetimeMillis;
+
+    private volatile BloomFilter filter;
+    private volatile boolean ready; // 첫 동기화 전에는 필터를 믿을 수 없어서 Redis로 확인
+    private volatile long lastSyncedAt;
+    private volatile long lastRebuiltAt;
+
+    private final Counter filterPassCounter;
+    private final Counter redisCheckCounter;
+    private final Counter revokedHitCounter;
+
+    public AccessTokenDenylist(RedisTool redisTool,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.token-denylist.expected-insertions:100000}") int expectedInsertions,
+                               @Value("${jwt.expiration-hours}") long accessExpirationHours) {
+        this.redisTool = redisTool;
+        this.expectedInsertions = expectedInsertions;
+        this.maxTokenLifetimeMillis = Duration.ofHours(accessExpirationHours).toMillis();
+        this.filter = new BloomFilter(expectedInsertions, FPP);
+
+        this.filterPassCounter = Counter.builder("jwt.denylist.check")
+                .description("블룸 필터만으로 통과시킨 요청 수 (네트워크 요청 없음)")
+                .tag("result", "filter")
+                .register(meterRegistry);
+        this.redisCheckCounter = Counter.builder("jwt.denylist.check")
+                .description("블룸 필터에 걸려서 Redis로 확인한 요청 수")
+                .tag("result", "redis")
+                .register(meterRegistry);
+        this.revokedHitCounter = Counter.builder("jwt.denylist.revoked")
+                .description("무효화된 토큰으로 들어와서 거절한 요청 수")
+                .register(meterRegistry);
+    }
+
+    // 1] 무효화 (Redis에 기록 + 이 서버의 필터에 바로 반영)
+    @Override
+    public void revoke(String jti, long expiresAtMillis) {
+        long now = System.currentTimeMillis();
+        long ttl = expiresAtMillis - now;
+        if (jti == null || ttl <= 0) return; // 이미 만료된 토큰은 막을 필요 없음
+
+        redisTool.executeInTransaction(batch -> batch
+                .set(TOKEN_PREFIX + jti, "1", Duration.ofMillis(ttl))
+                .addToSortedSet(LOG_KEY, jti, now));
+        filter.add(jti);
+    }
+
+    // 2] 무효화 여부 확인 (JwtAuthFilter에서 매 요청), Redis 확인이 필요한데 실패하면 IdentityException(503)
+    public boolean isRevoked(String jti) {
+        if (jti == null) return false; // jti가 없는 예전 토큰
+
+        if (ready && !filter.mightContain(jti)) {
+            filterPassCounter.increment();
+            return false;
+        }
+
+        redisCheckCounter.increment();
+        try {
+            boolean revoked = redisTool.hasKey(TOKEN_PREFIX + jti);
+            if (revoked) revokedHitCounter.increment();
+            return revoked;
+        } catch (DataAccessException e) {
+            // [중요] 여기까지 왔으면 필터가 "있을 수도 있음"이거나 첫 동기화 전이라 무효화된 토큰일 수 있음
+            // 로그아웃한 토큰이 통과하지 않도록 거절 (토큰 문제가 아니므로 401 대신 503으로 재시도 유도)
+            log.warn("토큰 무효화 여부 확인 실패, 거절 처리: 이유={}", e.getMessage());
+            throw new IdentityException(IdentityErrorCode.TOKEN_CHECK_UNAVAILABLE);
+        }
+    }
+
+    // 3] Redis -> 필터 동기화 (새로 추가된 것만 읽고, 10분마다 새로 만들어서 만료된 jti 제거)
+    @Scheduled(fixedDelayString = "${app.token-denylist.sync-interval-millis:1000}")
+    public void sync() {
+        long now = System.currentTimeMillis();
+        try {
+            if (!ready || now - lastRebuiltAt >= REBUILD_INTERVAL_MILLIS) {
+                rebuild(now);
+            } else {
+                Map<String, Double> added = redisTool.rangeByScore(LOG_KEY, lastSyncedAt - SYNC_OVERLAP_MILLIS, Double.POSITIVE_INFINITY);
+                added.keySet().forEach(filter::add);
+                lastSyncedAt = now;
+            }
+        } catch (DataAccessException e) {
+            log.warn("토큰 무효화 목록 동기화 실패, 다음 주기에 재시도: 이유={}", e.getMessage());
+        }
+    }
+
+    // ============ 헬퍼
+
+    private void rebuild(long now) {
+        // 액세스 토큰 수명보다 오래된 무효화 기록은 토큰도 이미 만료됐으므로 삭제
+        redisTool.removeRangeByScore(LOG_KEY, Double.NEGATIVE_INFINITY, now - maxTokenLifetimeMillis);
+
+        BloomFilter rebuilt = new BloomFilter(expectedInsertions, FPP);
+        redisTool.rangeByScore(LOG_KEY, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY)
+                .keySet()
+                .forEach(rebuilt::add);
+
+        filter = rebuilt;
+        lastSyncedAt = now;
+        lastRebuiltAt = now;
+        ready = true;
+    }
+}
@@ -1,5 +1,6 @@
 package com.gymproject.auth.infrastructure.jwt;
 
+import com.gymproject.auth.exception.IdentityException;
 import com.gymproject.common.dto.auth.UserAuthInfo;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
@@ -11,51 +12,52 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 
 @RequiredArgsConstructor
 @Component
 public class JwtAuthFilter extends OncePerRequestFilter {
 
    private final TokenProvider tokenProvider;
+   private final VerifiedTokenCache verifiedTokenCache;
+   private final AccessTokenDenylist accessTokenDenylist;
 
    private static final Logger log = LoggerFactory.getLogger(JwtAuthFilter.class);
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
-        // [디버깅 1] 요청 URL과 헤더 확인
-        String requestURI = request.getRequestURI();
-        String header = request.getHeader("Authorization");
-        System.out.println(">>> 요청 URL: " + requestURI);
-        System.out.println(">>> 헤더 값(Authorization): " + header); // 여기가 null이면 포스트맨 문제!
-
         String token = parseBearerToken(request);
 
         try{
             if(token != null){
-                UserAuthInfo userInfo = tokenProvider.validateAndGetUserAuthInfo(token);
+                // 같은 토큰은 만료될 때까지 서명 검증 결과를 재사용
+                VerifiedToken verified = verifiedTokenCache.getOrVerify(token, tokenProvider::verifyAccessToken);
+
+                // 로그아웃 등으로 무효화된 토큰인지 확인 (캐시에 있던 토큰도 매번 확인)
+                if (accessTokenDenylist.isRevoked(verified.jti())) {
+                    log.warn("Revoked JWT token: userId={}", verified.userInfo().getUserId());
+                    request.setAttribute("exception", "INVALID_TOKEN");
+                    filterChain.doFilter(request, response);
+                    return;
+                }
+
+                UserAuthInfo userInfo = verified.userInfo();
                 log.debug("Authenticated user: {}, Role: {}", userInfo.getEmail(), userInfo.getRole());
-                System.out.println("userInfo: "+userInfo);
-
-                List<SimpleGrantedAuthority> authorityList = new ArrayList<>();
-                authorityList.add(new SimpleGrantedAuthority("ROLE_"+userInfo.getRole().name()));
 
                 // SecurityContext에 인증정보를 넣음.
-                UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(userInfo, null, authorityList);
+                UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(userInfo, null, verified.authorities());
                 SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
-
-                System.out.println(">>> 토큰 검증 성공 & SecurityContext 저장 완료");
             }else{
-                System.out.println(">>> 토큰이 null이라서 인증 로직 건너뜀");
+                log.debug("토큰이 없어서 인증 로직 건너뜀: {}", request.getRequestURI());
             }
+        } catch (IdentityException e) {
+            log.warn("JWT denylist check failed: {}", e.getMessage()); // 무효화 여부를 확인할 수 없음 (Redis 장애)
+            request.setAttribute("exception", "TOKEN_CHECK_UNAVAILABLE");
         } catch (ExpiredJwtException e) {
             log.warn("Expired JWT token: {}", e.getMessage()); // 토큰 만료
             request.setAttribute("exception", "EXPIRED_TOKEN");
@@ -1,6 +1,7 @@
 package com.gymproject.auth.infrastructure.jwt;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gymproject.auth.exception.IdentityErrorCode;
 import com.gymproject.common.dto.exception.CommonResDto;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,6 +26,7 @@ public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
     public void commence(HttpServletRequest request, HttpServletResponse response, AuthenticationException authException) throws IOException, ServletException {
         // 1. Filter에서 달아놓은 꼬리표 확인
         String exceptionCode = (String) request.getAttribute("exception");
+        int status = HttpServletResponse.SC_UNAUTHORIZED;
         String errorCode = "UNAUTHORIZED";
         String message = "Security 설정이 필요합니다.";
 
@@ -34,18 +36,23 @@ public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
         } else if ("INVALID_TOKEN".equals(exceptionCode)) {
             errorCode = "TOKEN_INVALID";
             message = "유효하지 않은 토큰입니다.";
+        } else if ("TOKEN_CHECK_UNAVAILABLE".equals(exceptionCode)) {
+            // 토큰 자체는 문제가 없을 수 있으므로 재로그인 대신 재시도하도록 503
+            status = IdentityErrorCode.TOKEN_CHECK_UNAVAILABLE.getStatusCode();
+            errorCode = IdentityErrorCode.TOKEN_CHECK_UNAVAILABLE.getErrorCode();
+            message = IdentityErrorCode.TOKEN_CHECK_UNAVAILABLE.getMessage();
         }
 
         log.warn("인증 실패 - Code: {}, Message: {}", errorCode, message);
 
         CommonResDto<?> commonResDto
                 = CommonResDto.error(
-                401,
+                status,
                 errorCode,
                 message);
 
 
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setStatus(status);
         response.setContentType("application/json;charset=UTF-8");
 
         objectMapper.writeValue(response.getWriter(), commonResDto);
@@ -18,6 +18,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class TokenProvider {
@@ -34,6 +35,8 @@ public class TokenProvider {
     private final JwtParser accessParser;
     private final JwtParser refreshParser;
 
+    private static final String CLAIM_NAME = "name";
+
     private static final Logger log = LoggerFactory.getLogger(TokenProvider.class);
 
     public TokenProvider(
@@ -69,7 +72,7 @@ public class TokenProvider {
         String email = userAuthInfo.getEmail();
         String role = userAuthInfo.getRole().name();
 
-        String accessToken = createAccessToken(email, role, userId);
+        String accessToken = createAccessToken(email, role, userId, userAuthInfo.getDisplayName());
         String refreshToken = createRefreshToken(userId);
 
         // 고정된 리프레시 토큰 만료시간 ( AuthService에게 전달할 정보임)
@@ -83,7 +86,8 @@ public class TokenProvider {
         // 기존 토큰의 만료일을 그대로 사용하여 수명 유지
         Date oldExp = getExpirationRefreshToken(oldRefreshToken);
 
-        String newAccessToken = createAccessToken(authInfo.getEmail(), authInfo.getRole().name(), authInfo.getUserId());
+        String newAccessToken = createAccessToken(authInfo.getEmail(), authInfo.getRole().name(),
+                authInfo.getUserId(), authInfo.getDisplayName());
         String newRefreshToken = createRefreshTokenWithExpiration(authInfo.getUserId(), oldExp);
 
         // 남은 수명 계산(3초 방어 포함)
@@ -96,11 +100,17 @@ public class TokenProvider {
     // -------------------- 헬퍼
 
     // ACCESS TOKEN 생성
-    public String createAccessToken(String email, String role, Long userId) {
+    /*
+        [중요] 자주 안 바뀌는 신원 정보(이메일, 역할, 표시 이름)는 클레임에 담음
+        - 요청마다 이름을 DB에서 조회하지 않고 토큰에서 바로 Modifier를 만들 수 있음
+        - 이름이 바뀌면 프로필 수정 응답으로 액세스 토큰을 다시 발급함 (TokenIssuePort)
+     */
+    public String createAccessToken(String email, String role, Long userId, String displayName) {
         Claims claims = Jwts.claims()
                 .subject(email)
                 .add("role", role)
                 .add("userId", userId)
+                .add(CLAIM_NAME, displayName)
                 .build();
 
         Instant now = Instant.now(); // 불변객체, 정밀성 좋음, 시간연산도 가독성 좋음, 현대표준
@@ -108,6 +118,7 @@ public class TokenProvider {
         String token = Jwts.builder()
                 .signWith(this.accessKey, Jwts.SIG.HS512)
                 .claims(claims)
+                .id(UUID.randomUUID().toString()) // jti: 로그아웃 시 이 토큰만 무효화하기 위함
                 .issuedAt(Date.from(now))
                 .issuer(issuer)
                 .expiration(Date.from(now.plus(accessExpiration, ChronoUnit.HOURS)))
@@ -129,6 +140,7 @@ public class TokenProvider {
         return Jwts.builder()
                 .signWith(this.refreshKey, Jwts.SIG.HS512)
                 .claims(claims)
+                .id(UUID.randomUUID().toString()) // jti: 같은 초에 재발급해도 이전 토큰과 달라야 회전(rotation) 비교가 됨
                 .issuedAt(Date.from(now))
                 .issuer(issuer)
                 .expiration(Date.from(now.plus(refreshExpiration, ChronoUnit.HOURS)))
@@ -146,6 +158,7 @@ public class TokenProvider {
         return Jwts.builder()
                 .signWith(this.refreshKey, Jwts.SIG.HS512)
                 .claims(claims)
+                .id(UUID.randomUUID().toString()) // jti: 같은 초에 재발급해도 이전 토큰과 달라야 회전(rotation) 비교가 됨
                 .issuedAt(Date.from(now))
                 .issuer(issuer)
                 .expiration(expiration)
@@ -157,13 +170,22 @@ public class TokenProvider {
 
         Claims claims = accessParser.parseSignedClaims(token).getPayload();
 
-        UserAuthInfo info = UserAuthInfo.builder()
+        return toUserAuthInfo(claims);
+    }
+
+    // 3-1) ACCESS TOKEN 검증 + 만료 시각까지 반환 (JwtAuthFilter의 검증 캐시용)
+    public VerifiedToken verifyAccessToken(String token) {
+        Claims claims = accessParser.parseSignedClaims(token).getPayload();
+        return VerifiedToken.of(toUserAuthInfo(claims), claims.getId(), claims.getExpiration());
+    }
+
+    private UserAuthInfo toUserAuthInfo(Claims claims) {
+        return UserAuthInfo.builder()
                 .email(claims.getSubject())
                 .userId(claims.get("userId", Long.class))
                 .role(Roles.valueOf(claims.get("role", String.class)))
+                .displayName(claims.get(CLAIM_NAME, String.class)) // 예전 토큰이면 null
                 .build();
-
-        return info;
     }
 
     // 4) REFRESH TOKEN 검증
@@ -0,0 +1,26 @@
+package com.gymproject.auth.infrastructure.jwt;
+
+import com.gymproject.common.dto.auth.UserAuthInfo;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Date;
+import java.util.List;
+
+// 서명 검증이 끝난 Access Token의 인증 정보 (SecurityContext에 바로 넣을 수 있는 형태)
+// jti: 토큰 고유 ID (무효화 목록 확인용, jti가 없는 예전 토큰이면 null)
+public record VerifiedToken(UserAuthInfo userInfo, List<GrantedAuthority> authorities, String jti, long expiresAtMillis) {
+
+    public static VerifiedToken of(UserAuthInfo userInfo, String jti, Date expiration) {
+        return new VerifiedToken(
+                userInfo,
+                List.of(new SimpleGrantedAuthority("ROLE_" + userInfo.getRole().name())),
+                jti,
+                expiration.getTime()
+        );
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
@@ -0,0 +1,87 @@
+package com.gymproject.auth.infrastructure.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 서명 검증이 끝난 Access Token 캐시
+ * - 같은 토큰을 만료(최대 jwt.expiration-hours)까지 계속 쓰므로, 요청마다 JSON 파싱 + HS512 서명 계산을 반복하지 않음
+ * - 키는 토큰 원문이 아니라 SHA-256 값 (메모리에 토큰을 들고 있지 않기 위함)
+ * - 항목은 토큰 자체의 exp에 만료됨. 검증에 실패한 토큰은 저장하지 않음
+ * - 최대 개수를 넘으면 가장 오래 안 쓴 토큰부터 버림 (LRU, 저장은 항상 O(1))
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    });
+
+    // 접근 순서 LinkedHashMap: 가득 차면 가장 오래 안 쓴 토큰부터 버림
+    // 만료된 토큰은 다시 조회될 때 지우고, 조회되지 않으면 LRU로 밀려남
+    private final Map<String, VerifiedToken> tokens;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public VerifiedTokenCache(MeterRegistry meterRegistry,
+                              @Value("${jwt.verified-cache.max-entries:10000}") int maxEntries) {
+        this.tokens = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > maxEntries;
+            }
+        });
+        this.hitCounter = Counter.builder("jwt.verify.cache")
+                .description("서명 검증 없이 캐시로 인증한 횟수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("jwt.verify.cache")
+                .description("서명을 검증한 횟수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        meterRegistry.gauge("jwt.verify.cache.size", tokens, Map::size);
+    }
+
+    // 캐시에 있으면 바로 반환, 없거나 만료됐으면 verifier로 검증 후 저장 (검증 예외는 그대로 던짐)
+    public VerifiedToken getOrVerify(String token, Function<String, VerifiedToken> verifier) {
+        String key = digest(token);
+        long now = System.currentTimeMillis();
+
+        VerifiedToken cached = tokens.get(key);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                hitCounter.increment();
+                return cached;
+            }
+            tokens.remove(key, cached);
+        }
+
+        missCounter.increment();
+        VerifiedToken verified = verifier.apply(token);
+        tokens.put(key, verified);
+        return verified;
+    }
+
+    // ============ 헬퍼
+
+    private static String digest(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(hash);
+    }
+}
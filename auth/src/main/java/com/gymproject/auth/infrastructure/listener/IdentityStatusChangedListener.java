@@ -0,0 +1,21 @@
+package com.gymproject.auth.infrastructure.listener;
+
+import com.gymproject.auth.domain.event.IdentityStatusChangedEvent;
+import com.gymproject.auth.infrastructure.cache.IdentityStatusCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class IdentityStatusChangedListener {
+
+    private final IdentityStatusCache identityStatusCache;
+
+    // 커밋 후에 지워야 다른 요청이 커밋 전 값을 다시 캐시에 넣지 않음
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(IdentityStatusChangedEvent event) {
+        identityStatusCache.evict(event.getIdentityId());
+    }
+}
@@ -0,0 +1,133 @@
+package com.gymproject.auth.infrastructure.password;
+
+import com.gymproject.auth.exception.IdentityErrorCode;
+import com.gymproject.auth.exception.IdentityException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시 전용 스레드 풀 (bulkhead)
+ * - BCrypt 해시/비교는 CPU를 많이 써서, 요청 스레드에서 바로 돌리면 몰릴 때 다른 API(예약 등)까지 느려짐
+ * - 동시에 해시하는 개수를 스레드 수로 제한하고, 대기열이 가득 차거나 오래 기다리면 바로 실패(503)
+ * - 인증이 몰려도 인증 API만 느려지거나 거절되고 나머지 API는 영향 없음
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration maxWait;
+
+    private final Timer queueTimer;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.password-hash.threads:0}") int threads,
+                          @Value("${app.password-hash.queue-capacity:100}") int queueCapacity,
+                          @Value("${app.password-hash.max-wait:3s}") Duration maxWait) {
+        this.passwordEncoder = passwordEncoder;
+        this.maxWait = maxWait;
+
+        // 0이면 CPU 코어의 절반 (나머지 절반은 다른 API 몫)
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-hash-");
+        threadFactory.setDaemon(true);
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy() // 대기열이 가득 차면 RejectedExecutionException
+        );
+
+        this.queueTimer = Timer.builder("auth.password.hash.queue")
+                .description("해시 작업이 대기열에서 기다린 시간")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("auth.password.hash")
+                .description("비밀번호 해시 시간")
+                .tag("op", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hash")
+                .description("비밀번호 비교 시간")
+                .tag("op", "matches")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.hash.rejected")
+                .description("대기열이 가득 차거나 대기 시간 초과로 거절한 횟수")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.queue.size", executor, e -> e.getQueue().size())
+                .description("해시 대기 중인 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("해시 중인 작업 수")
+                .register(meterRegistry);
+    }
+
+    public String encode(String rawPassword) {
+        return execute(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // ============ 헬퍼
+
+    private <T> T execute(Timer timer, Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+
+        // 1. 대기열에 넣기 (가득 차면 바로 거절)
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return timer.record(task);
+            });
+        } catch (RejectedExecutionException e) {
+            throw busy("대기열 가득 참");
+        }
+
+        // 2. 결과 대기 (너무 오래 걸리면 취소하고 거절)
+        try {
+            return future.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw busy("대기 시간 초과");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw busy("인터럽트");
+        } catch (ExecutionException e) {
+            // 해시 자체의 예외는 그대로 전달
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private IdentityException busy(String reason) {
+        rejectedCounter.increment();
+        log.warn("비밀번호 해시 거절: 이유={}, 대기={}건, 처리중={}건",
+                reason, executor.getQueue().size(), executor.getActiveCount());
+        return new IdentityException(IdentityErrorCode.AUTH_BUSY);
+    }
+}
@@ -1,9 +1,10 @@
 package com.gymproject.auth.infrastructure.web;
 
 import com.gymproject.auth.application.service.IdentityService;
-import com.gymproject.auth.domain.entity.Identity;
+import com.gymproject.auth.domain.vo.IdentityStatus;
 import com.gymproject.auth.exception.IdentityErrorCode;
 import com.gymproject.auth.exception.IdentityException;
+import com.gymproject.auth.infrastructure.cache.IdentityStatusCache;
 import com.gymproject.common.dto.auth.UserAuthInfo;
 import com.gymproject.common.security.MemberOnly;
 import com.gymproject.common.security.Roles;
@@ -22,6 +23,7 @@ import org.springframework.web.servlet.HandlerInterceptor;
 public class IdentityStatusInterceptor implements HandlerInterceptor {
 
     private final IdentityService identityService;
+    private final IdentityStatusCache identityStatusCache;
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
@@ -34,8 +36,9 @@ public class IdentityStatusInterceptor implements HandlerInterceptor {
             return true;
         }
 
-        // 2. 실시간 DB 조회 및 탈퇴 여부 확인
-        Identity identity = identityService.findById(userAuthInfo.getUserId());
+        // 2. 탈퇴 여부 확인 (캐시 우선, 없으면 DB 조회)
+        // 탈퇴/역할 변경은 커밋 직후 캐시에서 지워지므로 바로 반영됨
+        IdentityStatus identity = identityStatusCache.get(userAuthInfo.getUserId(), identityService::getIdentityStatus);
         identity.checkUnsubscribed();
 
         // 3. 역할 (ROLE) 검증
@@ -52,8 +55,8 @@ public class IdentityStatusInterceptor implements HandlerInterceptor {
     }
 
 
-    private void validateRole(Identity identity, Roles role){
-        if(identity.getRole() != role){
+    private void validateRole(IdentityStatus identity, Roles role){
+        if(identity.role() != role){
             throw new IdentityException(IdentityErrorCode.NOT_AUTHORITY);
         }
     }
@@ -1,6 +1,7 @@
 package com.gymproject.auth.domain.entity;
 
 import com.gymproject.auth.domain.event.IdentityCreatedEvent;
+import com.gymproject.auth.domain.event.IdentityStatusChangedEvent;
 import com.gymproject.auth.exception.IdentityErrorCode;
 import com.gymproject.auth.exception.IdentityException;
 import com.gymproject.auth.util.DomainEventsTestUtils;
@@ -107,16 +108,20 @@ class IdentityTest {
     }
 
     @Test
-    @DisplayName("회원 탈퇴 시 unsubscribe 상태가 true로 변경되어야 한다.")
+    @DisplayName("회원 탈퇴 시 unsubscribe 상태가 true로 변경되고, 상태 변경 이벤트가 발행되어야 한다.")
     void withdraw_success() {
         // given
         Identity identity = Identity.signUp("test@test.com", "pw", TEST_PROFILE);
+        DomainEventsTestUtils.clearEvents(identity);
 
         // when
         identity.withdraw();
 
         // then
         assertThat(identity.isUnsubscribe()).isTrue();
+        assertThat(DomainEventsTestUtils.getEvents(identity))
+                .singleElement()
+                .isInstanceOf(IdentityStatusChangedEvent.class);
     }
 
     @Test
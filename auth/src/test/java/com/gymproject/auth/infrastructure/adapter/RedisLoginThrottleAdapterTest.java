@@ -0,0 +1,93 @@
+package com.gymproject.auth.infrastructure.adapter;
+
+import com.gymproject.auth.exception.IdentityException;
+import com.gymproject.support.redis.RateLimit;
+import com.gymproject.support.redis.RedisTool;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class RedisLoginThrottleAdapterTest {
+
+    private final RedisTool redisTool = Mockito.mock(RedisTool.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RedisLoginThrottleAdapter throttle = new RedisLoginThrottleAdapter(
+            redisTool, meterRegistry, 10, Duration.ofMinutes(5), 50, Duration.ofMinutes(1));
+
+    @Test
+    @DisplayName("이메일은 대소문자와 공백을 정리해서 이메일/IP 두 기준으로 한번에 확인한다")
+    void checks_email_and_ip_together() {
+        // given
+        when(redisTool.tryAcquire(anyList())).thenReturn(-1);
+
+        // when
+        throttle.checkLoginAttempt(" Member@Test.com ", "10.0.0.1");
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RateLimit>> captor = ArgumentCaptor.forClass(List.class);
+        verify(redisTool).tryAcquire(captor.capture());
+        assertThat(captor.getValue()).containsExactly(
+                new RateLimit("LoginThrottle:email:member@test.com", 10, Duration.ofMinutes(5)),
+                new RateLimit("LoginThrottle:ip:10.0.0.1", 50, Duration.ofMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("IP 제한을 넘으면 거절하고 IP 차단 횟수를 센다")
+    void ip_over_limit_is_rejected() {
+        // given
+        when(redisTool.tryAcquire(anyList())).thenReturn(1);
+
+        // when & then
+        assertThatThrownBy(() -> throttle.checkLoginAttempt("member@test.com", "10.0.0.1"))
+                .isInstanceOf(IdentityException.class);
+        assertThat(meterRegistry.counter("auth.login.throttled", "by", "ip").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("auth.login.throttled", "by", "email").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Redis 장애면 로그인을 막지 않는다")
+    void redis_failure_allows_login() {
+        // given
+        when(redisTool.tryAcquire(anyList())).thenThrow(new RedisConnectionFailureException("down"));
+
+        // when & then
+        assertThatCode(() -> throttle.checkLoginAttempt("member@test.com", "10.0.0.1"))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("로그인에 성공하면 이메일별 시도 기록만 지워서, 성공한 로그인은 이메일 제한에 쌓이지 않는다")
+    void reset_clears_email_attempts_only() {
+        // when
+        throttle.resetEmailAttempts(" Member@Test.com ");
+
+        // then
+        verify(redisTool).deleteValues("LoginThrottle:email:member@test.com");
+        verifyNoMoreInteractions(redisTool);
+    }
+
+    @Test
+    @DisplayName("시도 기록 초기화 중 Redis 장애가 나도 로그인을 실패시키지 않는다")
+    void reset_redis_failure_is_ignored() {
+        // given
+        doThrow(new RedisConnectionFailureException("down")).when(redisTool).deleteValues(anyString());
+
+        // when & then
+        assertThatCode(() -> throttle.resetEmailAttempts("member@test.com"))
+                .doesNotThrowAnyException();
+    }
+}
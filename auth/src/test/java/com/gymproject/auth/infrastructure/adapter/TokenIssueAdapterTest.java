@@ -0,0 +1,55 @@
+package com.gymproject.auth.infrastructure.adapter;
+
+import com.gymproject.auth.application.port.AccessTokenDenylistPort;
+import com.gymproject.auth.infrastructure.jwt.TokenProvider;
+import com.gymproject.auth.infrastructure.jwt.VerifiedToken;
+import com.gymproject.common.dto.auth.UserAuthInfo;
+import com.gymproject.common.security.Roles;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class TokenIssueAdapterTest {
+
+    private static final String SECRET = "test-secret-key-test-secret-key-test-secret-key-test-secret-key-0123";
+
+    private final TokenProvider tokenProvider = new TokenProvider(SECRET, SECRET + "-refresh", 1, 24, "gym-test");
+    private final AccessTokenDenylistPort accessTokenDenylistPort = Mockito.mock(AccessTokenDenylistPort.class);
+    private final TokenIssueAdapter adapter = new TokenIssueAdapter(tokenProvider, accessTokenDenylistPort);
+
+    private final UserAuthInfo authInfo = new UserAuthInfo(1L, "member@test.com", Roles.MEMBER);
+
+    @Test
+    @DisplayName("이름이 바뀌어 재발급하면 새 토큰에 바뀐 이름이 담기고, 기존 토큰의 jti는 만료 시각까지 무효화된다")
+    void reissue_revokes_current_token() {
+        // given
+        String current = tokenProvider.issueToken(authInfo.withDisplayName("GILDONG HONG")).getAccessToken();
+        VerifiedToken currentVerified = tokenProvider.verifyAccessToken(current);
+
+        // when
+        String reissued = adapter.reissueAccessToken(authInfo.withDisplayName("CHULSU HONG"), "Bearer " + current);
+
+        // then
+        VerifiedToken reissuedVerified = tokenProvider.verifyAccessToken(reissued);
+        assertThat(reissuedVerified.userInfo().getDisplayName()).isEqualTo("CHULSU HONG");
+        assertThat(reissuedVerified.jti()).isNotEqualTo(currentVerified.jti());
+        verify(accessTokenDenylistPort).revoke(currentVerified.jti(), currentVerified.expiresAtMillis());
+    }
+
+    @Test
+    @DisplayName("기존 토큰이 위조됐거나 없으면 무효화 없이 새 토큰만 발급한다")
+    void reissue_with_invalid_current_token_skips_revoke() {
+        // when
+        String forged = adapter.reissueAccessToken(authInfo.withDisplayName("CHULSU HONG"), "Bearer not-a-jwt");
+        String missing = adapter.reissueAccessToken(authInfo.withDisplayName("CHULSU HONG"), null);
+
+        // then
+        assertThat(forged).isNotBlank();
+        assertThat(missing).isNotBlank();
+        verifyNoInteractions(accessTokenDenylistPort);
+    }
+}
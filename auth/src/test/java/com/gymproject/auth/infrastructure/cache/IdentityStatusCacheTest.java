@@ -0,0 +1,95 @@
+package com.gymproject.auth.infrastructure.cache;
+
+import com.gymproject.auth.domain.vo.IdentityStatus;
+import com.gymproject.common.security.Roles;
+import com.gymproject.support.cache.CacheEvictionBus;
+import com.gymproject.support.redis.RedisTool;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+// 캐시 공통 동작(메모리/Redis/무효화 전파)은 support 모듈의 TwoLevelCacheTest에서 검증
+class IdentityStatusCacheTest {
+
+    private static final Long IDENTITY_ID = 1L;
+
+    private final RedisTool redisTool = Mockito.mock(RedisTool.class);
+    @SuppressWarnings("unchecked")
+    private final CacheEvictionBus evictionBus = new CacheEvictionBus(redisTool, Mockito.mock(ObjectProvider.class));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    // [Helper] DB 조회 대신 호출 횟수를 세는 로더
+    private Function<Long, IdentityStatus> loader(Roles role, boolean unsubscribe) {
+        return id -> {
+            loadCount.incrementAndGet();
+            return new IdentityStatus(id, role, unsubscribe);
+        };
+    }
+
+    private IdentityStatusCache cache(boolean redisEnabled) {
+        return new IdentityStatusCache(redisTool, evictionBus, meterRegistry,
+                Duration.ofMinutes(1), Duration.ofMinutes(10), redisEnabled);
+    }
+
+    @Test
+    @DisplayName("무효화되면 다음 조회에서 바뀐 상태를 DB에서 다시 읽는다")
+    void evict_reloads_changed_status() {
+        // given
+        IdentityStatusCache cache = cache(false);
+        cache.get(IDENTITY_ID, loader(Roles.GUEST, false));
+
+        // when (멤버십 승급 커밋)
+        cache.evict(IDENTITY_ID);
+        IdentityStatus status = cache.get(IDENTITY_ID, loader(Roles.MEMBER, false));
+
+        // then
+        assertThat(status.role()).isEqualTo(Roles.MEMBER);
+        assertThat(loadCount.get()).isEqualTo(2);
+        verifyNoInteractions(redisTool); // Redis 사용 안함 설정
+    }
+
+    @Test
+    @DisplayName("Redis에는 \"<역할>:<탈퇴 여부>\"로 저장하고 읽을 때 신원 상태로 되돌린다")
+    void redis_value_round_trip() {
+        // given
+        IdentityStatusCache cache = cache(true);
+        when(redisTool.multiGet(List.of("IDENTITY_STATUS:1"))).thenReturn(Map.of("IDENTITY_STATUS:1", "TRAINER:true"));
+        when(redisTool.multiGet(List.of("IDENTITY_STATUS:2"))).thenReturn(Map.of());
+
+        // when
+        IdentityStatus fromRedis = cache.get(1L, loader(Roles.MEMBER, false));
+        cache.get(2L, loader(Roles.MEMBER, false));
+
+        // then
+        assertThat(fromRedis).isEqualTo(new IdentityStatus(1L, Roles.TRAINER, true));
+        assertThat(loadCount.get()).isEqualTo(1);
+        verify(redisTool).multiSet(Map.of("IDENTITY_STATUS:2", "MEMBER:false"), Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("Redis를 쓰면 무효화할 때 공용 채널로 다른 서버에 알린다")
+    void evict_publishes_to_other_servers() {
+        // given
+        IdentityStatusCache cache = cache(true);
+
+        // when
+        cache.evict(IDENTITY_ID);
+
+        // then
+        verify(redisTool).deleteValues("IDENTITY_STATUS:" + IDENTITY_ID);
+        verify(redisTool).publish(CacheEvictionBus.CHANNEL, "IDENTITY_STATUS:" + IDENTITY_ID);
+    }
+}
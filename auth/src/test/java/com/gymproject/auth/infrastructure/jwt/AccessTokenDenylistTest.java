@@ -0,0 +1,116 @@
+package com.gymproject.auth.infrastructure.jwt;
+
+import com.gymproject.auth.exception.IdentityErrorCode;
+import com.gymproject.auth.exception.IdentityException;
+import com.gymproject.support.redis.RedisTool;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class AccessTokenDenylistTest {
+
+    private final RedisTool redisTool = Mockito.mock(RedisTool.class);
+    private final AccessTokenDenylist denylist = new AccessTokenDenylist(redisTool, new SimpleMeterRegistry(), 1_000, 3);
+
+    @Test
+    @DisplayName("동기화 후에는 무효화되지 않은 토큰을 Redis 조회 없이 통과시킨다")
+    void not_revoked_token_skips_redis() {
+        // given
+        when(redisTool.rangeByScore(anyString(), anyDouble(), anyDouble())).thenReturn(Map.of("revoked-jti", 1.0));
+        denylist.sync();
+
+        // when
+        boolean revoked = denylist.isRevoked("normal-jti");
+
+        // then
+        assertThat(revoked).isFalse();
+        verify(redisTool, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("동기화로 받은 무효화 토큰은 Redis에서 한번 더 확인하고 거절한다")
+    void synced_revoked_token_is_rejected() {
+        // given
+        when(redisTool.rangeByScore(anyString(), anyDouble(), anyDouble())).thenReturn(Map.of("revoked-jti", 1.0));
+        when(redisTool.hasKey("DeniedToken:revoked-jti")).thenReturn(true);
+        denylist.sync();
+
+        // when & then
+        assertThat(denylist.isRevoked("revoked-jti")).isTrue();
+    }
+
+    @Test
+    @DisplayName("첫 동기화 전에는 필터를 믿지 않고 Redis로 확인한다")
+    void before_first_sync_checks_redis() {
+        // when
+        denylist.isRevoked("normal-jti");
+
+        // then
+        verify(redisTool).hasKey(eq("DeniedToken:normal-jti"));
+    }
+
+    @Test
+    @DisplayName("무효화한 토큰은 동기화를 기다리지 않고 이 서버에서 바로 거절된다")
+    void revoke_applies_locally() {
+        // given
+        when(redisTool.rangeByScore(anyString(), anyDouble(), anyDouble())).thenReturn(Map.of());
+        when(redisTool.hasKey("DeniedToken:logout-jti")).thenReturn(true);
+        denylist.sync();
+
+        // when
+        denylist.revoke("logout-jti", System.currentTimeMillis() + 60_000);
+
+        // then
+        assertThat(denylist.isRevoked("logout-jti")).isTrue();
+        verify(redisTool).executeInTransaction(any());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 필터에 걸린 토큰은 통과시키지 않고 503으로 거절한다")
+    void redis_failure_on_filter_hit_fails_closed() {
+        // given
+        when(redisTool.rangeByScore(anyString(), anyDouble(), anyDouble())).thenReturn(Map.of("revoked-jti", 1.0));
+        denylist.sync();
+        when(redisTool.hasKey(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+        // when & then
+        assertThatThrownBy(() -> denylist.isRevoked("revoked-jti"))
+                .isInstanceOf(IdentityException.class)
+                .hasFieldOrPropertyWithValue("errorCode", IdentityErrorCode.TOKEN_CHECK_UNAVAILABLE.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 첫 동기화 전이면 필터를 믿을 수 없으므로 503으로 거절한다")
+    void redis_failure_before_first_sync_fails_closed() {
+        // given
+        when(redisTool.hasKey(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+        // when & then
+        assertThatThrownBy(() -> denylist.isRevoked("normal-jti"))
+                .isInstanceOf(IdentityException.class)
+                .hasFieldOrPropertyWithValue("errorCode", IdentityErrorCode.TOKEN_CHECK_UNAVAILABLE.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 중에도 필터가 확실히 없다고 하면 통과시킨다")
+    void redis_failure_on_filter_miss_passes() {
+        // given
+        when(redisTool.rangeByScore(anyString(), anyDouble(), anyDouble())).thenReturn(Map.of("revoked-jti", 1.0));
+        denylist.sync();
+        when(redisTool.hasKey(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+        // when & then
+        assertThat(denylist.isRevoked("normal-jti")).isFalse();
+    }
+}
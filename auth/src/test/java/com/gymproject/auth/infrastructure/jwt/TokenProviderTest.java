@@ -0,0 +1,62 @@
+package com.gymproject.auth.infrastructure.jwt;
+
+import com.gymproject.common.dto.auth.UserAuthInfo;
+import com.gymproject.common.security.Roles;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-test-secret-key-test-secret-key-test-secret-key-0123";
+
+    private final TokenProvider tokenProvider = new TokenProvider(SECRET, SECRET + "-refresh", 1, 24, "gym-test");
+
+    @Test
+    @DisplayName("액세스 토큰에 담은 이름을 DB 조회 없이 다시 꺼낼 수 있다")
+    void access_token_carries_display_name() {
+        // given
+        UserAuthInfo authInfo = new UserAuthInfo(1L, "member@test.com", Roles.MEMBER)
+                .withDisplayName("Gildong Hong");
+
+        // when
+        String token = tokenProvider.issueToken(authInfo).getAccessToken();
+        UserAuthInfo parsed = tokenProvider.validateAndGetUserAuthInfo(token);
+
+        // then
+        assertThat(parsed.getUserId()).isEqualTo(1L);
+        assertThat(parsed.getRole()).isEqualTo(Roles.MEMBER);
+        assertThat(parsed.getDisplayName()).isEqualTo("Gildong Hong");
+    }
+
+    @Test
+    @DisplayName("이름 클레임이 없는 예전 토큰은 이름이 비어있다")
+    void legacy_token_has_no_display_name() {
+        // given
+        String token = tokenProvider.createAccessToken("member@test.com", "MEMBER", 1L, null);
+
+        // when
+        UserAuthInfo parsed = tokenProvider.validateAndGetUserAuthInfo(token);
+
+        // then
+        assertThat(parsed.hasDisplayName()).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 초에 재발급한 리프레시 토큰도 이전 토큰과 다르다")
+    void refresh_token_rotation_in_same_second_is_distinct() {
+        // given
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+
+        // when
+        String first = tokenProvider.createRefreshTokenWithExpiration(1L, expiration);
+        String second = tokenProvider.createRefreshTokenWithExpiration(1L, expiration);
+
+        // then
+        assertThat(second).isNotEqualTo(first);
+        assertThat(tokenProvider.createRefreshToken(1L)).isNotEqualTo(tokenProvider.createRefreshToken(1L));
+    }
+}
@@ -0,0 +1,81 @@
+package com.gymproject.auth.infrastructure.jwt;
+
+import com.gymproject.common.dto.auth.UserAuthInfo;
+import com.gymproject.common.security.Roles;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VerifiedTokenCacheTest {
+
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(new SimpleMeterRegistry(), 10_000);
+    private final AtomicInteger verifyCount = new AtomicInteger();
+
+    private final UserAuthInfo userInfo = new UserAuthInfo(1L, "member@test.com", Roles.MEMBER);
+
+    @Test
+    @DisplayName("같은 토큰은 만료 전까지 한번만 검증한다")
+    void getOrVerify_verifies_once() {
+        // given
+        Date exp = new Date(System.currentTimeMillis() + 60_000);
+
+        // when
+        VerifiedToken first = cache.getOrVerify("token", token -> {
+            verifyCount.incrementAndGet();
+            return VerifiedToken.of(userInfo, "jti-1", exp);
+        });
+        VerifiedToken second = cache.getOrVerify("token", token -> {
+            verifyCount.incrementAndGet();
+            return VerifiedToken.of(userInfo, "jti-1", exp);
+        });
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(verifyCount.get()).isEqualTo(1);
+        assertThat(first.authorities()).extracting(Object::toString).containsExactly("ROLE_MEMBER");
+    }
+
+    @Test
+    @DisplayName("토큰의 exp가 지난 항목은 쓰지 않고 다시 검증한다")
+    void getOrVerify_expired_entry_is_verified_again() {
+        // given (이미 만료 시각이 지난 항목)
+        cache.getOrVerify("token", token -> VerifiedToken.of(userInfo, "jti-1", new Date(System.currentTimeMillis() - 1)));
+
+        // when & then (다시 검증 -> 만료 예외)
+        assertThatThrownBy(() -> cache.getOrVerify("token", token -> {
+            throw new JwtException("expired");
+        })).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 전부 비우지 않고 가장 오래 안 쓴 토큰만 버린다")
+    void put_evicts_least_recently_used() {
+        // given (최대 2개)
+        VerifiedTokenCache small = new VerifiedTokenCache(new SimpleMeterRegistry(), 2);
+        Date exp = new Date(System.currentTimeMillis() + 60_000);
+        Function<String, VerifiedToken> verifier = token -> {
+            verifyCount.incrementAndGet();
+            return VerifiedToken.of(userInfo, token, exp);
+        };
+        small.getOrVerify("token-1", verifier);
+        small.getOrVerify("token-2", verifier);
+        small.getOrVerify("token-1", verifier); // 1번을 최근에 사용
+
+        // when
+        small.getOrVerify("token-3", verifier); // 2번이 밀려남
+        small.getOrVerify("token-1", verifier);
+        small.getOrVerify("token-3", verifier);
+        small.getOrVerify("token-2", verifier);
+
+        // then (1, 2, 3 처음 검증 + 밀려난 2번 재검증)
+        assertThat(verifyCount.get()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,88 @@
+package com.gymproject.auth.infrastructure.password;
+
+import com.gymproject.auth.exception.IdentityException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // 해시 하나가 release 될 때까지 스레드를 붙잡는 인코더
+    private final PasswordEncoder slowEncoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals("hashed:" + rawPassword);
+        }
+    };
+
+    // 스레드 1개, 대기열 1개
+    private final PasswordHasher hasher = new PasswordHasher(slowEncoder, meterRegistry, 1, 1, Duration.ofSeconds(5));
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        hasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("전용 스레드에서 해시하고 결과를 돌려준다")
+    void encode_and_matches() {
+        // given
+        release.countDown();
+
+        // when
+        String hashed = hasher.encode("password");
+
+        // then
+        assertThat(hashed).isEqualTo("hashed:password");
+        assertThat(hasher.matches("password", hashed)).isTrue();
+        assertThat(meterRegistry.timer("auth.password.hash", "op", "encode").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("해시 스레드와 대기열이 모두 차면 기다리지 않고 바로 거절한다")
+    void saturated_pool_fails_fast() throws InterruptedException {
+        // given (1개는 처리 중, 1개는 대기열)
+        CompletableFuture.runAsync(() -> hasher.encode("first"));
+        started.await(1, TimeUnit.SECONDS);
+        CompletableFuture.runAsync(() -> hasher.encode("second"));
+        waitUntilQueued();
+
+        // when & then
+        assertThatThrownBy(() -> hasher.encode("third"))
+                .isInstanceOf(IdentityException.class);
+        assertThat(meterRegistry.counter("auth.password.hash.rejected").count()).isEqualTo(1);
+    }
+
+    // [Helper] 두번째 작업이 대기열에 들어갈 때까지 대기
+    private void waitUntilQueued() throws InterruptedException {
+        for (int i = 0; i < 100 && meterRegistry.get("auth.password.hash.queue.size").gauge().value() < 1; i++) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -19,6 +19,7 @@ import com.gymproject.booking.booking.infrastructure.persistence.BookingHistoryR
 import com.gymproject.booking.booking.infrastructure.persistence.BookingRepository;
 import com.gymproject.common.dto.auth.UserAuthInfo;
 import com.gymproject.common.dto.schedule.ScheduleInfo;
+import com.gymproject.common.dto.session.SessionInfo;
 import com.gymproject.common.port.classmanagement.ScheduleCommandPort;
 import com.gymproject.common.port.classmanagement.ScheduleQueryPort;
 import com.gymproject.common.port.user.UserProfilePort;
@@ -32,13 +33,16 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static com.gymproject.common.constant.GymLocation.gymLat;
 import static com.gymproject.common.constant.GymLocation.gymLon;
@@ -57,7 +61,6 @@ public class BookingService {
     private final ScheduleCommandPort scheduleCommandPort;
     private final ScheduleQueryPort scheduleQueryPort;
     private final UserProfilePort userProfilePort;
-    private final UserSessionPort sessionPort;
 
     // 1] 1:1 수업 예약
     @Transactional
@@ -65,7 +68,7 @@ public class BookingService {
         Long userId = userAuthInfo.getUserId();
         Long trainerId = request.getTrainerId();
 
-        Modifier modifier = createModifier(userId);
+        Modifier modifier = createModifier(userAuthInfo);
 
         // 2. 시간 변환
         OffsetDateTime startAt = request.calculateStartAt();
@@ -75,19 +78,14 @@ public class BookingService {
         // 3. 시간 충돌 검증
         bookingValidator.validateScheduleConflict(trainerId, startAt, endAt);
 
-        // 4. [중요] 세션 차감(Optimistic Lock)
-        final Long sessionId;
-        try {
-            //  세션 차감(순서변경) -> sessionId 넣어주기위해서
-            sessionId = userSessionPort.consumeOneSession(userId, request.getTicketType().getSessionConsumeKind());
-        } catch (ObjectOptimisticLockingFailureException e) {
-            throw new BookingException(BookingErrorCode.SESSION_CONCURRENCY_ERROR);
-        }
+        // 4. [중요] 세션 차감(조건부 UPDATE라서 동시 예약도 순서대로 차감됨)
+        //  세션 차감(순서변경) -> sessionId 넣어주기위해서
+        final SessionInfo consumed = userSessionPort.consumeOneSession(userId, request.getTicketType().getSessionConsumeKind());
         // 5.Schedule 생성
         Long scheduleId = scheduleCommandPort.createSingleSchedule(trainerId, startAt, endAt);
 
         // 6. 예약 생성: 티켓타입에 따라 예약이 상태가 달라짐
-        Booking booking = Booking.createPersonalBooking(scheduleId, userId, sessionId
+        Booking booking = Booking.createPersonalBooking(scheduleId, userId, consumed.sessionId()
                 , request.getTicketType(), modifier, startAt, now);
 
         // 10. 예약 저장
@@ -103,7 +101,8 @@ public class BookingService {
        ScheduleInfo schedule = scheduleQueryPort.getScheduleInfo(booking.getClassScheduleId());
        return BookingResponse.builder()
                 .bookingId(booking.getBookingId())
-                .sessionType((sessionPort.getSessionType(sessionId)))
+                .sessionType(consumed.sessionType()) // 차감 결과에 포함되어 있으므로 다시 조회하지 않음
+                .remainingSessions(consumed.remainingSessions())
                 .targetName(userProfilePort.getUserFullName(request.getTrainerId()))
                 .status(booking.getStatus())
                 .startAt(schedule.startAt())
@@ -115,7 +114,7 @@ public class BookingService {
     @Transactional
     public CurriculumBookingResponse reserveCurriculum(Long recurrenceId, UserAuthInfo userAuthInfo) {
         Long userId = userAuthInfo.getUserId();
-        Modifier modifier = createModifier(userId);
+        Modifier modifier = createModifier(userAuthInfo);
 
         // [추가] 중복 예약 체크
         /*
@@ -136,10 +135,7 @@ public class BookingService {
         // 수업이 종료되는 날짜보다 멤버십 날짜가 더 짧은지 확인
         bookingValidator.validateMembershipActiveUtill(userId, classEndAt);
 
-        // 3. 해당 수업에 참여(정원 선점)
-        scheduleCommandPort.reserveCurriculum(recurrenceId);
-
-        // 4. 해당 Schedule에 대응하는 booking을 전부 생성
+        // 3. 해당 Schedule에 대응하는 booking을 전부 생성
         OffsetDateTime now = GymDateUtil.now();
 
         List<ScheduleInfo> scheduleInfos
@@ -156,9 +152,14 @@ public class BookingService {
                                         now)
                 ).toList();
 
-        // 5. 전부 저장
+        // 4. 전부 저장 (시퀀스 ID + JDBC 배치로 50건씩 묶어서 INSERT)
         bookingRepository.saveAll(bookings);
 
+        /// [중요] 5. 해당 수업에 참여(정원 선점)
+        // 그룹 row 락은 조건부 UPDATE부터 커밋까지만 잡히므로 좌석 차감을 트랜잭션 마지막에 둔다.
+        // 자리가 없으면 예외로 위에서 저장한 booking까지 전부 롤백됨
+        scheduleCommandPort.reserveCurriculum(recurrenceId);
+
         // 7. 응답 데이터 조립
         // 상세정보
         List<CurriculumBookingResponse.BookingDetail> details = scheduleInfos.stream()
@@ -187,7 +188,7 @@ public class BookingService {
         }
 
         ScheduleInfo scheduleInfo = scheduleQueryPort.getScheduleInfo(booking.getClassScheduleId());
-        Modifier modifier = createModifier(userAuthInfo.getUserId(), userAuthInfo.isTrainer());
+        Modifier modifier = createModifier(userAuthInfo, userAuthInfo.isTrainer());
 
         // 2. 비즈니스 로직 실행 (계산은 Policy가, 실행은 Entity가)
         // 서비스는 "취소해줘"라고 명령만 내립니다.
@@ -203,8 +204,9 @@ public class BookingService {
         // 3. Cancel Type이
         // 정책에 의해 '무료 취소(FREE_CANCEL)'로 판정된 경우에만 즉시 세션권을 복구합니다.
         // 결제/자산과 직결된 로직이므로 이벤트 방식이 아닌 직접 호출로 강한 트랜잭션을 유지합니다.
+        SessionInfo restored = null;
         if (booking.getUserSessionId() != null && cancelType == CancellationType.FREE_CANCEL) {
-            userSessionPort.restoreSession(booking.getUserSessionId(), modifier);
+            restored = userSessionPort.restoreSession(booking.getUserSessionId(), modifier);
         }
 
         bookingRepository.save(booking);
@@ -213,11 +215,12 @@ public class BookingService {
         ScheduleInfo schedule = scheduleQueryPort.getScheduleInfo(booking.getClassScheduleId());
         return BookingResponse.builder()
                 .bookingId(booking.getBookingId())
-                .targetName(userProfilePort.getUserFullName(userAuthInfo.getUserId()))
+                .targetName(modifier.name())
                 .status(booking.getStatus())
                 .startAt(schedule.startAt())
                 .endAt(schedule.endAt())
-                .sessionType(sessionPort.getSessionType(booking.getUserSessionId()))
+                .sessionType(restored != null ? restored.sessionType() : getSessionType(booking.getUserSessionId()))
+                .remainingSessions(restored != null ? restored.remainingSessions() : null)
                 .build();
     }
 
@@ -240,18 +243,19 @@ public class BookingService {
         // 2. 유효한 예약인지 확인
         Booking booking = getBooking(bookingId);
 
-        Modifier modifier = createModifier(userAuthInfo.getUserId(), userAuthInfo.isTrainer());
+        Modifier modifier = createModifier(userAuthInfo, userAuthInfo.isTrainer());
 
         // 3. 예약 상태 변경
         TrainerAction action = TrainerAction.from(request);
 
+        SessionInfo restored = null;
         switch (action) {
             case CONFIRM -> booking.confirm(modifier);
             case REJECT -> {
                 booking.reject(modifier, "트레이너 거절");
                 if (booking.getUserSessionId() != null) {
                     // booking 세션에 복구 요청(이벤트 x , 세션권 환불은 중요)
-                    userSessionPort.restoreSession(booking.getUserSessionId(), modifier);
+                    restored = userSessionPort.restoreSession(booking.getUserSessionId(), modifier);
                 }
             }
         }
@@ -267,7 +271,8 @@ public class BookingService {
                 .endAt(schedule.endAt())
                 .targetName(userProfilePort.getUserFullName(schedule.trainerId()))
                 .status(booking.getStatus())
-                .sessionType(sessionPort.getSessionType(booking.getUserSessionId())) // 승인, 거절은 무료 티켓에만 있기 때문임
+                .sessionType(restored != null ? restored.sessionType() : getSessionType(booking.getUserSessionId())) // 승인, 거절은 무료 티켓에만 있기 때문임
+                .remainingSessions(restored != null ? restored.remainingSessions() : null)
                 .build();
     }
 
@@ -285,7 +290,7 @@ public class BookingService {
         double distance = LocationUtils.calculateDistance(userLat, userLon, gymLat, gymLon);
 
         ///  5. 상태 변경(CONFIRM -> ATTENDANCE)
-        Modifier modifier = createModifier(userAuthInfo.getUserId());
+        Modifier modifier = createModifier(userAuthInfo);
         booking.attend(modifier, scheduleInfo.startAt(), GymDateUtil.now(), distance);
 
         // 6. 삭제(Attendance 기록은 남기지 않음): 추후 사용자가 어느 좌표에서 출석했는지 남기고 싶으면 BookingHistory에 메타데이터로 남기면됨.[중요]
@@ -301,7 +306,7 @@ public class BookingService {
                 .endAt(schedule.endAt())
                 .status(booking.getStatus())
                 .targetName(userProfilePort.getUserFullName(schedule.trainerId()))
-                .sessionType(sessionPort.getSessionType(booking.getUserSessionId()))
+                .sessionType(getSessionType(booking.getUserSessionId()))
                 .build();
     }
 
@@ -309,7 +314,7 @@ public class BookingService {
     @Transactional
     public BookingResponse enterRoutineClass(Long scheduleId, UserAuthInfo userAuthInfo) {
         Long userId = userAuthInfo.getUserId();
-        Modifier modifier = createModifier(userId, userAuthInfo.isTrainer());
+        Modifier modifier = createModifier(userAuthInfo, userAuthInfo.isTrainer());
         OffsetDateTime now = GymDateUtil.now();
 
         // 1. 멤버십 회원인지 확인
@@ -341,7 +346,7 @@ public class BookingService {
                 .startAt(schedule.startAt())
                 .endAt(schedule.endAt())
                 .targetName(userProfilePort.getUserFullName(schedule.trainerId()))
-                .sessionType(sessionPort.getSessionType(booking.getUserSessionId()))
+                // 루틴 수업은 멤버십으로 참여하므로 세션권이 없음 (sessionType 없음)
                 .build();
 
     }
@@ -350,7 +355,7 @@ public class BookingService {
     @Transactional
     public CurriculumCancelResponse cancelCurriculumBooking(Long recurrenceId, UserAuthInfo userAuthInfo) {
         Long userId = userAuthInfo.getUserId();
-        Modifier modifier = createModifier(userId, userAuthInfo.isTrainer());
+        Modifier modifier = createModifier(userAuthInfo, userAuthInfo.isTrainer());
 
         // 1. 해당 커리큘럼에 속한 모든 예약 조회
         List<Booking> bookings
@@ -395,18 +400,26 @@ public class BookingService {
 
     // ===== 헬퍼
 
-    private Modifier createModifier(Long userId) {
-        return createModifier(userId, false);
+    private Modifier createModifier(UserAuthInfo userAuthInfo) {
+        return createModifier(userAuthInfo, false);
     }
 
-
-    private Modifier createModifier(Long userId, boolean isTrainer) {
-        String name = userProfilePort.getUserFullName(userId); // 이름 조회
+    // 이름은 토큰 클레임에서 꺼냄 (이름 클레임이 없는 예전 토큰일 때만 DB 조회)
+    private Modifier createModifier(UserAuthInfo userAuthInfo, boolean isTrainer) {
+        Long userId = userAuthInfo.getUserId();
+        String name = userAuthInfo.hasDisplayName()
+                ? userAuthInfo.getDisplayName()
+                : userProfilePort.getUserFullName(userId);
         return isTrainer
                 ? Modifier.trainer(userId, name)
                 : Modifier.user(userId, name);
     }
 
+    // 세션권을 쓰지 않는 예약(멤버십 수업)은 조회하지 않고 null
+    private String getSessionType(Long sessionId) {
+        return sessionId == null ? null : userSessionPort.getSessionType(sessionId);
+    }
+
     private Booking getBooking(Long bookingId) {
         Booking booking = bookingRepository.findById(bookingId).orElseThrow(
                 () -> new BookingException(BookingErrorCode.NOT_FOUND)
@@ -498,9 +511,41 @@ public class BookingService {
             return cb.and(predicates.toArray(new Predicate[0]));
         };
 
-        // 2. 조회 및 DTO 변환
-        return historyRepository.findAll(spec, pageable)
-                .map(BookingHistoryResponse::create);
+        // 2. 조회
+        Page<BookingHistory> histories = historyRepository.findAll(spec, pageable);
+
+        // 3. 페이지 안의 예약들의 세션 타입을 한번에 조회 (이력마다 조회하지 않음)
+        Map<Long, String> sessionTypes = findSessionTypesByBooking(histories.getContent());
+
+        // 4. DTO 변환
+        return histories.map(history ->
+                BookingHistoryResponse.create(history, sessionTypes.get(history.getBookingId())));
+    }
+
+    // 예약 ID -> 세션 타입 (예약 조회 1번 + 세션 타입 조회 1번, 세션권을 쓰지 않는 예약은 빠짐)
+    private Map<Long, String> findSessionTypesByBooking(List<BookingHistory> histories) {
+        Set<Long> bookingIds = new HashSet<>();
+        histories.forEach(history -> bookingIds.add(history.getBookingId()));
+        if (bookingIds.isEmpty()) return Map.of();
+
+        // 1. 예약 -> 세션 ID
+        Map<Long, Long> sessionIds = new HashMap<>();
+        for (Booking booking : bookingRepository.findAllById(bookingIds)) {
+            if (booking.getUserSessionId() != null) {
+                sessionIds.put(booking.getBookingId(), booking.getUserSessionId());
+            }
+        }
+        if (sessionIds.isEmpty()) return Map.of();
+
+        // 2. 세션 ID -> 타입
+        Map<Long, String> typesBySession = userSessionPort.getSessionTypes(new HashSet<>(sessionIds.values()));
+
+        Map<Long, String> types = new HashMap<>();
+        sessionIds.forEach((bookingId, sessionId) -> {
+            String type = typesBySession.get(sessionId);
+            if (type != null) types.put(bookingId, type);
+        });
+        return types;
     }
 }
 
@@ -38,13 +38,16 @@ public record BookingHistoryResponse(
         @Schema(description = "변경 사유", example = "회원의 개인 사정으로 인한 당일 취소 요청")
         String reason,
 
+        @Schema(description = "예약에 사용된 수강권 타입 (멤버십 수업이면 null)", example = "PAID")
+        String sessionType,
+
         // [중요] 아까 정한 규칙대로 '호주 브리즈번 시간'으로 변환해서 내보냄
         @Schema(description = "이력 생성 일시 (호주 브리즈번 시간)", example = "2026-01-22 15:30:00")
         @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Australia/Brisbane")
         OffsetDateTime createdAt
 ) {
     // Entity -> DTO 변환 메서드 (편의성)
-    public static BookingHistoryResponse create(BookingHistory history) {
+    public static BookingHistoryResponse create(BookingHistory history, String sessionType) {
         return BookingHistoryResponse.builder()
                 .historyId(history.getHistoryId())
                 .bookingId(history.getBookingId())
@@ -54,6 +57,7 @@ public record BookingHistoryResponse(
                 .previousStatus(history.getPreviousStatus())
                 .newStatus(history.getNewStatus())
                 .reason(history.getReason())
+                .sessionType(sessionType)
                 .createdAt(history.getCreatedAt()) // 여기서 UTC가 넘어가도 @JsonFormat이 브리즈번 시간으로 바꿔줍니다.
                 .build();
     }
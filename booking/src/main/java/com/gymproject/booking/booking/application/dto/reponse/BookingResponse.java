@@ -27,6 +27,9 @@ public record BookingResponse(
         @Schema(description = "사용된 수강권 타입", example = "FREE_TRIAL")
         String sessionType,
 
+        @Schema(description = "남은 수강권 횟수 (수강권을 차감/복구한 경우에만)", example = "9")
+        Integer remainingSessions,
+
         @Schema(description = "사용자에게 보여줄 메세지", example = "트레이너 승인 후 예약이 확정됩니다.")
         String message
 ) {
@@ -3,6 +3,7 @@ package com.gymproject.booking.booking.application.dto.request;
 import com.gymproject.booking.booking.domain.policy.BookingConfirmPolicy;
 import com.gymproject.booking.booking.domain.type.BookingStatus;
 import com.gymproject.common.contracts.SessionConsumeKind;
+import com.gymproject.common.policy.BookingLeadTime;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -10,8 +11,8 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public enum TicketType {
 
-    FREE_TRIAL(SessionConsumeKind.FREE_TRIAL, BookingConfirmPolicy.REQUIRE_APPROVAL, 3),
-    PAID(SessionConsumeKind.PAID, BookingConfirmPolicy.AUTO_CONFIRM, 1);
+    FREE_TRIAL(SessionConsumeKind.FREE_TRIAL, BookingConfirmPolicy.REQUIRE_APPROVAL, BookingLeadTime.FREE_TRIAL_HOURS),
+    PAID(SessionConsumeKind.PAID, BookingConfirmPolicy.AUTO_CONFIRM, BookingLeadTime.PAID_HOURS);
 
     private final SessionConsumeKind sessionConsumeKind;
     private final BookingConfirmPolicy bookingConfirmPolicy;
@@ -26,8 +26,10 @@ import java.time.OffsetDateTime;
 
 public class Booking extends AbstractAggregateRoot<Booking> {
 
+    /// [중요] 커리큘럼 예약 시 회차 수만큼 한번에 저장하므로 시퀀스(50개씩 미리 할당) + 배치 INSERT 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_seq")
+    @SequenceGenerator(name = "booking_seq", sequenceName = "BOOKING_SEQ", allocationSize = 50)
     @Column(name = "booking_id", nullable = false)
     private Long bookingId;
 
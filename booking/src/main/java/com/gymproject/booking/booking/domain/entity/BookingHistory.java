@@ -17,8 +17,10 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class BookingHistory extends BaseEntity {
 
+    /// [중요] 월별 파티션 테이블은 IDENTITY를 쓸 수 없어서 시퀀스(50개씩 미리 할당) 사용 -> 배치 INSERT도 가능
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_history_seq")
+    @SequenceGenerator(name = "booking_history_seq", sequenceName = "BOOKING_HISTORY_SEQ", allocationSize = 50)
     @Column(name = "history_id", nullable = false)
     private Long historyId;
 
@@ -3,12 +3,14 @@ package com.gymproject.booking.timeoff.infrastructure.adapter;
 import com.gymproject.booking.timeoff.exception.TimeOffErrorCode;
 import com.gymproject.booking.timeoff.exception.TimeOffException;
 import com.gymproject.booking.timeoff.infrastructure.persistence.TrainerTimeOffRepository;
+import com.gymproject.common.dto.booking.TimeOffSlot;
 import com.gymproject.common.port.booking.TimeOffQueryPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
@@ -25,4 +27,31 @@ public class TimeOffQueryAdapter implements TimeOffQueryPort {
             throw new TimeOffException(TimeOffErrorCode.TIME_OFF_CONFLICT);
         }
     }
+
+    @Override
+    public List<OffsetDateTime> findTimeOffOverlaps(Long trainerId,
+                                                    List<OffsetDateTime> startTimes,
+                                                    List<OffsetDateTime> endTimes) {
+        if (startTimes.isEmpty()) return List.of();
+
+        List<Long> ordinals = trainerTimeOffRepository.findConflictingOrdinals(
+                trainerId,
+                startTimes.toArray(OffsetDateTime[]::new),
+                endTimes.toArray(OffsetDateTime[]::new));
+
+        // 순번은 1부터 시작
+        return ordinals.stream()
+                .map(ordinal -> startTimes.get(ordinal.intValue() - 1))
+                .toList();
+    }
+
+    @Override
+    public List<TimeOffSlot> findActiveTimeOffs(Long trainerId, OffsetDateTime from) {
+        return trainerTimeOffRepository.findActiveEndingAfter(trainerId, from).stream()
+                .map(timeOff -> new TimeOffSlot(
+                        timeOff.getTrainerBlockId(),
+                        timeOff.getStartAt(),
+                        timeOff.getEndAt()))
+                .toList();
+    }
 }
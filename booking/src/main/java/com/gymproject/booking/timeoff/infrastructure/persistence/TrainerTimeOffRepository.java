@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -31,6 +32,34 @@ public interface TrainerTimeOffRepository extends JpaRepository<TrainerTimeOff,
                            @Param("start") OffsetDateTime start,
                            @Param("end") OffsetDateTime end);
 
+    // 여러 후보 시간대와 휴무 충돌 일괄 검사
+    // 후보 시간대를 배열로 한번에 넘겨 unnest로 펼치고, 겹치는 후보의 순번(1부터)만 반환함
+    @Query(value = """
+            SELECT c.idx
+            FROM unnest(CAST(:starts AS timestamptz[]), CAST(:ends AS timestamptz[]))
+                 WITH ORDINALITY AS c(start_at, end_at, idx)
+            WHERE EXISTS (
+                SELECT 1 FROM "TRAINER_TIME_OFF_TB" t
+                WHERE t.user_id = :userId
+                AND t.status != 'CANCELLED'
+                AND t.time_range && tstzrange(c.start_at, c.end_at, '[)')
+            )
+            ORDER BY c.idx
+            """, nativeQuery = true)
+    List<Long> findConflictingOrdinals(@Param("userId") Long userId,
+                                       @Param("starts") OffsetDateTime[] starts,
+                                       @Param("ends") OffsetDateTime[] ends);
+
+    // from 이후에 끝나는 유효한 휴무 (충돌 인덱스 적재용)
+    @Query(value = """
+            SELECT * FROM "TRAINER_TIME_OFF_TB" t
+            WHERE t.user_id = :userId
+            AND t.status != 'CANCELLED'
+            AND upper(t.time_range) > CAST(:from AS timestamptz)
+            """, nativeQuery = true)
+    List<TrainerTimeOff> findActiveEndingAfter(@Param("userId") Long userId,
+                                               @Param("from") OffsetDateTime from);
+
     Optional<TrainerTimeOff> findByTrainerBlockId(Long trainerBlockId);
 
 }
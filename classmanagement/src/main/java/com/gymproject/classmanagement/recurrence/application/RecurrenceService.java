@@ -16,6 +16,7 @@ import com.gymproject.classmanagement.template.domain.entity.Template;
 import com.gymproject.classmanagement.template.infrastructure.persistence.TemplateReader;
 import com.gymproject.common.dto.auth.UserAuthInfo;
 import com.gymproject.common.port.auth.IdentityQueryPort;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -43,6 +44,7 @@ public class RecurrenceService {
     private final ScheduleValidator scheduleValidator;
     private final TemplateReader templateReader;
     private final IdentityQueryPort identityQueryPort;
+    private final EntityManager entityManager;
 
     // 1] 기간제수업 생성(커리큘럼, 루틴형 둘다)
     @Transactional
@@ -193,15 +195,27 @@ public class RecurrenceService {
     // 4] 커리큘럼 예약 처리(그룹 잔여석 차감)
     @Transactional
     public void reserveCurriculum(Long recurrenceGroupId) {
-        /// [중요] 1. 그룹 조회 (Lock 처리)
-        RecurrenceGroup group = recurrenceGroupRepository.findByIdWithLock(recurrenceGroupId)
+        // 1. 그룹 조회 (Lock 없음)
+        RecurrenceGroup group = recurrenceGroupRepository.findById(recurrenceGroupId)
                 .orElseThrow(() -> new ScheduleException(ScheduleErrorCode.NOT_FOUND,
                         "커리큘럼 그룹을 찾을 수 없습니다. ID: " + recurrenceGroupId));
 
+        // 2. 정원과 무관한 규칙 검증(커리큘럼형인지, 이미 시작했는지)
+        group.validateCurriculumReservation();
+
+        /// [중요] 3. 조건부 단일 UPDATE로 잔여석 차감 + OPEN -> CLOSED 전환
+        // SELECT ... FOR UPDATE 없이 DB가 직접 잔여석을 판정함 (락은 UPDATE ~ 커밋 사이에만 잡힘)
+        boolean reserved = recurrenceGroupRepository.reserveSeat(recurrenceGroupId).isPresent();
 
-        // 2. 그룹 잔여석 차감 (Domain 로직)
-        group.reserveCurriculum();
+        // 4. 네이티브 UPDATE는 영속성 컨텍스트를 거치지 않으므로 엔티티를 DB 상태로 갱신
+        entityManager.refresh(group);
+
+        if (!reserved) {
+            throw group.curriculumReservationFailure();
+        }
 
+        // 5. 변경 이벤트 등록 후 save()로 발행
+        group.markCurriculumReserved();
         recurrenceGroupRepository.save(group);
     }
 
@@ -212,9 +226,21 @@ public class RecurrenceService {
         RecurrenceGroup group = recurrenceGroupRepository.findById(recurrenceGroupId)
                 .orElseThrow(()-> new RecurrenceException(RecurrenceErrorCode.NOT_FOUND));
 
-        // 2. 그룹 상태 변경(좌석 복구)
-        group.cancelCurriculumReservation();
+        // 2. 잔여석과 무관한 규칙 검증(폐강/종료 여부, 이미 시작했는지)
+        group.validateCurriculumCancellation();
+
+        // 3. 조건부 단일 UPDATE로 잔여석 복구 + CLOSED -> OPEN 전환 (예약과 같은 행을 같은 방식으로 변경)
+        boolean released = recurrenceGroupRepository.releaseSeat(recurrenceGroupId).isPresent();
+
+        // 4. 네이티브 UPDATE는 영속성 컨텍스트를 거치지 않으므로 엔티티를 DB 상태로 갱신
+        entityManager.refresh(group);
+
+        if (!released) {
+            throw group.curriculumCancellationFailure();
+        }
 
+        // 5. 변경 이벤트 등록 후 save()로 발행
+        group.markCurriculumReleased();
         recurrenceGroupRepository.save(group);
     }
 
@@ -156,37 +156,46 @@ public class RecurrenceGroup extends AbstractAggregateRoot<RecurrenceGroup> {
         return group;
     }
 
-    // 2. 프로그램형 수업 예약(전체 회차권)
-    public void reserveCurriculum() {
-        validateProgramReservation();
+    // 2. 프로그램형 수업 예약(전체 회차권) 전 검증
+    // 상태/잔여석은 좌석 원자적 차감(RecurrenceGroupRepository.reserveSeat)이 판정하므로 여기선 제외
+    public void validateCurriculumReservation() {
+        RecurrencePolicy.validateProgramReservation(recurrenceType, startDate);
+    }
 
-        this.remainingCapacity--;
+    // 2-1. 좌석 원자적 차감 완료(remainingCapacity/status는 DB에서 이미 변경되어 refresh된 상태)
+    public void markCurriculumReserved() {
+        // Event 발생하여 Schedule 쪽으로 넘김
+        this.registerEvent(RecurrenceGroupEvent.updated(this));
+    }
 
-        if (this.remainingCapacity == 0) {
-            this.recurrenceStatus = RecurrenceStatus.CLOSED;
+    // 2-2. 좌석 원자적 차감 실패 사유 판정(상태 -> 잔여석 순서로 판정)
+    public RecurrenceException curriculumReservationFailure() {
+        if (this.recurrenceStatus != RecurrenceStatus.OPEN) {
+            return new RecurrenceException(RecurrenceErrorCode.INVALID_STATUS);
         }
-        ///  [중요] 트랜잭션으로 묶여야하는 중요한 로직이지만 @EventListener 역시도 동기적으로 작동하여 상관없음.
-        // Event 발생하여 Schedule 쪽으로 넘김
-        this.registerEvent(RecurrenceGroupEvent.updated(this)
-        );
+        // UPDATE 이후 다른 취소로 자리가 다시 생긴 경우도 정원 초과로 응답
+        return new RecurrenceException(RecurrenceErrorCode.CAPACITY_EXCEEDED);
     }
 
-    // 3. 프로그램형 수업 예약 취소
-    public void cancelCurriculumReservation() {
+    // 3. 프로그램형 수업 예약 취소 전 검증(잔여석은 조건부 UPDATE가 판정하므로 여기선 제외)
+    public void validateCurriculumCancellation() {
         validateCancellation();
-        checkCapacity();
+    }
 
-        // 1. 좌석 수 채우기
-        this.remainingCapacity++;
+    // 3-1. 좌석 원자적 복구 완료(remainingCapacity/status는 DB에서 이미 변경되어 refresh된 상태)
+    public void markCurriculumReleased() {
+        // Event 발생하여 Schedule 쪽으로 넘김
+        this.registerEvent(RecurrenceGroupEvent.updated(this));
+    }
 
-        // 2. 남은 좌석이 0 이상이라면 상태를 OPEN으로 변경
-        if (this.remainingCapacity > 0 && this.recurrenceStatus == RecurrenceStatus.CLOSED) {
-            this.recurrenceStatus = RecurrenceStatus.OPEN;
+    // 3-2. 좌석 원자적 복구 실패 사유 판정
+    public RecurrenceException curriculumCancellationFailure() {
+        if (this.recurrenceStatus == RecurrenceStatus.FINISHED ||
+                this.recurrenceStatus == RecurrenceStatus.CANCELLED) {
+            return new RecurrenceException(RecurrenceErrorCode.ALREADY_CLOSED_OR_FINISHED);
         }
-
-        // Event 발생하여 Schedule 쪽으로 넘김
-        this.registerEvent(RecurrenceGroupEvent.updated(this)
-        );
+        // 잔여석이 이미 정원만큼 비어있음 (오버플로우 방지)
+        return new RecurrenceException(RecurrenceErrorCode.CANCEL_CAPACITY_ERROR);
     }
 
     // 4. 트레이너가 전체수업을 취소
@@ -216,17 +225,6 @@ public class RecurrenceGroup extends AbstractAggregateRoot<RecurrenceGroup> {
         RecurrencePolicy.validateCreate(startDate, endDate, repeatDays);
     }
 
-    private void validateProgramReservation() {
-        if (this.recurrenceStatus != RecurrenceStatus.OPEN) {
-            throw new RecurrenceException(RecurrenceErrorCode.INVALID_STATUS);
-        }
-
-        if (remainingCapacity <= 0) {
-            throw new RecurrenceException(RecurrenceErrorCode.CAPACITY_EXCEEDED);
-        }
-        RecurrencePolicy.validateProgramReservation(recurrenceType, startDate);
-    }
-
     private void validateCancellation() {
         if (this.recurrenceStatus == RecurrenceStatus.FINISHED ||
                 this.recurrenceStatus == RecurrenceStatus.CANCELLED) {
@@ -235,12 +233,6 @@ public class RecurrenceGroup extends AbstractAggregateRoot<RecurrenceGroup> {
         RecurrencePolicy.validateCancellation(startDate);
     }
 
-    private void checkCapacity() {
-        if (this.remainingCapacity >= this.template.getCapacity()) {
-            throw new RecurrenceException(RecurrenceErrorCode.CANCEL_CAPACITY_ERROR);
-        }
-    }
-
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -1,12 +1,11 @@
 package com.gymproject.classmanagement.recurrence.infrastructure.persistence;
 
 import com.gymproject.classmanagement.recurrence.domain.entity.RecurrenceGroup;
-import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -15,11 +14,39 @@ import java.util.Optional;
 @Repository
 public interface RecurrenceGroupRepository extends JpaRepository<RecurrenceGroup, Long> {
 
-@Lock(LockModeType.PESSIMISTIC_WRITE)
-@Query("""
-SELECT r FROM RecurrenceGroup r WHERE r.groupId = :id
-""")
-  Optional<RecurrenceGroup>  findByIdWithLock(@Param("id") Long recurrenceGroupId);
+// 커리큘럼 좌석 차감(원자적): 잔여석 확인 + 차감 + OPEN -> CLOSED 전환을 단일 UPDATE로 처리
+// 조건(OPEN, 잔여석 > 0)을 만족하지 못하면 빈 결과를 반환함
+// RETURNING 결과를 받아야해서 @Modifying 대신 @Transactional을 명시
+@Transactional
+@Query(value = """
+    UPDATE "CLASS_RECURRENCE_GROUP_TB"
+    SET remaining_capacity = remaining_capacity - 1,
+        status = CASE WHEN remaining_capacity - 1 = 0 THEN 'CLOSED' ELSE status END,
+        updated_at = now()
+    WHERE group_id = :id
+    AND status = 'OPEN'
+    AND remaining_capacity > 0
+    RETURNING remaining_capacity AS "remainingCapacity", status
+""", nativeQuery = true)
+  Optional<RemainingSeat> reserveSeat(@Param("id") Long recurrenceGroupId);
+
+// 커리큘럼 좌석 복구(원자적): 잔여석 + 1 + CLOSED -> OPEN 전환을 단일 UPDATE로 처리
+// 잔여석이 템플릿 정원만큼 비어있거나 폐강/종료된 그룹이면 빈 결과를 반환함
+// 조회 후 저장 방식은 동시에 들어온 reserveSeat의 차감을 옛 잔여석으로 덮어씀
+@Transactional
+@Query(value = """
+    UPDATE "CLASS_RECURRENCE_GROUP_TB" g
+    SET remaining_capacity = g.remaining_capacity + 1,
+        status = CASE WHEN g.status = 'CLOSED' THEN 'OPEN' ELSE g.status END,
+        updated_at = now()
+    FROM "CLASS_TEMPLATE_TB" t
+    WHERE g.group_id = :id
+    AND t.template_id = g.class_template_id
+    AND g.status IN ('OPEN', 'CLOSED')
+    AND g.remaining_capacity < t.capacity
+    RETURNING g.remaining_capacity AS "remainingCapacity", g.status
+""", nativeQuery = true)
+  Optional<RemainingSeat> releaseSeat(@Param("id") Long recurrenceGroupId);
 
 @Query("""
     SELECT r FROM RecurrenceGroup r
@@ -32,6 +59,11 @@ SELECT r FROM RecurrenceGroup r WHERE r.groupId = :id
 }
 
 /*
+    [변경] PESSIMISTIC_WRITE -> 조건부 UPDATE
+    FOR UPDATE는 조회 시점부터 커밋까지 락을 잡고, 그 사이 포트 호출(스케줄 조회, 예약 저장)이 모두 대기열을 만듦.
+    조건부 UPDATE는 검사와 차감을 한 문장으로 끝내므로 예약 트랜잭션의 마지막에 실행하면
+    락은 UPDATE ~ 커밋 사이에만 잡힘.
+
     PESSIMISTIC_WRITE을 하는 이유
     DB 수준에서 SELECT ... FOR UPDATE 쿼리를 날림
 
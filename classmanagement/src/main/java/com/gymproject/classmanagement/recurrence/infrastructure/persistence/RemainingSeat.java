@@ -0,0 +1,8 @@
+package com.gymproject.classmanagement.recurrence.infrastructure.persistence;
+
+// 커리큘럼 좌석 차감/복구 UPDATE의 RETURNING 결과(변경 후 잔여석, 상태)
+public interface RemainingSeat {
+    int getRemainingCapacity();
+
+    String getStatus();
+}
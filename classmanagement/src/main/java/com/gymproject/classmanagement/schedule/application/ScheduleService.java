@@ -3,14 +3,18 @@ package com.gymproject.classmanagement.schedule.application;
 import com.gymproject.classmanagement.recurrence.domain.entity.RecurrenceGroup;
 import com.gymproject.classmanagement.schedule.application.dto.ScheduleResponse;
 import com.gymproject.classmanagement.schedule.domain.entity.Schedule;
+import com.gymproject.classmanagement.schedule.domain.event.ScheduleStatusSyncedEvent;
 import com.gymproject.classmanagement.schedule.domain.service.ScheduleGenerator;
 import com.gymproject.classmanagement.schedule.domain.service.ScheduleValidator;
+import com.gymproject.classmanagement.schedule.domain.type.ScheduleStatus;
 import com.gymproject.classmanagement.schedule.exception.ScheduleErrorCode;
 import com.gymproject.classmanagement.schedule.exception.ScheduleException;
 import com.gymproject.classmanagement.schedule.infrastructure.persistence.ScheduleRepository;
 import com.gymproject.common.dto.auth.UserAuthInfo;
 import com.gymproject.common.port.auth.IdentityQueryPort;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,6 +35,8 @@ public class ScheduleService {
     private final ScheduleValidator scheduleValidator;
     private final ScheduleGenerator scheduleGenerator;
     private final IdentityQueryPort identityQueryPort;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     // ==========================================================
     //  SECTION 1: Trainer Actions (트레이너 직접 요청)
@@ -40,15 +46,24 @@ public class ScheduleService {
     // 추가] Listener를 위한 로직(그룹 기반 스케줄 생성) Recurrnece 생성 -> Schedule 생성
     @Transactional
     public void createSchedulesFromGroup(RecurrenceGroup group) {
-        //1. 생성
-        List<Schedule> schedules = scheduleGenerator.generateSchedules(group, group.getTemplate());
-
-        if (schedules.isEmpty()) return;
-
-        // 2. 검증 (더블 체크가 되긴하지만 상관)
-        scheduleValidator.validateConflicts(group.getTrainerId(), schedules);
-
-        scheduleRepository.saveAll(schedules);
+        ScheduleValidator.Conflicts conflicts = new ScheduleValidator.Conflicts();
+
+        // 1. 생성 -> 2. 검증 -> 3. 저장을 chunk(50회차) 단위로 흘려보냄 (전체 회차를 한번에 들고 있지 않음)
+        scheduleGenerator.generateInChunks(group, group.getTemplate(), ScheduleGenerator.DEFAULT_CHUNK_SIZE, chunk -> {
+            // 2. 검증: 충돌은 모아두기만 함 (모든 chunk의 충돌을 한번에 알려주기 위해)
+            scheduleValidator.collectConflicts(group.getTrainerId(), chunk, conflicts);
+
+            // 3. 저장 (시퀀스 ID + JDBC 배치로 50건씩 묶어서 INSERT, CREATED 이벤트는 엔티티별로 발행됨)
+            // 저장한 chunk는 바로 flush 후 영속성 컨텍스트에서 비움 (1차 캐시에 전체 회차가 쌓이지 않음)
+            // 충돌이 하나라도 생기면 어차피 롤백되므로 그 뒤 chunk는 검사만 하고 저장하지 않음
+            if (conflicts.isEmpty()) {
+                scheduleRepository.saveAll(chunk);
+                flushAndClear();
+            }
+        });
+
+        // 4. 전체 회차의 충돌을 한번에 응답 (트랜잭션 롤백으로 앞서 저장한 chunk도 취소됨)
+        conflicts.throwIfAny();
     }
 
     // 1] 수업 취소(PERSONAL 수업) - 강제 취소(트레이너 요청)
@@ -111,9 +126,22 @@ public class ScheduleService {
     public void reserveRoutine(Long scheduleId){
         Schedule schedule = getSchedule(scheduleId);
 
-        // 0명까지 예약 가능 (Personal 수업 고려)
-        schedule.decreaseCount(0);
+        // 1. 정원과 무관한 규칙 검증(1:1 수업, 커리큘럼, 마감시간) - 0명까지 예약 가능 (Personal 수업 고려)
+        schedule.validateSeatReservation(0);
+
+        // 2. 조건부 단일 UPDATE로 좌석 차감 + OPEN -> CLOSED 전환
+        // 조회 후 저장(read-then-write) 방식은 동시에 capacity=1을 읽은 두 요청이 모두 통과함
+        boolean reserved = scheduleRepository.reserveSeat(scheduleId).isPresent();
+
+        // 3. 네이티브 UPDATE는 영속성 컨텍스트를 거치지 않으므로 엔티티를 DB 상태로 갱신
+        entityManager.refresh(schedule);
 
+        if (!reserved) {
+            throw schedule.seatReservationFailure();
+        }
+
+        // 4. 변경 이벤트 등록 후 save()로 발행 (변경된 필드가 없어 추가 UPDATE는 나가지 않음)
+        schedule.markSeatReserved();
         scheduleRepository.save(schedule);
     }
 
@@ -122,8 +150,17 @@ public class ScheduleService {
     public void cancelRoutineReservation(Long scheduleId){
         Schedule schedule = getSchedule(scheduleId);
 
-        schedule.increaseCount();
+        // 1. 조건부 단일 UPDATE로 좌석 복구 + CLOSED -> OPEN 전환 (예약과 같은 행을 같은 방식으로 변경)
+        boolean released = scheduleRepository.releaseSeat(scheduleId).isPresent();
+
+        // 2. 네이티브 UPDATE는 영속성 컨텍스트를 거치지 않으므로 엔티티를 DB 상태로 갱신
+        entityManager.refresh(schedule);
 
+        // 3. 1:1 수업(RESERVED)이거나 이미 정원만큼 비어있으면 복구할 좌석이 없음
+        if (!released) return;
+
+        // 4. 변경 이벤트 등록 후 save()로 발행
+        schedule.markSeatReleased();
         scheduleRepository.save(schedule);
     }
 
@@ -172,19 +209,41 @@ public class ScheduleService {
         }
     }
 
-    public void syncSchedulesWithGroup(Long recurrenceGroupId, RecurrenceGroup group) {
-        List<Schedule> schedules = scheduleRepository.findAllByRecurrenceGroupId(recurrenceGroupId);
-
-        if (schedules.isEmpty()) {
-            // 로직상 그룹은 있는데 스케줄이 하나도 없는 경우 (데이터 불일치 가능성 경고 로그 등을 남길 수 있음)
-            return;
-        }
-
-        for (Schedule schedule : schedules) {
-            schedule.mirrorParentStatus(group.getRemainingCapacity(), group.getRecurrenceStatus());
-        }
+    /*
+        [중요] chunk 저장 후 영속성 컨텍스트 비우기
+        - 비우지 않으면 저장한 스케줄이 전부 1차 캐시에 남아서, 긴 기간 그룹일수록 메모리와 flush 시 dirty checking 비용이 커짐
+        - flush로 INSERT를 먼저 보낸 뒤 비우므로 저장이 유실되지 않음 (롤백되면 함께 취소됨)
+        - CREATED 이벤트(ScheduleChangedEvent)는 saveAll 시점에 이미 발행되어 스케줄 객체를 들고 있음
+          커밋 후 번역기가 읽는 값(ID, 시간, 상태, 템플릿, 그룹 잔여석)은 모두 로딩이 끝난 값이라 분리(detached)되어도 읽을 수 있음
+          (템플릿은 생성기가 수업 시간을 읽으면서 이미 초기화함)
+        - 호출한 쪽의 그룹/템플릿도 분리되므로, 이 메서드 이후에 그 엔티티를 변경하면 저장되지 않음 (현재 생성 흐름은 응답만 만듦)
+     */
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
 
-        scheduleRepository.saveAll(schedules);
+    /// [중요] 커리큘럼 그룹 변경(예약/취소) 동기화
+    // 잔여석은 하위 스케줄에 복사하지 않음(Schedule.getRemainingCapacity가 그룹에서 읽음)
+    // 상태는 그룹이 OPEN <-> CLOSED로 바뀔 때만 UPDATE 한번으로 일괄 변경하고, 캘린더 이벤트도 한번만 발행
+    @Transactional
+    public void syncSchedulesWithGroup(Long recurrenceGroupId, RecurrenceGroup group) {
+        // 1. 그룹 상태 -> 스케줄 상태 (OPEN, CLOSED 외의 상태는 각자 흐름에서 처리)
+        ScheduleStatus status = switch (group.getRecurrenceStatus()) {
+            case OPEN -> ScheduleStatus.OPEN;
+            case CLOSED -> ScheduleStatus.CLOSED;
+            default -> null;
+        };
+        if (status == null) return;
+
+        // 2. 상태가 달라진 스케줄만 변경 (전환이 없는 예약이면 변경 0건)
+        List<Long> changedIds = scheduleRepository.syncStatusWithGroup(recurrenceGroupId, status.name());
+
+        if (changedIds.isEmpty()) return;
+
+        // 3. 변경된 스케줄을 하나의 이벤트로 묶어서 발행(커밋 후 ReadModel로 전달)
+        applicationEventPublisher.publishEvent(
+                new ScheduleStatusSyncedEvent(recurrenceGroupId, group.getTrainerId(), changedIds, status));
     }
 
 }
\ No newline at end of file
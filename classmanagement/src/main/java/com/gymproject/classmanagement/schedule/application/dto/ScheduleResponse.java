@@ -53,7 +53,7 @@ public class ScheduleResponse {
                 .end(schedule.getEndAt())
                 .status(schedule.getStatus())
                 .capacity(totalCapacity)
-                .currentBooked(totalCapacity - schedule.getCapacity()) // 예약된 수 계산
+                .currentBooked(totalCapacity - schedule.getRemainingCapacity()) // 예약된 수 계산
                 .build();
     }
 }
@@ -1,7 +1,6 @@
 package com.gymproject.classmanagement.schedule.domain.entity;
 
 import com.gymproject.classmanagement.recurrence.domain.entity.RecurrenceGroup;
-import com.gymproject.classmanagement.recurrence.domain.type.RecurrenceStatus;
 import com.gymproject.classmanagement.recurrence.domain.type.RecurrenceType;
 import com.gymproject.classmanagement.schedule.domain.event.ScheduleChangedEvent;
 import com.gymproject.classmanagement.schedule.domain.policy.SchedulePolicy;
@@ -31,8 +30,11 @@ import static com.gymproject.common.constant.GymTimePolicy.SERVICE_ZONE;
 @Getter
 public class Schedule extends AbstractAggregateRoot<Schedule> {
 
+    /// [중요] IDENTITY는 INSERT를 해야 ID를 알 수 있어서 JDBC 배치가 불가능함
+    // 연속수업 생성 시 수십~수백건을 한번에 저장하므로 시퀀스(50개씩 미리 할당) + 배치 INSERT 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "class_schedule_seq")
+    @SequenceGenerator(name = "class_schedule_seq", sequenceName = "CLASS_SCHEDULE_SEQ", allocationSize = 50)
     @Column(name = "class_schedule_id", nullable = false)
     private Long classScheduleId;
 
@@ -179,61 +181,43 @@ public class Schedule extends AbstractAggregateRoot<Schedule> {
         this.registerEvent(ScheduleChangedEvent.cancelled(this));
     }
 
-    // 5. 좌석 감소(Recurrence - Routine 용)
-    public void decreaseCount(int deadlineHours) {
-        validateReservation(deadlineHours);
-
-//        RecurrenceType type = (this.recurrenceGroup != null) ?
-//                this.recurrenceGroup.getRecurrenceType() : null;
-
-
-        this.capacity--;
-
-        // 이전에 정원이 다 차서 Closed 상태였다면, 자리가 생겼으므로 OPEN으로 바꿈
-        // 트레이너가 강제로 폐강한 경우는 건드리지 않음
-        if (this.capacity == 0 && this.status == ScheduleStatus.OPEN) {
-            this.status = ScheduleStatus.CLOSED;
+    // 5. 좌석 원자적 차감 전 검증(정원/상태는 조건부 UPDATE가 판정하므로 여기선 제외)
+    public void validateSeatReservation(int deadlineHours) {
+        if (this.status == ScheduleStatus.RESERVED) {
+            throw new ScheduleException(ScheduleErrorCode.ALREADY_RESERVED_PERSONAL);
         }
+        SchedulePolicy.validateReservation(getRecurrenceType(), this.getStartAt(), deadlineHours);
+    }
 
-        // 상태변경 이벤트 등록
+    // 5-1. 좌석 원자적 차감 완료(capacity/status는 DB에서 이미 변경되어 refresh된 상태)
+    public void markSeatReserved() {
         this.registerEvent(ScheduleChangedEvent.updated(this));
     }
 
-    // 6. 수업 좌석 복구
-    public void increaseCount() {
-        // 1:1 수업(RESERVED)은 이 로직을 타지 않도록 방어 (그룹 수업 전용)
-        if (this.status == ScheduleStatus.RESERVED) return;
-
-        this.capacity++;
-
-        // 정원이 꽉 차서 CLOSED였는데, 자리가 하나 생겼으므로 다시 OPEN으로 변경
-        // 트레이너가 강제로 폐강(CANCELLED)한 경우는 건드리지 않음
-        if (this.status == ScheduleStatus.CLOSED) {
-            this.status = ScheduleStatus.OPEN;
+    // 5-2. 좌석 원자적 차감 실패 사유 판정
+    public ScheduleException seatReservationFailure() {
+        if (this.status == ScheduleStatus.RESERVED) {
+            return new ScheduleException(ScheduleErrorCode.ALREADY_RESERVED_PERSONAL);
+        }
+        if (this.status != ScheduleStatus.OPEN && this.capacity > 0) {
+            return new ScheduleException(ScheduleErrorCode.INVALID_STATUS);
         }
+        // 잔여석 0, 또는 UPDATE 이후 다른 취소로 자리가 다시 생긴 경우 모두 정원 초과로 응답
+        return new ScheduleException(ScheduleErrorCode.CAPACITY_EXCEEDED);
+    }
 
-        // 상태 변경 이벤트 등록
+    // 6. 좌석 원자적 복구 완료(capacity/status는 DB에서 이미 변경되어 refresh된 상태)
+    public void markSeatReleased() {
         this.registerEvent(ScheduleChangedEvent.updated(this));
     }
 
-    // 7. 상태 미러링(Recurrence - Curriculum 전용)
-    public void mirrorParentStatus(int remainingCapacity,
-                                   RecurrenceStatus recurrenceStatus) {
-
-        validateMirroring();
-
-        // 남은 인원수를 그대로 복사 붙여넣기
-        this.capacity = remainingCapacity;
-
-        // 상태 바꾸기(부모가 닫히면 나도 닫히고, 부모가 열리면 나도 열림) 부모 = Recurrence
-        if (recurrenceStatus == RecurrenceStatus.CLOSED) {
-            this.status = ScheduleStatus.CLOSED;
-        } else if (recurrenceStatus == RecurrenceStatus.OPEN) {
-            this.status = ScheduleStatus.OPEN;
+    // 7. 잔여석 조회
+    // [중요] 커리큘럼 수업은 그룹의 잔여석이 원본이므로 하위 스케줄에 복사하지 않고 조회 시점에 그룹에서 읽음
+    public int getRemainingCapacity() {
+        if (getRecurrenceType() == RecurrenceType.CURRICULUM) {
+            return this.recurrenceGroup.getRemainingCapacity();
         }
-
-        // 이벤트 등록
-        this.registerEvent(ScheduleChangedEvent.updated(this));
+        return this.capacity;
     }
 
     // 9. 수업 종료 (스케줄러용 메서드)
@@ -285,22 +269,6 @@ public class Schedule extends AbstractAggregateRoot<Schedule> {
 
     // ============= validate wrappers (상태검증 + 정책검증)
 
-    private void validateReservation(int deadlineHours) {
-
-        if (this.status == ScheduleStatus.RESERVED) {
-            throw new ScheduleException(ScheduleErrorCode.ALREADY_RESERVED_PERSONAL);
-        }
-        if (this.capacity <= 0) {
-            throw new ScheduleException(ScheduleErrorCode.CAPACITY_EXCEEDED);
-        }
-        if (this.status != ScheduleStatus.OPEN) {
-            throw new ScheduleException(ScheduleErrorCode.INVALID_STATUS);
-        }
-
-        // 예약 가능한 시간/타입인지
-        SchedulePolicy.validateReservation(getRecurrenceType(), this.getStartAt(), deadlineHours);
-    }
-
     private void validateCancellationByTrainer(int deadlineHours, boolean isForce) {
         if (this.status == ScheduleStatus.CANCELLED || this.status == ScheduleStatus.FINISHED) {
             throw new ScheduleException(ScheduleErrorCode.ALREADY_CLOSED_OR_FINISHED);
@@ -308,10 +276,6 @@ public class Schedule extends AbstractAggregateRoot<Schedule> {
         SchedulePolicy.validateCancellationByTrainer(this.getStartAt(), deadlineHours, isForce);
     }
 
-    private void validateMirroring() {
-        SchedulePolicy.validateMirroring(this.getStartAt());
-    }
-
 
     @Override
     public boolean equals(Object o) {
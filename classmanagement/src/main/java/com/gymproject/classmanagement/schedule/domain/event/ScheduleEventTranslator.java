@@ -3,6 +3,7 @@ package com.gymproject.classmanagement.schedule.domain.event;
 import com.gymproject.classmanagement.schedule.domain.entity.Schedule;
 import com.gymproject.classmanagement.template.domain.entity.Template;
 import com.gymproject.common.event.domain.ScheduleEvent;
+import com.gymproject.common.event.domain.ScheduleStatusBatchEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -38,7 +39,7 @@ public class ScheduleEventTranslator {
         }
 
         // 3. 현재 예약된 인원 계산( 총원 - 잔여석)
-        long bookedCount = totalCapacity - schedule.getCapacity();
+        long bookedCount = totalCapacity - schedule.getRemainingCapacity();
 
         // 외부 이벤트객체로 매핑
         ScheduleEvent externalEvent =
@@ -57,4 +58,21 @@ public class ScheduleEventTranslator {
         applicationEventPublisher.publishEvent(externalEvent);
         log.info("✅ Step 4: 외부 이벤트 발행 완료");
     }
+
+    // 커리큘럼 하위 스케줄 일괄 상태 변경은 스케줄별로 쪼개지 않고 하나의 외부 이벤트로 발행
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void translate(ScheduleStatusSyncedEvent internalEvent) {
+        log.info("📢 [이벤트 도달] 커리큘럼 그룹 ID: {}, 스케줄 {}건 -> {}",
+                internalEvent.getRecurrenceGroupId(),
+                internalEvent.getScheduleIds().size(),
+                internalEvent.getStatus());
+
+        applicationEventPublisher.publishEvent(
+                new ScheduleStatusBatchEvent(
+                        internalEvent.getRecurrenceGroupId(),
+                        internalEvent.getTrainerId(),
+                        internalEvent.getScheduleIds(),
+                        internalEvent.getStatus().name()
+                ));
+    }
 }
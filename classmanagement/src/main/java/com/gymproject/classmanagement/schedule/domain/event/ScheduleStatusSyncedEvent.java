@@ -0,0 +1,17 @@
+package com.gymproject.classmanagement.schedule.domain.event;
+
+import com.gymproject.classmanagement.schedule.domain.type.ScheduleStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+// 커리큘럼 하위 스케줄 상태 일괄 변경(엔티티를 거치지 않는 set-based UPDATE 결과)
+@Getter
+@RequiredArgsConstructor
+public class ScheduleStatusSyncedEvent {
+    private final Long recurrenceGroupId;
+    private final Long trainerId;
+    private final List<Long> scheduleIds;
+    private final ScheduleStatus status;
+}
@@ -6,53 +6,117 @@ import com.gymproject.classmanagement.template.domain.entity.Template;
 import org.springframework.stereotype.Component;
 
 import java.time.*;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 @Component
 public class ScheduleGenerator {
 
+    // 한번에 넘겨주는 회차 수 (JDBC batch_size와 맞춤)
+    public static final int DEFAULT_CHUNK_SIZE = 50;
+
+    // timezoneId -> ZoneRules 캐시 (ZoneId.of 파싱과 규칙 조회를 그룹마다 반복하지 않음)
+    private final Map<String, ZoneRules> zoneRulesCache = new ConcurrentHashMap<>();
+
+    // 전체 회차를 한번에 받는 경우 (내부적으로는 chunk 단위 생성을 모아서 반환)
     public List<Schedule> generateSchedules(RecurrenceGroup group, Template template) {
         List<Schedule> results = new ArrayList<>();
+        generateInChunks(group, template, DEFAULT_CHUNK_SIZE, results::addAll);
+        return results;
+    }
 
-        LocalDate startDate = group.getStartDate(); // 반복 시작일 (예: 2025-12-01)
+    /// [중요] 반복 요일만 골라서 건너뛰며 생성하고, chunkSize개씩 consumer(검증/저장)로 흘려보냄
+    // 기존: 시작일~종료일을 하루씩 돌면서 List.contains로 요일 비교, 전체를 하나의 ArrayList에 모음
+    public void generateInChunks(RecurrenceGroup group, Template template,
+                                 int chunkSize, Consumer<List<Schedule>> consumer) {
         LocalDate endDate = group.getEndDate(); // 반복 종료일 (예: 2026-02-28)
         LocalTime startTime = group.getStartTime(); // 순수한 시각 (예: 10:00:00)
+        int durationMinutes = template.getDurationMinutes();
 
-        // TimezoneId가 유효한지 검사
-        ZoneId zoneId = ZoneId.of(group.getTimezoneId());
-        // 시작일부터 종료일까지 하루씩 증가
-        while (!startDate.isAfter(endDate)) {
-            // 요일 일치 여부 확인 -> getDayOfWeek() 하면 특정 날짜를 요일 ENum으로 바꿔줌. 출력형태는 SUNDAY...
-            if (group.getRepeatDays().contains(startDate.getDayOfWeek())) {
+        // 1. 반복 요일 -> 비트마스크 -> 요일별 다음 수업까지의 간격
+        int mask = toMask(group.getRepeatDays());
+        int[] nextStep = nextStepTable(mask);
+        if (nextStep == null) return; // 반복 요일 없음
 
-                // 1. Local Date/Time + ZoneId = OffsetDateTime 생성
-                ZonedDateTime zdtStart = ZonedDateTime.of(startDate, startTime, zoneId);
-                // 2. 절대 시점(OffsetDateTime)으로 변환
-                OffsetDateTime startAt = zdtStart.toOffsetDateTime();
-                // 수업 종료시간까지 계산
-                OffsetDateTime endAt = startAt.plusMinutes(group.getTemplate().getDurationMinutes());
+        // TimezoneId가 유효한지 검사 + 규칙 캐싱
+        ZoneRules rules = zoneRulesCache.computeIfAbsent(group.getTimezoneId(), id -> ZoneId.of(id).getRules());
+
+        // 2. 시작일 이후 첫 수업일로 이동
+        LocalDate date = group.getStartDate(); // 반복 시작일 (예: 2025-12-01)
+        if (!matches(mask, date.getDayOfWeek())) {
+            date = date.plusDays(nextStep[date.getDayOfWeek().getValue() - 1]);
+        }
 
-                // 3. 엔티티 생성 -> 빌더 패턴을 정적 팩토리 메서드로
-//                Schedule schedule = Schedule.builder()
-//                        .trainerId(group.getTrainerId())
-//                        .template(template)
-//                        .startAt(startAt)
-//                        .endAt(endAt)
-//                        .status(ScheduleStatus.OPEN) // 초기 상태
-//                        .capacity(template.getCapacity())
-//                        .recurrenceGroup(group)
-//                        .build();
-                Schedule schedule = Schedule.createRecurrence(
-                        group, template, startAt, endAt
-                );
+        // 3. 수업일만 건너뛰며 생성
+        List<Schedule> chunk = new ArrayList<>(chunkSize);
+        while (!date.isAfter(endDate)) {
+            OffsetDateTime startAt = toOffsetDateTime(date.atTime(startTime), rules);
+            // 수업 종료시간까지 계산
+            OffsetDateTime endAt = startAt.plusMinutes(durationMinutes);
 
-                results.add(schedule);
+            chunk.add(Schedule.createRecurrence(group, template, startAt, endAt));
+
+            if (chunk.size() == chunkSize) {
+                consumer.accept(chunk);
+                chunk = new ArrayList<>(chunkSize);
             }
-            startDate = startDate.plusDays(1);
+            date = date.plusDays(nextStep[date.getDayOfWeek().getValue() - 1]);
         }
-        return results;
 
+        if (!chunk.isEmpty()) {
+            consumer.accept(chunk);
+        }
+    }
+
+    // ============ 헬퍼
+
+    // 월요일 = 1번째 비트 ... 일요일 = 7번째 비트
+    private static int toMask(List<DayOfWeek> repeatDays) {
+        int mask = 0;
+        for (DayOfWeek day : repeatDays) {
+            mask |= 1 << (day.getValue() - 1);
+        }
+        return mask;
+    }
+
+    private static boolean matches(int mask, DayOfWeek day) {
+        return (mask & (1 << (day.getValue() - 1))) != 0;
+    }
+
+    // 요일별로 "다음 수업 요일까지 며칠인지" 미리 계산 (1~7일)
+    private static int[] nextStepTable(int mask) {
+        if (mask == 0) return null;
+
+        int[] steps = new int[7];
+        for (int day = 0; day < 7; day++) {
+            int step = 1;
+            while ((mask & (1 << ((day + step) % 7))) == 0) {
+                step++;
+            }
+            steps[day] = step;
+        }
+        return steps;
+    }
+
+    /**
+     * Local Date/Time + ZoneRules -> 절대 시점(OffsetDateTime)
+     * 회차마다 그날의 오프셋을 계산하므로 서머타임(DST) 전후로 오프셋이 달라짐.
+     * ZonedDateTime.of와 같은 규칙으로 처리함
+     * - 시간이 건너뛰어지는 구간(gap): 건너뛴 만큼 뒤로 밀고 바뀐 오프셋 사용
+     * - 시간이 겹치는 구간(overlap): 이전 오프셋 사용
+     */
+    private static OffsetDateTime toOffsetDateTime(LocalDateTime local, ZoneRules rules) {
+        ZoneOffsetTransition transition = rules.getTransition(local);
+        if (transition != null && transition.isGap()) {
+            return local.plusSeconds(transition.getDuration().getSeconds())
+                    .atOffset(transition.getOffsetAfter());
+        }
+        return local.atOffset(rules.getOffset(local));
     }
 }
 
@@ -3,13 +3,19 @@ package com.gymproject.classmanagement.schedule.domain.service;
 import com.gymproject.classmanagement.schedule.domain.entity.Schedule;
 import com.gymproject.classmanagement.schedule.exception.ScheduleErrorCode;
 import com.gymproject.classmanagement.schedule.exception.ScheduleException;
+import com.gymproject.classmanagement.schedule.infrastructure.cache.TrainerBusyIndex;
 import com.gymproject.classmanagement.schedule.infrastructure.persistence.ScheduleRepository;
 import com.gymproject.common.port.booking.TimeOffQueryPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+
+import static com.gymproject.common.constant.GymTimePolicy.SERVICE_ZONE;
 
 @Component
 @RequiredArgsConstructor
@@ -17,34 +23,92 @@ public class ScheduleValidator {
 
     private final ScheduleRepository scheduleRepository;
     private final TimeOffQueryPort timeOffQueryPort;
+    private final TrainerBusyIndex trainerBusyIndex;
+
+    private static final DateTimeFormatter CONFLICT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
     ///  연속수업 생성시 검증
+    // [중요] 후보 시간대를 전부 배열로 넘겨 수업/휴무 각각 쿼리 한번으로 검사 (기존: 회차마다 2번씩 조회)
+    // 첫 충돌에서 멈추지 않고 겹치는 회차를 모두 모아서 한번에 알려줌
     public void validateConflicts(Long trainerId, List<Schedule> newSchedules) {
+        Conflicts conflicts = new Conflicts();
+        collectConflicts(trainerId, newSchedules, conflicts);
+        conflicts.throwIfAny();
+    }
+
+    // 회차를 chunk로 나눠 검사하는 경우: 충돌을 conflicts에 모으기만 하고 던지지 않음
+    // (chunk마다 던지면 뒤 chunk의 충돌은 알 수 없으므로, 모든 chunk를 검사한 뒤 conflicts.throwIfAny()로 한번에 응답)
+    public void collectConflicts(Long trainerId, List<Schedule> newSchedules, Conflicts conflicts) {
         if (newSchedules == null || newSchedules.isEmpty()) return;
 
-        for (Schedule schedule : newSchedules) {
-            // [중요] N+1 문제 발생
-            boolean hasConflict = scheduleRepository.existsConflict(
-                    trainerId,
-                    schedule.getStartAt(),
-                    schedule.getEndAt()
-            );
+        List<OffsetDateTime> startAts = newSchedules.stream().map(Schedule::getStartAt).toList();
+        List<OffsetDateTime> endAts = newSchedules.stream().map(Schedule::getEndAt).toList();
 
-            if (hasConflict) {
-                throw new ScheduleException(ScheduleErrorCode.SCHEDULE_CONFLICT , schedule.getStartAt());
-            }
+        // 1. 기존 수업과 겹치는 회차 (순번은 1부터 시작)
+        scheduleRepository.findConflictingOrdinals(
+                        trainerId,
+                        startAts.toArray(OffsetDateTime[]::new),
+                        endAts.toArray(OffsetDateTime[]::new))
+                .forEach(ordinal -> conflicts.schedules.add(startAts.get(ordinal.intValue() - 1)));
 
-            timeOffQueryPort.validateNoTimeOffOverlap(trainerId,schedule.getStartAt(),schedule.getEndAt());
-        }
+        // 2. 휴무와 겹치는 회차
+        conflicts.timeOffs.addAll(timeOffQueryPort.findTimeOffOverlaps(trainerId, startAts, endAts));
     }
 
     /// 1:1 예약 시 (단건 검증)
     public void validateConflict(Long trainerId, OffsetDateTime startAt, OffsetDateTime endAt) {
+        // 1. 트레이너별 인메모리 인덱스 조회
+        Optional<TrainerBusyIndex.Conflict> indexed = trainerBusyIndex.findConflict(trainerId, startAt, endAt);
+
+        // 2. 이 서버의 이벤트로 확인된 구간과 겹치면 DB 조회 없이 거절
+        // (다른 서버에서 취소된 경우는 인덱스 TTL 안에서만 잘못 거절될 수 있음, 저장은 no_schedule_overlap이 최종 판단)
+        if (indexed.isPresent() && indexed.get().confirmed()) {
+            throw new ScheduleException(indexed.get().type() == TrainerBusyIndex.BusyType.SCHEDULE
+                    ? ScheduleErrorCode.SCHEDULE_CONFLICT
+                    : ScheduleErrorCode.TIME_OFF_CONFLICT);
+        }
+
+        // 3. 인덱스 미스 또는 확인되지 않은 구간 -> DB로 확인
         boolean hasConflict = scheduleRepository.existsConflict(
                 trainerId, startAt, endAt);
         if (hasConflict) throw new ScheduleException(ScheduleErrorCode.SCHEDULE_CONFLICT);
 
-        timeOffQueryPort.validateNoTimeOffOverlap(trainerId,startAt,endAt);
+        timeOffQueryPort.validateNoTimeOffOverlap(trainerId, startAt, endAt);
+
+        // 4. 인덱스는 충돌이라고 했는데 DB에는 없음 -> 오래된 인덱스이므로 버림
+        if (indexed.isPresent()) {
+            trainerBusyIndex.evict(trainerId);
+        }
+    }
+
+    // 연속수업 회차들의 충돌 모음 (수업 충돌, 휴무 충돌 시작시간)
+    public static final class Conflicts {
+        private final List<OffsetDateTime> schedules = new ArrayList<>();
+        private final List<OffsetDateTime> timeOffs = new ArrayList<>();
+
+        public boolean isEmpty() {
+            return schedules.isEmpty() && timeOffs.isEmpty();
+        }
+
+        // 충돌 목록 전체를 한번에 응답
+        public void throwIfAny() {
+            if (isEmpty()) return;
+
+            String detail = "수업 충돌 " + format(schedules) + ", 휴무 충돌 " + format(timeOffs);
+            ScheduleErrorCode errorCode = schedules.isEmpty()
+                    ? ScheduleErrorCode.TIME_OFF_CONFLICT
+                    : ScheduleErrorCode.SCHEDULE_CONFLICT;
+
+            throw new ScheduleException(errorCode, detail);
+        }
+    }
+
+    // 충돌 시간은 체육관 시간대로 변환하여 표시
+    private static String format(List<OffsetDateTime> conflicts) {
+        return conflicts.stream()
+                .map(startAt -> startAt.atZoneSameInstant(SERVICE_ZONE).toLocalDateTime().format(CONFLICT_FORMAT))
+                .toList()
+                .toString();
     }
 
 }
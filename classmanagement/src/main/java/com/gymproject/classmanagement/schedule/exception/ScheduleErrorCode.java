@@ -26,7 +26,8 @@ public enum ScheduleErrorCode {
 
     // Mirroring
     CANNOT_CHANGE_PAST_SCHEDULE("이미 시작되었거나 지난 수업의 상태는 변경할 수 없습니다.", 400, "SCHEDULE_PAST_IMMUTABLE"),
-    SCHEDULE_CONFLICT("해당 시간에 이미 수업 일정이 존재합니다.", 409, "TIMEOFF_SCHEDULE_CONFLICT");
+    SCHEDULE_CONFLICT("해당 시간에 이미 수업 일정이 존재합니다.", 409, "TIMEOFF_SCHEDULE_CONFLICT"),
+    TIME_OFF_CONFLICT("해당 시간에 휴무가 등록되어 있습니다.", 409, "TIMEOFF_CONFLICT");
 
     private final String message;
     private final int statusCode;
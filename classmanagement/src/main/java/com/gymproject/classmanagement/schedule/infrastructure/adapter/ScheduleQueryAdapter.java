@@ -111,7 +111,7 @@ public class ScheduleQueryAdapter implements ScheduleQueryPort {
                 schedule.getStartAt(),
                 schedule.getEndAt(),
                 schedule.getStatus().name(),
-                schedule.getCapacity(),
+                schedule.getRemainingCapacity(),
                 schedule.getTemplate() == null ? "1:1 수업" : schedule.getTemplate().getTitle()
         );
     }
@@ -0,0 +1,283 @@
+package com.gymproject.classmanagement.schedule.infrastructure.cache;
+
+import com.gymproject.classmanagement.schedule.infrastructure.persistence.ScheduleRepository;
+import com.gymproject.common.port.booking.TimeOffQueryPort;
+import com.gymproject.common.util.GymDateUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 트레이너별 바쁜 시간대(스케줄, 휴무) 인메모리 인덱스
+ * - 처음 조회할 때 DB에서 적재하고, 이후에는 ScheduleEvent / TimeOffEvent로 갱신함
+ * - 이 서버의 이벤트로 확인된(confirmed) 구간과 겹치면 DB 조회 없이 바로 거절
+ * - DB에서 적재한 구간은 다른 서버에서 취소됐을 수 있으므로 겹쳐도 DB로 확인 (DB에 없으면 evict 후 재적재)
+ * - 겹치지 않으면(miss) 다른 서버가 만든 일정이 있을 수 있으므로 DB로 확인
+ * - 최종 판단은 DB(no_schedule_overlap 제약조건)가 함
+ */
+@Slf4j
+@Component
+public class TrainerBusyIndex {
+
+    // 다른 서버에서 바뀐 내용은 이벤트로 오지 않으므로 일정 시간이 지나면 다시 적재
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final ScheduleRepository scheduleRepository;
+    private final TimeOffQueryPort timeOffQueryPort;
+
+    private final Map<Long, BusySlots> slotsByTrainer = new ConcurrentHashMap<>();
+    // 트레이너별 변경 버전(적재 도중 이벤트가 들어오면 적재 결과를 버리기 위함)
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    private final Counter savedCounter;
+    private final Counter unconfirmedCounter;
+    private final Counter missCounter;
+    private final Counter warmCounter;
+    private final Counter staleCounter;
+
+    public TrainerBusyIndex(ScheduleRepository scheduleRepository,
+                            TimeOffQueryPort timeOffQueryPort,
+                            MeterRegistry meterRegistry) {
+        this.scheduleRepository = scheduleRepository;
+        this.timeOffQueryPort = timeOffQueryPort;
+        this.savedCounter = Counter.builder("schedule.conflict.index")
+                .description("이벤트로 확인된 구간과 겹쳐서 DB 조회 없이 거절한 횟수 (생략한 DB 조회 수)")
+                .tag("result", "saved")
+                .register(meterRegistry);
+        this.unconfirmedCounter = Counter.builder("schedule.conflict.index")
+                .description("DB에서 적재한 구간과 겹쳐서 DB로 확인한 횟수")
+                .tag("result", "unconfirmed")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("schedule.conflict.index")
+                .description("인덱스에서 충돌이 없어서 DB로 확인한 횟수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.warmCounter = Counter.builder("schedule.conflict.index.warm")
+                .description("트레이너 인덱스를 DB에서 적재한 횟수")
+                .register(meterRegistry);
+        this.staleCounter = Counter.builder("schedule.conflict.index.stale")
+                .description("인덱스는 충돌이라고 했지만 DB에는 없어서 인덱스를 버린 횟수")
+                .register(meterRegistry);
+        meterRegistry.gauge("schedule.conflict.index.trainers", slotsByTrainer, Map::size);
+    }
+
+    public enum BusyType {
+        SCHEDULE, TIME_OFF
+    }
+
+    // 겹친 구간의 종류 + 이 서버의 이벤트로 확인된 구간인지 (confirmed면 DB 조회 없이 거절해도 됨)
+    public record Conflict(BusyType type, boolean confirmed) {
+    }
+
+    // 1] 충돌 조회: 겹치는 바쁜 시간대, 없으면 empty (confirmed가 아니면 DB로 확인해야함)
+    public Optional<Conflict> findConflict(Long trainerId, OffsetDateTime startAt, OffsetDateTime endAt) {
+        BusySlots slots = getOrWarm(trainerId);
+        if (slots == null) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+
+        long start = startAt.toInstant().toEpochMilli();
+        long end = endAt.toInstant().toEpochMilli();
+
+        Optional<Conflict> conflict = slots.findConflict(start, end);
+        if (conflict.isEmpty()) {
+            missCounter.increment();
+        } else if (conflict.get().confirmed()) {
+            savedCounter.increment();
+        } else {
+            unconfirmedCounter.increment();
+        }
+        return conflict;
+    }
+
+    // 2] 스케줄 변경 반영 (취소되면 제거, 커밋된 이벤트로 추가된 구간은 confirmed)
+    public void applySchedule(Long trainerId, Long scheduleId,
+                              OffsetDateTime startAt, OffsetDateTime endAt, boolean active) {
+        version(trainerId).incrementAndGet();
+        slotsByTrainer.computeIfPresent(trainerId, (id, slots) -> active
+                ? slots.withSchedule(scheduleId, toInterval(startAt, endAt))
+                : slots.withoutSchedule(scheduleId));
+    }
+
+    // 3] 휴무 변경 반영 (취소되면 제거)
+    public void applyTimeOff(Long trainerId, Long timeOffId,
+                             OffsetDateTime startAt, OffsetDateTime endAt, boolean active) {
+        version(trainerId).incrementAndGet();
+        slotsByTrainer.computeIfPresent(trainerId, (id, slots) -> active
+                ? slots.withTimeOff(timeOffId, toInterval(startAt, endAt))
+                : slots.withoutTimeOff(timeOffId));
+    }
+
+    // 4] 인덱스가 DB와 다른 것이 확인되면 버림 (다음 조회 때 DB에서 다시 적재)
+    public void evict(Long trainerId) {
+        version(trainerId).incrementAndGet();
+        if (slotsByTrainer.remove(trainerId) != null) {
+            staleCounter.increment();
+        }
+    }
+
+    // ============ 헬퍼
+
+    private BusySlots getOrWarm(Long trainerId) {
+        OffsetDateTime now = GymDateUtil.now();
+        BusySlots cached = slotsByTrainer.get(trainerId);
+        if (cached != null && cached.loadedAt.plus(TTL).isAfter(now)) {
+            return cached;
+        }
+
+        // 1. 적재 시작 시점의 버전 기록
+        long version = version(trainerId).get();
+
+        // 2. 지금 이후에 끝나는 스케줄/휴무만 적재
+        // 적재한 구간은 confirmed가 아님 (적재 이후 다른 서버에서 취소됐을 수 있음)
+        Map<Long, long[]> schedules = new HashMap<>();
+        scheduleRepository.findActiveIntervalsEndingAfter(trainerId, now)
+                .forEach(s -> schedules.put(s.getScheduleId(), new long[]{s.getStartMillis(), s.getEndMillis()}));
+
+        Map<Long, long[]> timeOffs = new HashMap<>();
+        timeOffQueryPort.findActiveTimeOffs(trainerId, now)
+                .forEach(t -> timeOffs.put(t.timeOffId(), toInterval(t.startAt(), t.endAt())));
+
+        warmCounter.increment();
+        BusySlots loaded = new BusySlots(schedules, Set.of(), timeOffs, Set.of(), now);
+
+        // 3. 적재 도중 이벤트가 들어왔으면 방금 읽은 값이 오래됐을 수 있으므로 버림 (이번 요청은 DB로 확인)
+        BusySlots installed = slotsByTrainer.compute(trainerId, (id, current) ->
+                version(trainerId).get() == version ? loaded : current);
+
+        return installed == loaded ? loaded : null;
+    }
+
+    private AtomicLong version(Long trainerId) {
+        return versions.computeIfAbsent(trainerId, id -> new AtomicLong());
+    }
+
+    private static long[] toInterval(OffsetDateTime startAt, OffsetDateTime endAt) {
+        return new long[]{startAt.toInstant().toEpochMilli(), endAt.toInstant().toEpochMilli()};
+    }
+
+    /**
+     * 한 트레이너의 바쁜 시간대 스냅샷(불변)
+     * 변경 시 새 스냅샷을 만들어 교체하므로 조회 쪽은 락 없이 읽음
+     * 조회용으로 [시작, 종료) 구간을 시작 시간순으로 정렬 + 겹치는 구간을 합쳐둠 -> 이진 탐색
+     * confirmed 구간(이벤트로 추가된 것)은 따로 합쳐두고 먼저 확인함
+     */
+    private static final class BusySlots {
+        private final Map<Long, long[]> schedules;
+        private final Set<Long> confirmedSchedules;
+        private final Map<Long, long[]> timeOffs;
+        private final Set<Long> confirmedTimeOffs;
+        private final long[][] mergedSchedules;
+        private final long[][] mergedConfirmedSchedules;
+        private final long[][] mergedTimeOffs;
+        private final long[][] mergedConfirmedTimeOffs;
+        private final OffsetDateTime loadedAt;
+
+        private BusySlots(Map<Long, long[]> schedules, Set<Long> confirmedSchedules,
+                          Map<Long, long[]> timeOffs, Set<Long> confirmedTimeOffs,
+                          OffsetDateTime loadedAt) {
+            this.schedules = schedules;
+            this.confirmedSchedules = confirmedSchedules;
+            this.timeOffs = timeOffs;
+            this.confirmedTimeOffs = confirmedTimeOffs;
+            this.mergedSchedules = merge(schedules.values());
+            this.mergedConfirmedSchedules = merge(select(schedules, confirmedSchedules));
+            this.mergedTimeOffs = merge(timeOffs.values());
+            this.mergedConfirmedTimeOffs = merge(select(timeOffs, confirmedTimeOffs));
+            this.loadedAt = loadedAt;
+        }
+
+        Optional<Conflict> findConflict(long start, long end) {
+            // 1. DB 조회 없이 거절할 수 있는 구간부터
+            if (overlaps(mergedConfirmedSchedules, start, end)) return Optional.of(new Conflict(BusyType.SCHEDULE, true));
+            if (overlaps(mergedConfirmedTimeOffs, start, end)) return Optional.of(new Conflict(BusyType.TIME_OFF, true));
+            // 2. 적재한 구간 (DB 확인 필요)
+            if (overlaps(mergedSchedules, start, end)) return Optional.of(new Conflict(BusyType.SCHEDULE, false));
+            if (overlaps(mergedTimeOffs, start, end)) return Optional.of(new Conflict(BusyType.TIME_OFF, false));
+            return Optional.empty();
+        }
+
+        BusySlots withSchedule(Long id, long[] interval) {
+            Map<Long, long[]> copy = new HashMap<>(schedules);
+            copy.put(id, interval);
+            return new BusySlots(copy, plus(confirmedSchedules, id), timeOffs, confirmedTimeOffs, loadedAt);
+        }
+
+        BusySlots withoutSchedule(Long id) {
+            if (!schedules.containsKey(id)) return this;
+            Map<Long, long[]> copy = new HashMap<>(schedules);
+            copy.remove(id);
+            return new BusySlots(copy, minus(confirmedSchedules, id), timeOffs, confirmedTimeOffs, loadedAt);
+        }
+
+        BusySlots withTimeOff(Long id, long[] interval) {
+            Map<Long, long[]> copy = new HashMap<>(timeOffs);
+            copy.put(id, interval);
+            return new BusySlots(schedules, confirmedSchedules, copy, plus(confirmedTimeOffs, id), loadedAt);
+        }
+
+        BusySlots withoutTimeOff(Long id) {
+            if (!timeOffs.containsKey(id)) return this;
+            Map<Long, long[]> copy = new HashMap<>(timeOffs);
+            copy.remove(id);
+            return new BusySlots(schedules, confirmedSchedules, copy, minus(confirmedTimeOffs, id), loadedAt);
+        }
+
+        private static List<long[]> select(Map<Long, long[]> intervals, Set<Long> ids) {
+            return ids.stream().map(intervals::get).filter(Objects::nonNull).toList();
+        }
+
+        private static Set<Long> plus(Set<Long> ids, Long id) {
+            Set<Long> copy = new HashSet<>(ids);
+            copy.add(id);
+            return copy;
+        }
+
+        private static Set<Long> minus(Set<Long> ids, Long id) {
+            if (!ids.contains(id)) return ids;
+            Set<Long> copy = new HashSet<>(ids);
+            copy.remove(id);
+            return copy;
+        }
+
+        // [0] = 시작 목록, [1] = 종료 목록 (둘 다 오름차순, 구간끼리 겹치지 않음)
+        private static long[][] merge(Collection<long[]> intervals) {
+            List<long[]> sorted = new ArrayList<>(intervals);
+            sorted.sort(Comparator.comparingLong(interval -> interval[0]));
+
+            long[] starts = new long[sorted.size()];
+            long[] ends = new long[sorted.size()];
+            int size = 0;
+            for (long[] interval : sorted) {
+                if (size > 0 && interval[0] <= ends[size - 1]) {
+                    ends[size - 1] = Math.max(ends[size - 1], interval[1]);
+                } else {
+                    starts[size] = interval[0];
+                    ends[size] = interval[1];
+                    size++;
+                }
+            }
+            return new long[][]{Arrays.copyOf(starts, size), Arrays.copyOf(ends, size)};
+        }
+
+        // [start, end)와 겹치는 구간이 있는지: start < 기존 종료 && end > 기존 시작
+        private static boolean overlaps(long[][] merged, long start, long end) {
+            long[] starts = merged[0];
+            long[] ends = merged[1];
+
+            // end보다 먼저 시작하는 마지막 구간
+            int index = Arrays.binarySearch(starts, end);
+            int candidate = (index >= 0 ? index : -index - 1) - 1;
+
+            return candidate >= 0 && ends[candidate] > start;
+        }
+    }
+}
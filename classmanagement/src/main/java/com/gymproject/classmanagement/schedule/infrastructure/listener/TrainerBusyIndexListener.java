@@ -0,0 +1,38 @@
+package com.gymproject.classmanagement.schedule.infrastructure.listener;
+
+import com.gymproject.classmanagement.schedule.infrastructure.cache.TrainerBusyIndex;
+import com.gymproject.common.event.domain.ScheduleEvent;
+import com.gymproject.common.event.domain.TimeOffEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// 커밋된 스케줄/휴무 변경을 충돌 인덱스에 반영 (두 이벤트 모두 AFTER_COMMIT 이후에 발행됨 -> 추가된 구간은 DB 조회 없이 거절에 사용)
+@Component
+@RequiredArgsConstructor
+public class TrainerBusyIndexListener {
+
+    private final TrainerBusyIndex trainerBusyIndex;
+
+    @EventListener
+    public void handle(ScheduleEvent event) {
+        trainerBusyIndex.applySchedule(
+                event.trainerId(),
+                event.scheduleId(),
+                event.startAt(),
+                event.endAt(),
+                !"CANCELLED".equals(event.status())
+        );
+    }
+
+    @EventListener
+    public void handle(TimeOffEvent event) {
+        trainerBusyIndex.applyTimeOff(
+                event.trainerId(),
+                event.timeOffId(),
+                event.startAt(),
+                event.endAt(),
+                !"CANCELLED".equals(event.eventType())
+        );
+    }
+}
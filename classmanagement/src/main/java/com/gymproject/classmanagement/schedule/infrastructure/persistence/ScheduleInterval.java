@@ -0,0 +1,10 @@
+package com.gymproject.classmanagement.schedule.infrastructure.persistence;
+
+// 충돌 인덱스 적재용 스케줄 시간대 ([시작, 종료) epoch millis)
+public interface ScheduleInterval {
+    Long getScheduleId();
+
+    long getStartMillis();
+
+    long getEndMillis();
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
@@ -51,6 +52,73 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
             @Param("startAt") OffsetDateTime startAt,
             @Param("endAt") OffsetDateTime endAt);
 
+    // from 이후에 끝나는 유효한(취소되지 않은) 스케줄의 시간대만 조회 (충돌 인덱스 적재용)
+    // 예약 트랜잭션 안에서 호출되므로 엔티티 대신 (ID, 시작, 종료)만 읽어서 영속성 컨텍스트에 올리지 않음
+    @Query(value = """
+                SELECT s.class_schedule_id AS "scheduleId",
+                       CAST(extract(epoch FROM lower(s.time_range)) * 1000 AS bigint) AS "startMillis",
+                       CAST(extract(epoch FROM upper(s.time_range)) * 1000 AS bigint) AS "endMillis"
+                FROM "CLASS_SCHEDULE_TB" s
+                WHERE s.trainer_id = :trainerId
+                AND s.status != 'CANCELLED'
+                AND upper(s.time_range) > CAST(:from AS timestamptz)
+            """, nativeQuery = true)
+    List<ScheduleInterval> findActiveIntervalsEndingAfter(@Param("trainerId") Long trainerId,
+                                                          @Param("from") OffsetDateTime from);
+
+    // 여러 후보 시간대 충돌 일괄 검사(연속수업 생성용)
+    // 후보 시간대를 배열로 한번에 넘겨 unnest로 펼치고, 겹치는 후보의 순번(1부터)만 반환함
+    @Query(value = """
+                SELECT c.idx
+                FROM unnest(CAST(:startAts AS timestamptz[]), CAST(:endAts AS timestamptz[]))
+                     WITH ORDINALITY AS c(start_at, end_at, idx)
+                WHERE EXISTS (
+                    SELECT 1 FROM "CLASS_SCHEDULE_TB" s
+                    WHERE s.trainer_id = :trainerId
+                    AND s.status != 'CANCELLED'
+                    AND s.time_range && tstzrange(c.start_at, c.end_at, '[)')
+                )
+                ORDER BY c.idx
+            """, nativeQuery = true)
+    List<Long> findConflictingOrdinals(@Param("trainerId") Long trainerId,
+                                       @Param("startAts") OffsetDateTime[] startAts,
+                                       @Param("endAts") OffsetDateTime[] endAts);
+
+    // 루틴 수업 좌석 차감(원자적): 정원 확인 + 차감 + OPEN -> CLOSED 전환을 단일 UPDATE로 처리
+    // 조건(OPEN, 잔여석 > 0)을 만족하지 못하면 빈 결과를 반환함
+    // @Modifying은 executeUpdate()를 사용해서 RETURNING 결과를 받을 수 없으므로 붙이지 않음
+    // 대신 기본 readOnly 트랜잭션에서 실행되지 않도록 @Transactional을 명시
+    @Transactional
+    @Query(value = """
+                UPDATE "CLASS_SCHEDULE_TB"
+                SET capacity = capacity - 1,
+                    status = CASE WHEN capacity - 1 = 0 THEN 'CLOSED' ELSE status END,
+                    updated_at = now()
+                WHERE class_schedule_id = :scheduleId
+                AND status = 'OPEN'
+                AND capacity > 0
+                RETURNING capacity, status
+            """, nativeQuery = true)
+    Optional<SeatReservation> reserveSeat(@Param("scheduleId") Long scheduleId);
+
+    // 루틴 수업 좌석 복구(원자적): 잔여석 + 1 + CLOSED -> OPEN 전환을 단일 UPDATE로 처리
+    // 잔여석이 템플릿 정원만큼 비어있거나 1:1 수업(템플릿 없음, RESERVED)이면 빈 결과를 반환함
+    // 조회 후 저장 방식은 동시에 들어온 reserveSeat의 차감을 옛 잔여석으로 덮어써서 정원을 초과시킴
+    @Transactional
+    @Query(value = """
+                UPDATE "CLASS_SCHEDULE_TB" s
+                SET capacity = s.capacity + 1,
+                    status = CASE WHEN s.status = 'CLOSED' THEN 'OPEN' ELSE s.status END,
+                    updated_at = now()
+                FROM "CLASS_TEMPLATE_TB" t
+                WHERE s.class_schedule_id = :scheduleId
+                AND t.template_id = s.class_template_id
+                AND s.status <> 'RESERVED'
+                AND s.capacity < t.capacity
+                RETURNING s.capacity, s.status
+            """, nativeQuery = true)
+    Optional<SeatReservation> releaseSeat(@Param("scheduleId") Long scheduleId);
+
     @Query(value = """
                 SELECT lower(time_range)
                 FROM "CLASS_SCHEDULE_TB"
@@ -64,6 +132,22 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
             "s.recurrenceGroup.groupId = :recurrenceGroupId")
     List<Schedule> findAllByRecurrenceGroupId(@Param("recurrenceGroupId") Long recurrenceGroupId);
 
+    // 커리큘럼 하위 스케줄 상태 일괄 동기화(그룹이 OPEN <-> CLOSED로 바뀐 경우에만 실제로 변경됨)
+    // 이미 같은 상태이거나 폐강/종료/시작된 스케줄은 건드리지 않고, 변경된 스케줄 ID만 반환함
+    @Transactional
+    @Query(value = """
+                UPDATE "CLASS_SCHEDULE_TB"
+                SET status = :status,
+                    updated_at = now()
+                WHERE recurrence_group_id = :recurrenceGroupId
+                AND status IN ('OPEN', 'CLOSED')
+                AND status <> :status
+                AND lower(time_range) > now()
+                RETURNING class_schedule_id
+            """, nativeQuery = true)
+    List<Long> syncStatusWithGroup(@Param("recurrenceGroupId") Long recurrenceGroupId,
+                                   @Param("status") String status);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE) // 다른 트랜잭션이 읽기/쓰기를 못하게 막음
     @Query("SELECT s FROM Schedule s WHERE s.recurrenceGroup.groupId = :recurrenceGroupId")
     List<Schedule> findAllByRecurrenceGroupIdWithLock(@Param("recurrenceGroupId") Long recurrenceGroupId);
@@ -0,0 +1,8 @@
+package com.gymproject.classmanagement.schedule.infrastructure.persistence;
+
+// 좌석 차감/복구 UPDATE의 RETURNING 결과(변경 후 잔여석, 상태)
+public interface SeatReservation {
+    int getCapacity();
+
+    String getStatus();
+}
@@ -0,0 +1,7 @@
+package com.gymproject.classmanagement;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class ClassManagementTestApplication {
+}
@@ -0,0 +1,204 @@
+package com.gymproject.classmanagement.recurrence.infrastructure.persistence;
+
+import com.gymproject.classmanagement.recurrence.application.RecurrenceService;
+import com.gymproject.classmanagement.recurrence.domain.entity.RecurrenceGroup;
+import com.gymproject.classmanagement.recurrence.domain.type.RecurrenceStatus;
+import com.gymproject.classmanagement.recurrence.domain.type.RecurrenceType;
+import com.gymproject.classmanagement.recurrence.exception.RecurrenceErrorCode;
+import com.gymproject.classmanagement.recurrence.exception.RecurrenceException;
+import com.gymproject.classmanagement.schedule.domain.service.ScheduleValidator;
+import com.gymproject.classmanagement.template.domain.entity.Template;
+import com.gymproject.classmanagement.template.domain.type.ClassKind;
+import com.gymproject.classmanagement.template.domain.type.RecommendLevel;
+import com.gymproject.classmanagement.template.infrastructure.persistence.TemplateReader;
+import com.gymproject.classmanagement.template.infrastructure.persistence.TemplateRepository;
+import com.gymproject.common.port.auth.IdentityQueryPort;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE) // 컨테이너 Postgre 그대로 사용
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 각 스레드가 독립된 트랜잭션으로 경쟁해야함
+class CurriculumSeatConcurrencyTest {
+
+    private static final int CAPACITY = 10;
+
+    @Autowired
+    private RecurrenceGroupRepository recurrenceGroupRepository;
+
+    @Autowired
+    private TemplateRepository templateRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private RecurrenceService recurrenceService;
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        // 좌석 차감/복구에 쓰지 않는 협력 객체는 Mock (트랜잭션은 서비스 프록시 대신 TransactionTemplate으로 감쌈)
+        recurrenceService = new RecurrenceService(recurrenceGroupRepository,
+                Mockito.mock(ScheduleValidator.class), Mockito.mock(TemplateReader.class),
+                Mockito.mock(IdentityQueryPort.class), entityManager);
+        tx = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        recurrenceGroupRepository.deleteAll();
+        templateRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동시성: 정원보다 많은 커리큘럼 예약이 동시에 들어와도 정원만큼만 성공하고 마감된다")
+    void reserve_concurrent_does_not_overbook() throws InterruptedException {
+        // given
+        Long groupId = createOpenGroup(CAPACITY);
+        int reservers = 100;
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(reservers);
+        AtomicInteger success = new AtomicInteger();
+
+        // when (예약 100건이 동시에 경쟁)
+        for (int i = 0; i < reservers; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    if (reserve(groupId)) {
+                        success.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        boolean finished = done.await(60, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then (초과 예약 없음, 차감 유실 없음)
+        RecurrenceGroup group = recurrenceGroupRepository.findById(groupId).orElseThrow();
+
+        assertThat(finished).isTrue();
+        assertThat(success.get()).isEqualTo(CAPACITY);
+        assertThat(group.getRemainingCapacity()).isZero();
+        assertThat(group.getRecurrenceStatus()).isEqualTo(RecurrenceStatus.CLOSED);
+    }
+
+    @Test
+    @DisplayName("동시성: 커리큘럼 예약과 예약 취소가 동시에 들어와도 잔여석이 덮어써지지 않는다")
+    void reserve_and_cancel_concurrent() throws InterruptedException {
+        // given (정원 10명이 모두 예약되어 CLOSED)
+        Long groupId = createOpenGroup(CAPACITY);
+        for (int i = 0; i < CAPACITY; i++) {
+            assertThat(reserve(groupId)).isTrue();
+        }
+        int cancels = 5;
+        int reservers = 100;
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(cancels + reservers);
+        AtomicInteger success = new AtomicInteger();
+
+        // when (기존 예약 5건 취소 + 새 예약 100건이 동시에 경쟁)
+        for (int i = 0; i < cancels + reservers; i++) {
+            boolean cancel = i < cancels;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    if (cancel) {
+                        tx.executeWithoutResult(status -> recurrenceService.cancelCurriculumReservation(groupId));
+                    } else if (reserve(groupId)) {
+                        success.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        boolean finished = done.await(60, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then (취소로 생긴 자리보다 많이 예약되지 않고, 차감/복구가 하나도 유실되지 않음)
+        RecurrenceGroup group = recurrenceGroupRepository.findById(groupId).orElseThrow();
+
+        assertThat(finished).isTrue();
+        assertThat(success.get()).isLessThanOrEqualTo(cancels);
+        assertThat(group.getRemainingCapacity()).isEqualTo(cancels - success.get());
+        assertThat(group.getRecurrenceStatus())
+                .isEqualTo(group.getRemainingCapacity() == 0 ? RecurrenceStatus.CLOSED : RecurrenceStatus.OPEN);
+    }
+
+    @Test
+    @DisplayName("실패: 자리가 모두 비어있는 커리큘럼의 예약 취소는 정원을 넘겨서 복구하지 않는다")
+    void cancel_does_not_exceed_capacity() {
+        // given
+        Long groupId = createOpenGroup(CAPACITY);
+
+        // when & then
+        assertThatThrownBy(() -> tx.executeWithoutResult(status -> recurrenceService.cancelCurriculumReservation(groupId)))
+                .isInstanceOf(RecurrenceException.class)
+                .hasFieldOrPropertyWithValue("errorCode", RecurrenceErrorCode.CANCEL_CAPACITY_ERROR.getErrorCode());
+        assertThat(recurrenceGroupRepository.findById(groupId).orElseThrow().getRemainingCapacity()).isEqualTo(CAPACITY);
+    }
+
+    // [Helper] 서비스 경로로 커리큘럼 예약 (정원 초과/마감이면 false)
+    private boolean reserve(Long groupId) {
+        try {
+            tx.executeWithoutResult(status -> recurrenceService.reserveCurriculum(groupId));
+            return true;
+        } catch (RecurrenceException e) {
+            return false;
+        }
+    }
+
+    // [Helper] 정원이 capacity인 OPEN 상태 커리큘럼 그룹 저장
+    private Long createOpenGroup(int capacity) {
+        Template template = templateRepository.save(
+                Template.create("8주 파워리프팅", null, capacity, 60, RecommendLevel.BEGINNER, ClassKind.GROUP));
+
+        LocalDate startDate = LocalDate.now().plusDays(7);
+        RecurrenceGroup group = RecurrenceGroup.create(
+                1L, template, startDate, startDate.plusMonths(1),
+                LocalTime.of(10, 0), List.of(DayOfWeek.MONDAY), "Australia/Brisbane",
+                RecurrenceType.CURRICULUM);
+
+        return recurrenceGroupRepository.save(group).getGroupId();
+    }
+}
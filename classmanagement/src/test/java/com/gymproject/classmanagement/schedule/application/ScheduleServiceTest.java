@@ -0,0 +1,65 @@
+package com.gymproject.classmanagement.schedule.application;
+
+import com.gymproject.classmanagement.recurrence.domain.entity.RecurrenceGroup;
+import com.gymproject.classmanagement.recurrence.domain.type.RecurrenceType;
+import com.gymproject.classmanagement.schedule.domain.service.ScheduleGenerator;
+import com.gymproject.classmanagement.schedule.domain.service.ScheduleValidator;
+import com.gymproject.classmanagement.schedule.infrastructure.persistence.ScheduleRepository;
+import com.gymproject.classmanagement.template.domain.entity.Template;
+import com.gymproject.common.port.auth.IdentityQueryPort;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class ScheduleServiceTest {
+
+    private final ScheduleRepository scheduleRepository = Mockito.mock(ScheduleRepository.class);
+    private final ScheduleValidator scheduleValidator = Mockito.mock(ScheduleValidator.class);
+    private final ScheduleGenerator scheduleGenerator = new ScheduleGenerator();
+    private final EntityManager entityManager = Mockito.mock(EntityManager.class);
+    private final ScheduleService scheduleService = new ScheduleService(scheduleRepository, scheduleValidator,
+            scheduleGenerator, Mockito.mock(IdentityQueryPort.class), entityManager,
+            Mockito.mock(ApplicationEventPublisher.class));
+
+    @Test
+    @DisplayName("그룹 스케줄 생성은 chunk를 저장할 때마다 flush 후 영속성 컨텍스트를 비운다")
+    void createSchedulesFromGroup_flushes_and_clears_each_chunk() {
+        // given (3개월 동안 월~토 수업 -> chunk 여러 개)
+        Template template = Mockito.mock(Template.class);
+        when(template.getCapacity()).thenReturn(10);
+        when(template.getDurationMinutes()).thenReturn(60);
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        RecurrenceGroup group = RecurrenceGroup.create(
+                1L, template, startDate, startDate.plusMonths(3), LocalTime.of(10, 0),
+                List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
+                        DayOfWeek.THURSDAY, DayOfWeek.FRIDAY, DayOfWeek.SATURDAY),
+                "Australia/Brisbane", RecurrenceType.ROUTINE);
+        int total = scheduleGenerator.generateSchedules(group, template).size();
+        int chunks = (total + ScheduleGenerator.DEFAULT_CHUNK_SIZE - 1) / ScheduleGenerator.DEFAULT_CHUNK_SIZE;
+
+        // when
+        scheduleService.createSchedulesFromGroup(group);
+
+        // then (chunk마다 저장 -> flush -> clear 순서)
+        assertThat(chunks).isGreaterThan(1);
+        InOrder inOrder = inOrder(scheduleRepository, entityManager);
+        for (int i = 0; i < chunks; i++) {
+            inOrder.verify(scheduleRepository).saveAll(anyList());
+            inOrder.verify(entityManager).flush();
+            inOrder.verify(entityManager).clear();
+        }
+        inOrder.verifyNoMoreInteractions();
+    }
+}
@@ -0,0 +1,147 @@
+package com.gymproject.classmanagement.schedule.infrastructure.cache;
+
+import com.gymproject.classmanagement.schedule.infrastructure.persistence.ScheduleInterval;
+import com.gymproject.classmanagement.schedule.infrastructure.persistence.ScheduleRepository;
+import com.gymproject.common.dto.booking.TimeOffSlot;
+import com.gymproject.common.port.booking.TimeOffQueryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class TrainerBusyIndexTest {
+
+    private static final Long TRAINER_ID = 1L;
+    private static final OffsetDateTime BASE = OffsetDateTime.now().plusDays(1).withNano(0);
+
+    private ScheduleRepository scheduleRepository;
+    private TimeOffQueryPort timeOffQueryPort;
+    private SimpleMeterRegistry meterRegistry;
+    private TrainerBusyIndex trainerBusyIndex;
+
+    @BeforeEach
+    void setUp() {
+        scheduleRepository = Mockito.mock(ScheduleRepository.class);
+        timeOffQueryPort = Mockito.mock(TimeOffQueryPort.class);
+        meterRegistry = new SimpleMeterRegistry();
+        trainerBusyIndex = new TrainerBusyIndex(scheduleRepository, timeOffQueryPort, meterRegistry);
+
+        // 기존 수업 BASE ~ BASE+1h, 휴무 BASE+3h ~ BASE+5h
+        List<ScheduleInterval> schedules = List.of(interval(100L, BASE, BASE.plusHours(1)));
+        when(scheduleRepository.findActiveIntervalsEndingAfter(anyLong(), any())).thenReturn(schedules);
+        when(timeOffQueryPort.findActiveTimeOffs(anyLong(), any()))
+                .thenReturn(List.of(new TimeOffSlot(200L, BASE.plusHours(3), BASE.plusHours(5))));
+    }
+
+    @Test
+    @DisplayName("성공: 처음 한번만 DB에서 적재하고, 적재한 구간과 겹치면 확인되지 않은 충돌로 판정한다")
+    void findConflict_unconfirmed_after_warm() {
+        // when
+        var first = trainerBusyIndex.findConflict(TRAINER_ID, BASE.plusMinutes(30), BASE.plusMinutes(90));
+        var second = trainerBusyIndex.findConflict(TRAINER_ID, BASE.plusHours(4), BASE.plusHours(6));
+
+        // then
+        assertThat(first).contains(new TrainerBusyIndex.Conflict(TrainerBusyIndex.BusyType.SCHEDULE, false));
+        assertThat(second).contains(new TrainerBusyIndex.Conflict(TrainerBusyIndex.BusyType.TIME_OFF, false));
+        verify(scheduleRepository, times(1)).findActiveIntervalsEndingAfter(anyLong(), any());
+        verify(timeOffQueryPort, times(1)).findActiveTimeOffs(anyLong(), any());
+        assertThat(meterRegistry.counter("schedule.conflict.index", "result", "unconfirmed").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("schedule.conflict.index", "result", "saved").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: 끝나는 시간에 바로 시작하는 요청은 충돌이 아니므로 DB 확인으로 넘긴다 ([) 범위)")
+    void findConflict_adjacent_is_miss() {
+        // when
+        var result = trainerBusyIndex.findConflict(TRAINER_ID, BASE.plusHours(1), BASE.plusHours(2));
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(meterRegistry.counter("schedule.conflict.index", "result", "miss").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 취소 이벤트가 들어오면 인덱스에서 제거되고, 새 스케줄 이벤트는 확인된 구간으로 추가된다")
+    void apply_events() {
+        // given (적재)
+        trainerBusyIndex.findConflict(TRAINER_ID, BASE, BASE.plusMinutes(10));
+
+        // when
+        trainerBusyIndex.applySchedule(TRAINER_ID, 100L, BASE, BASE.plusHours(1), false);
+        trainerBusyIndex.applySchedule(TRAINER_ID, 101L, BASE.plusHours(6), BASE.plusHours(7), true);
+
+        // then
+        assertThat(trainerBusyIndex.findConflict(TRAINER_ID, BASE, BASE.plusHours(1))).isEmpty();
+        assertThat(trainerBusyIndex.findConflict(TRAINER_ID, BASE.plusHours(6), BASE.plusHours(7)))
+                .contains(new TrainerBusyIndex.Conflict(TrainerBusyIndex.BusyType.SCHEDULE, true));
+        verify(scheduleRepository, times(1)).findActiveIntervalsEndingAfter(anyLong(), any()); // 재적재 없음
+        assertThat(meterRegistry.counter("schedule.conflict.index", "result", "saved").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 확인된 휴무 구간과 적재한 수업 구간이 같이 겹치면 확인된 쪽을 돌려준다")
+    void findConflict_prefers_confirmed() {
+        // given (적재 + 이 서버에서 휴무 등록)
+        trainerBusyIndex.findConflict(TRAINER_ID, BASE.plusHours(10), BASE.plusHours(11));
+        trainerBusyIndex.applyTimeOff(TRAINER_ID, 201L, BASE.plusMinutes(30), BASE.plusHours(2), true);
+
+        // when
+        var result = trainerBusyIndex.findConflict(TRAINER_ID, BASE.plusMinutes(30), BASE.plusMinutes(90));
+
+        // then
+        assertThat(result).contains(new TrainerBusyIndex.Conflict(TrainerBusyIndex.BusyType.TIME_OFF, true));
+    }
+
+    @Test
+    @DisplayName("성공: 적재되지 않은 트레이너의 이벤트는 무시하고, 다음 조회 때 DB에서 적재한다")
+    void apply_event_before_warm_is_ignored() {
+        // when
+        trainerBusyIndex.applySchedule(TRAINER_ID, 101L, BASE.plusHours(6), BASE.plusHours(7), true);
+        var result = trainerBusyIndex.findConflict(TRAINER_ID, BASE.plusHours(6), BASE.plusHours(7));
+
+        // then (DB 적재 결과에는 101번이 없음)
+        assertThat(result).isEmpty();
+        assertThat(meterRegistry.counter("schedule.conflict.index.warm").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: evict 하면 인덱스를 버리고 다음 조회 때 DB에서 다시 적재한다")
+    void evict_reloads() {
+        // given (적재)
+        trainerBusyIndex.findConflict(TRAINER_ID, BASE, BASE.plusMinutes(10));
+
+        // when
+        trainerBusyIndex.evict(TRAINER_ID);
+        trainerBusyIndex.findConflict(TRAINER_ID, BASE, BASE.plusMinutes(10));
+
+        // then
+        verify(scheduleRepository, times(2)).findActiveIntervalsEndingAfter(anyLong(), any());
+        assertThat(meterRegistry.counter("schedule.conflict.index.stale").count()).isEqualTo(1);
+    }
+
+    // [Helper] 적재 쿼리 결과(스케줄 시간대)
+    private ScheduleInterval interval(Long id, OffsetDateTime startAt, OffsetDateTime endAt) {
+        return new ScheduleInterval() {
+            public Long getScheduleId() {
+                return id;
+            }
+
+            public long getStartMillis() {
+                return startAt.toInstant().toEpochMilli();
+            }
+
+            public long getEndMillis() {
+                return endAt.toInstant().toEpochMilli();
+            }
+        };
+    }
+}
@@ -0,0 +1,136 @@
+package com.gymproject.classmanagement.schedule.infrastructure.persistence;
+
+import com.gymproject.classmanagement.schedule.domain.entity.Schedule;
+import com.gymproject.classmanagement.template.domain.entity.Template;
+import com.gymproject.classmanagement.template.domain.type.ClassKind;
+import com.gymproject.classmanagement.template.domain.type.RecommendLevel;
+import com.gymproject.classmanagement.template.infrastructure.persistence.TemplateRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static com.gymproject.common.constant.GymTimePolicy.SERVICE_ZONE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    1년짜리 연속수업(주 3회, 156회차) 저장 비교
+    - 기존(IDENTITY): 회차마다 INSERT 한번씩 → 엔티티마다 flush 하는 것으로 재현
+    - 변경(시퀀스 + JDBC 배치): saveAll 후 한번에 flush
+
+    검증은 실행된 SQL 수로만 함
+    - 걸린 시간은 환경(컨테이너, 네트워크)에 따라 달라서 참고용 로그로만 남김 (속도 개선은 검증하지 않음)
+
+    측정 결과: 아직 없음
+    - 배치 저장을 도입할 때 이 테스트를 실행하지 못해서(Docker/Postgres 없는 환경) 전/후 수치(시간, SQL 수)를 만들지 못함
+    - 위 SQL 수 비교도 아직 실제로 통과를 확인하지 않은 기대값임
+    - 실행하면 "[벤치마크]" 로그의 두 줄을 여기에 기록할 것
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE) // 컨테이너 Postgre 그대로 사용
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 저장 구간마다 직접 트랜잭션을 열고 커밋함
+class ScheduleBulkInsertBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduleBulkInsertBenchmarkTest.class);
+
+    private static final Set<DayOfWeek> REPEAT_DAYS = EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY);
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private TemplateRepository templateRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        scheduleRepository.deleteAll();
+        templateRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("벤치마크: 1년치 연속수업 스케줄을 배치로 저장하면 회차별 INSERT보다 SQL 수가 10분의 1 미만으로 줄어든다")
+    void compare_row_by_row_and_batch_insert() {
+        Template template = templateRepository.save(
+                Template.create("아침 크로스핏", null, 10, 60, RecommendLevel.BEGINNER, ClassKind.GROUP));
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // 1. 기존 방식 재현 (회차마다 INSERT)
+        List<Schedule> rowByRow = yearLongSchedules(1L, template);
+        statistics.clear();
+        long rowStart = System.nanoTime();
+        tx.executeWithoutResult(status -> rowByRow.forEach(schedule -> {
+            scheduleRepository.save(schedule);
+            entityManager.flush();
+        }));
+        long rowMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - rowStart);
+        long rowStatements = statistics.getPrepareStatementCount();
+
+        // 2. 변경된 방식 (saveAll + JDBC 배치)
+        List<Schedule> batched = yearLongSchedules(2L, template);
+        statistics.clear();
+        long batchStart = System.nanoTime();
+        tx.executeWithoutResult(status -> scheduleRepository.saveAll(batched));
+        long batchMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - batchStart);
+        long batchStatements = statistics.getPrepareStatementCount();
+
+        log.info("[벤치마크] 1년치 연속수업 {}회차 저장", batched.size());
+        log.info("[벤치마크] 회차별 INSERT : {} ms, SQL {}건", rowMillis, rowStatements);
+        log.info("[벤치마크] 배치 INSERT   : {} ms, SQL {}건", batchMillis, batchStatements);
+
+        // then
+        assertThat(batched).hasSize(156);
+        assertThat(batched).allSatisfy(schedule -> assertThat(schedule.getClassScheduleId()).isNotNull());
+        assertThat(scheduleRepository.count()).isEqualTo(rowByRow.size() + batched.size());
+        // 50건씩 묶이므로 INSERT/시퀀스 조회가 각각 회차 수 / 50 번 수준이어야 함
+        assertThat(batchStatements).isLessThan(rowStatements / 10);
+    }
+
+    // [Helper] 1년 동안 월/수/금 10:00 수업
+    private List<Schedule> yearLongSchedules(Long trainerId, Template template) {
+        List<Schedule> schedules = new ArrayList<>();
+        LocalDate date = LocalDate.of(2030, 1, 7); // 월요일
+        for (int week = 0; week < 52; week++) {
+            for (DayOfWeek day : REPEAT_DAYS) {
+                OffsetDateTime startAt = date.plusWeeks(week)
+                        .with(day)
+                        .atTime(LocalTime.of(10, 0))
+                        .atZone(SERVICE_ZONE)
+                        .toOffsetDateTime();
+                schedules.add(Schedule.createOneTime(trainerId, template, startAt, startAt.plusHours(1)));
+            }
+        }
+        return schedules;
+    }
+}
@@ -0,0 +1,81 @@
+package com.gymproject.classmanagement.schedule.infrastructure.persistence;
+
+import com.gymproject.classmanagement.schedule.domain.entity.Schedule;
+import com.gymproject.classmanagement.template.domain.entity.Template;
+import com.gymproject.classmanagement.template.domain.type.ClassKind;
+import com.gymproject.classmanagement.template.domain.type.RecommendLevel;
+import com.gymproject.classmanagement.template.infrastructure.persistence.TemplateRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE) // 컨테이너 Postgre 그대로 사용
+class ScheduleConflictQueryTest {
+
+    private static final Long TRAINER_ID = 1L;
+    private static final OffsetDateTime BASE = OffsetDateTime.of(2030, 3, 4, 10, 0, 0, 0, ZoneOffset.ofHours(10));
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private TemplateRepository templateRepository;
+
+    @Test
+    @DisplayName("성공: 후보 시간대를 한번에 넘기면 겹치는 후보의 순번을 모두 반환한다")
+    void findConflictingOrdinals_returns_all() {
+        // given (기존 수업: 1주차, 3주차 월요일 10:00~11:00)
+        Template template = templateRepository.save(
+                Template.create("아침 크로스핏", null, 10, 60, RecommendLevel.BEGINNER, ClassKind.GROUP));
+        scheduleRepository.save(Schedule.createOneTime(TRAINER_ID, template, BASE, BASE.plusHours(1)));
+        scheduleRepository.save(Schedule.createOneTime(TRAINER_ID, template, BASE.plusWeeks(2), BASE.plusWeeks(2).plusHours(1)));
+
+        // 다른 트레이너의 수업과 취소된 수업은 충돌이 아님
+        scheduleRepository.save(Schedule.createOneTime(2L, template, BASE.plusWeeks(1), BASE.plusWeeks(1).plusHours(1)));
+        Schedule cancelled = Schedule.createOneTime(TRAINER_ID, template, BASE.plusWeeks(3), BASE.plusWeeks(3).plusHours(1));
+        cancelled.cancel(true, 0);
+        scheduleRepository.saveAndFlush(cancelled);
+
+        // 후보: 4주 연속 월요일 10:30~11:30
+        List<OffsetDateTime> startAts = List.of(
+                BASE.plusMinutes(30), BASE.plusWeeks(1).plusMinutes(30),
+                BASE.plusWeeks(2).plusMinutes(30), BASE.plusWeeks(3).plusMinutes(30));
+        List<OffsetDateTime> endAts = startAts.stream().map(start -> start.plusHours(1)).toList();
+
+        // when
+        List<Long> ordinals = scheduleRepository.findConflictingOrdinals(
+                TRAINER_ID,
+                startAts.toArray(OffsetDateTime[]::new),
+                endAts.toArray(OffsetDateTime[]::new));
+
+        // then (1주차, 3주차)
+        assertThat(ordinals).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("성공: 끝나는 시간에 바로 시작하는 후보는 충돌이 아니다 ([) 범위)")
+    void findConflictingOrdinals_adjacent_is_not_conflict() {
+        // given
+        Template template = templateRepository.save(
+                Template.create("아침 크로스핏", null, 10, 60, RecommendLevel.BEGINNER, ClassKind.GROUP));
+        scheduleRepository.saveAndFlush(Schedule.createOneTime(TRAINER_ID, template, BASE, BASE.plusHours(1)));
+
+        // when
+        List<Long> ordinals = scheduleRepository.findConflictingOrdinals(
+                TRAINER_ID,
+                new OffsetDateTime[]{BASE.plusHours(1)},
+                new OffsetDateTime[]{BASE.plusHours(2)});
+
+        // then
+        assertThat(ordinals).isEmpty();
+    }
+}
@@ -0,0 +1,209 @@
+package com.gymproject.classmanagement.schedule.infrastructure.persistence;
+
+import com.gymproject.classmanagement.schedule.application.ScheduleService;
+import com.gymproject.classmanagement.schedule.domain.entity.Schedule;
+import com.gymproject.classmanagement.schedule.domain.service.ScheduleGenerator;
+import com.gymproject.classmanagement.schedule.domain.service.ScheduleValidator;
+import com.gymproject.classmanagement.schedule.domain.type.ScheduleStatus;
+import com.gymproject.classmanagement.schedule.exception.ScheduleException;
+import com.gymproject.classmanagement.template.domain.entity.Template;
+import com.gymproject.classmanagement.template.domain.type.ClassKind;
+import com.gymproject.classmanagement.template.domain.type.RecommendLevel;
+import com.gymproject.classmanagement.template.infrastructure.persistence.TemplateRepository;
+import com.gymproject.common.port.auth.IdentityQueryPort;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE) // 컨테이너 Postgre 그대로 사용
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 각 스레드가 독립된 트랜잭션으로 경쟁해야함
+class ScheduleSeatConcurrencyTest {
+
+    private static final int THREAD_COUNT = 200;
+    private static final int CAPACITY = 10;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private TemplateRepository templateRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private ScheduleService scheduleService;
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        // 좌석 차감/복구에 쓰지 않는 협력 객체는 Mock (트랜잭션은 서비스 프록시 대신 TransactionTemplate으로 감쌈)
+        scheduleService = new ScheduleService(scheduleRepository,
+                Mockito.mock(ScheduleValidator.class), Mockito.mock(ScheduleGenerator.class),
+                Mockito.mock(IdentityQueryPort.class), entityManager, Mockito.mock(ApplicationEventPublisher.class));
+        tx = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduleRepository.deleteAll();
+        templateRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동시성: 200명이 정원 10명 수업에 동시에 입장해도 10명만 성공하고 CLOSED로 전환된다")
+    void reserveRoutine_concurrent() throws InterruptedException {
+        // given
+        Long scheduleId = createOpenSchedule(CAPACITY);
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // when
+        runConcurrently(THREAD_COUNT, i -> {
+            if (reserve(scheduleId)) {
+                success.incrementAndGet();
+            } else {
+                rejected.incrementAndGet();
+            }
+        });
+
+        // then
+        Schedule schedule = scheduleRepository.findById(scheduleId).orElseThrow();
+
+        assertThat(success.get()).isEqualTo(CAPACITY); // 존재하지 않는 좌석을 받은 사람이 없음
+        assertThat(rejected.get()).isEqualTo(THREAD_COUNT - CAPACITY);
+        assertThat(schedule.getCapacity()).isZero(); // 음수로 내려가지 않음
+        assertThat(schedule.getStatus()).isEqualTo(ScheduleStatus.CLOSED); // 마지막 좌석에서 같은 UPDATE로 전환
+    }
+
+    @Test
+    @DisplayName("동시성: 예약과 예약 취소가 동시에 들어와도 잔여석이 덮어써지지 않는다")
+    void reserveRoutine_and_cancel_concurrent() throws InterruptedException {
+        // given (정원 10명 중 5명 예약된 상태)
+        int booked = 5;
+        Long scheduleId = createOpenSchedule(CAPACITY);
+        for (int i = 0; i < booked; i++) {
+            assertThat(reserve(scheduleId)).isTrue();
+        }
+        AtomicInteger success = new AtomicInteger();
+
+        // when (기존 예약 5건 취소 + 새 예약 100건이 동시에 경쟁)
+        int reservers = 100;
+        runConcurrently(reservers + booked, i -> {
+            if (i < booked) {
+                tx.executeWithoutResult(status -> scheduleService.cancelRoutineReservation(scheduleId));
+            } else if (reserve(scheduleId)) {
+                success.incrementAndGet();
+            }
+        });
+
+        // then (차감/복구가 하나도 유실되지 않음: 기존 예약은 모두 취소됐으므로 새 예약만큼만 차감)
+        Schedule schedule = scheduleRepository.findById(scheduleId).orElseThrow();
+
+        assertThat(schedule.getCapacity()).isEqualTo(CAPACITY - success.get());
+        assertThat(success.get()).isBetween(booked, CAPACITY);
+        assertThat(schedule.getStatus())
+                .isEqualTo(schedule.getCapacity() == 0 ? ScheduleStatus.CLOSED : ScheduleStatus.OPEN);
+    }
+
+    @Test
+    @DisplayName("성공: 자리가 모두 비어있는 수업의 예약 취소는 정원을 넘겨서 복구하지 않는다")
+    void cancelRoutineReservation_does_not_exceed_capacity() {
+        // given
+        Long scheduleId = createOpenSchedule(CAPACITY);
+
+        // when
+        tx.executeWithoutResult(status -> scheduleService.cancelRoutineReservation(scheduleId));
+
+        // then
+        assertThat(scheduleRepository.releaseSeat(scheduleId)).isEmpty();
+        assertThat(scheduleRepository.findById(scheduleId).orElseThrow().getCapacity()).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    @DisplayName("성공: 좌석 차감 결과로 차감 후 잔여석과 상태를 반환한다")
+    void reserveSeat_returns_new_state() {
+        // given
+        Long scheduleId = createOpenSchedule(2);
+
+        // when (@Transactional이 붙은 메서드라 단독 호출해도 각각 커밋됨)
+        SeatReservation first = scheduleRepository.reserveSeat(scheduleId).orElseThrow();
+        SeatReservation last = scheduleRepository.reserveSeat(scheduleId).orElseThrow();
+
+        // then
+        assertThat(first.getCapacity()).isEqualTo(1);
+        assertThat(first.getStatus()).isEqualTo(ScheduleStatus.OPEN.name());
+        assertThat(last.getCapacity()).isZero();
+        assertThat(last.getStatus()).isEqualTo(ScheduleStatus.CLOSED.name());
+        assertThat(scheduleRepository.reserveSeat(scheduleId)).isEmpty();
+    }
+
+    // [Helper] 서비스 경로로 좌석 예약 (정원 초과/마감이면 false)
+    private boolean reserve(Long scheduleId) {
+        try {
+            tx.executeWithoutResult(status -> scheduleService.reserveRoutine(scheduleId));
+            return true;
+        } catch (ScheduleException e) {
+            return false;
+        }
+    }
+
+    // [Helper] 모든 스레드를 동시에 출발시켜 task(순번)를 실행하고 끝날 때까지 대기
+    private void runConcurrently(int count, IntConsumer task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(count);
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    task.accept(index);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        boolean finished = done.await(60, TimeUnit.SECONDS);
+        executor.shutdown();
+        assertThat(finished).isTrue();
+    }
+
+    // [Helper] 정원이 capacity인 OPEN 상태 원데이 수업 저장
+    private Long createOpenSchedule(int capacity) {
+        Template template = templateRepository.save(
+                Template.create("아침 크로스핏", null, capacity, 60, RecommendLevel.BEGINNER, ClassKind.GROUP));
+
+        OffsetDateTime startAt = OffsetDateTime.now().plusDays(1);
+        Schedule schedule = Schedule.createOneTime(1L, template, startAt, startAt.plusHours(1));
+
+        return scheduleRepository.save(schedule).getClassScheduleId();
+    }
+}
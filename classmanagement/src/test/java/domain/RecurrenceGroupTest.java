@@ -61,70 +61,103 @@ class RecurrenceGroupTest {
     }
 
     @Test
-    @DisplayName("성공: 커리큘럼 예약 시 잔여 좌석이 감소한다")
-    void reserve_success() {
-        // given (정원 10명, 내일 시작)
+    @DisplayName("실패: 루틴형 수업은 좌석 원자적 차감 전 검증에서 막힌다")
+    void validateCurriculumReservation_fail_routine_type() {
+        // given
+        RecurrenceGroup group = createRecurrenceGroup(10, RecurrenceType.ROUTINE, LocalDate.now().plusDays(1));
+
+        // when & then
+        assertThatThrownBy(group::validateCurriculumReservation)
+                .isInstanceOf(RecurrenceException.class)
+                .hasFieldOrPropertyWithValue("errorCode", RecurrenceErrorCode.ROUTINE_RESERVATION_NOT_ALLOWED.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("성공: 좌석 원자적 차감 실패 시 상태에 맞는 사유를 판정한다 (OPEN이면 정원 초과, 아니면 상태 오류)")
+    void curriculumReservationFailure_reason() {
+        // given (차감 UPDATE 이후 다른 취소로 자리가 다시 생긴 OPEN 그룹 + 폐강/종료된 그룹)
+        RecurrenceGroup open = createRecurrenceGroup(10, RecurrenceType.CURRICULUM, LocalDate.now().plusDays(1));
+        RecurrenceGroup cancelled = createRecurrenceGroup(10, RecurrenceType.CURRICULUM, LocalDate.now().plusDays(1));
+        cancelled.cancelRecurrenceClass();
+        RecurrenceGroup finished = createRecurrenceGroup(10, RecurrenceType.CURRICULUM, LocalDate.now().plusDays(1));
+        finished.finish();
+
+        // when & then
+        assertThat(open.curriculumReservationFailure().getErrorCode()).isEqualTo(RecurrenceErrorCode.CAPACITY_EXCEEDED.getErrorCode());
+        assertThat(cancelled.curriculumReservationFailure().getErrorCode()).isEqualTo(RecurrenceErrorCode.INVALID_STATUS.getErrorCode());
+        assertThat(finished.curriculumReservationFailure().getErrorCode()).isEqualTo(RecurrenceErrorCode.INVALID_STATUS.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("성공: 커리큘럼은 시작 전이면 좌석 원자적 차감 전 검증을 통과하고, 엔티티의 잔여석은 바꾸지 않는다")
+    void validateCurriculumReservation_success() {
+        // given
         RecurrenceGroup group = createRecurrenceGroup(10, RecurrenceType.CURRICULUM, LocalDate.now().plusDays(1));
 
         // when
-        group.reserveCurriculum();
+        group.validateCurriculumReservation();
 
-        // then
-        assertThat(group.getRemainingCapacity()).isEqualTo(9);
+        // then (차감은 DB의 조건부 UPDATE가 함)
+        assertThat(group.getRemainingCapacity()).isEqualTo(10);
         assertThat(group.getRecurrenceStatus()).isEqualTo(RecurrenceStatus.OPEN);
     }
 
     @Test
-    @DisplayName("성공: 마지막 좌석 예약 시 상태가 CLOSED로 변경된다")
-    void reserve_last_seat() {
-        // given (정원 1명)
-        RecurrenceGroup group = createRecurrenceGroup(1, RecurrenceType.CURRICULUM, LocalDate.now().plusDays(1));
+    @DisplayName("성공: 좌석 원자적 차감 완료 시 Updated 이벤트가 발생한다")
+    void markCurriculumReserved_registers_event() {
+        // given
+        RecurrenceGroup group = createRecurrenceGroup(10, RecurrenceType.CURRICULUM, LocalDate.now().plusDays(1));
+        DomainEventsTestUtils.clearEvents(group);
 
         // when
-        group.reserveCurriculum();
+        group.markCurriculumReserved();
 
         // then
-        assertThat(group.getRemainingCapacity()).isEqualTo(0);
-        assertThat(group.getRecurrenceStatus()).isEqualTo(RecurrenceStatus.CLOSED);
+        List<Object> events = DomainEventsTestUtils.getEvents(group);
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0)).isInstanceOf(RecurrenceGroupEvent.class);
     }
 
     @Test
-    @DisplayName("실패: 루틴형 수업은 예약할 수 없다")
-    void reserve_fail_routine_type() {
-        // given (루틴형)
-        RecurrenceGroup group = createRecurrenceGroup(10, RecurrenceType.ROUTINE, LocalDate.now().plusDays(1));
+    @DisplayName("성공: 좌석 원자적 복구 완료 시 Updated 이벤트가 발생한다")
+    void markCurriculumReleased_registers_event() {
+        // given
+        RecurrenceGroup group = createRecurrenceGroup(10, RecurrenceType.CURRICULUM, LocalDate.now().plusDays(1));
+        DomainEventsTestUtils.clearEvents(group);
 
-        // when & then
-        assertThatThrownBy(group::reserveCurriculum)
-                .isInstanceOf(RecurrenceException.class)
-                .hasFieldOrPropertyWithValue("errorCode", RecurrenceErrorCode.ROUTINE_RESERVATION_NOT_ALLOWED.getErrorCode());
+        // when
+        group.markCurriculumReleased();
+
+        // then
+        List<Object> events = DomainEventsTestUtils.getEvents(group);
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0)).isInstanceOf(RecurrenceGroupEvent.class);
     }
 
     @Test
-    @DisplayName("성공: 예약 취소 시 좌석이 복구되고 CLOSED 상태가 OPEN으로 변경된다")
-    void cancel_reservation_restore() {
-        // given (정원 1명인 수업을 예약해서 0명/CLOSED 상태로 만듦)
-        RecurrenceGroup group = createRecurrenceGroup(1, RecurrenceType.CURRICULUM, LocalDate.now().plusDays(1));
-        group.reserveCurriculum(); // 0, CLOSED
-
-        // when
-        group.cancelCurriculumReservation();
+    @DisplayName("성공: 좌석 원자적 복구 실패 시 상태에 맞는 사유를 판정한다 (정원이 꽉 찬 상태면 오버플로우 방지)")
+    void curriculumCancellationFailure_reason() {
+        // given
+        RecurrenceGroup open = createRecurrenceGroup(10, RecurrenceType.CURRICULUM, LocalDate.now().plusDays(1));
+        RecurrenceGroup cancelled = createRecurrenceGroup(10, RecurrenceType.CURRICULUM, LocalDate.now().plusDays(1));
+        cancelled.cancelRecurrenceClass();
 
-        // then
-        assertThat(group.getRemainingCapacity()).isEqualTo(1);
-        assertThat(group.getRecurrenceStatus()).isEqualTo(RecurrenceStatus.OPEN);
+        // when & then
+        assertThat(open.curriculumCancellationFailure().getErrorCode()).isEqualTo(RecurrenceErrorCode.CANCEL_CAPACITY_ERROR.getErrorCode());
+        assertThat(cancelled.curriculumCancellationFailure().getErrorCode()).isEqualTo(RecurrenceErrorCode.ALREADY_CLOSED_OR_FINISHED.getErrorCode());
     }
 
     @Test
-    @DisplayName("실패: 정원이 꽉 찬 상태(초기상태)에서 예약을 취소하면 예외 발생 (오버플로우 방지)")
-    void cancel_reservation_fail_overflow() {
-        // given (정원 10명, 현재 10명 남음)
+    @DisplayName("실패: 폐강된 강좌는 예약 취소 전 검증에서 막힌다")
+    void validateCurriculumCancellation_fail_cancelled() {
+        // given
         RecurrenceGroup group = createRecurrenceGroup(10, RecurrenceType.CURRICULUM, LocalDate.now().plusDays(1));
+        group.cancelRecurrenceClass();
 
         // when & then
-        assertThatThrownBy(group::cancelCurriculumReservation)
+        assertThatThrownBy(group::validateCurriculumCancellation)
                 .isInstanceOf(RecurrenceException.class)
-                .hasFieldOrPropertyWithValue("errorCode", RecurrenceErrorCode.CANCEL_CAPACITY_ERROR.getErrorCode());
+                .hasFieldOrPropertyWithValue("errorCode", RecurrenceErrorCode.ALREADY_CLOSED_OR_FINISHED.getErrorCode());
     }
 
     @Test
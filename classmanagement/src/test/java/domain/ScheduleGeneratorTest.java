@@ -0,0 +1,121 @@
+package domain;
+
+import com.gymproject.classmanagement.recurrence.domain.entity.RecurrenceGroup;
+import com.gymproject.classmanagement.schedule.domain.entity.Schedule;
+import com.gymproject.classmanagement.schedule.domain.service.ScheduleGenerator;
+import com.gymproject.classmanagement.template.domain.entity.Template;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.*;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+class ScheduleGeneratorTest {
+
+    private final ScheduleGenerator scheduleGenerator = new ScheduleGenerator();
+
+    // [Helper] 템플릿 Mock 생성 (60분 수업)
+    private Template createMockTemplate() {
+        Template mock = Mockito.mock(Template.class);
+        when(mock.getCapacity()).thenReturn(10);
+        when(mock.getDurationMinutes()).thenReturn(60);
+        return mock;
+    }
+
+    // [Helper] RecurrenceGroup Mock 생성
+    private RecurrenceGroup createMockGroup(LocalDate start, LocalDate end, LocalTime startTime,
+                                            List<DayOfWeek> repeatDays, String timezoneId) {
+        RecurrenceGroup mock = Mockito.mock(RecurrenceGroup.class);
+        when(mock.getTrainerId()).thenReturn(1L);
+        when(mock.getStartDate()).thenReturn(start);
+        when(mock.getEndDate()).thenReturn(end);
+        when(mock.getStartTime()).thenReturn(startTime);
+        when(mock.getRepeatDays()).thenReturn(repeatDays);
+        when(mock.getTimezoneId()).thenReturn(timezoneId);
+        return mock;
+    }
+
+    @Test
+    @DisplayName("성공: 반복 요일만 골라서 생성하고, 하루씩 확인하는 방식과 결과가 같다")
+    void generateSchedules_matches_daily_walk() {
+        // given (수요일 시작, 월/수/금, 약 6개월)
+        LocalDate start = LocalDate.of(2030, 1, 2);
+        LocalDate end = LocalDate.of(2030, 6, 30);
+        List<DayOfWeek> repeatDays = List.of(DayOfWeek.FRIDAY, DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY);
+        RecurrenceGroup group = createMockGroup(start, end, LocalTime.of(10, 0), repeatDays, "Australia/Brisbane");
+
+        // 기대값: 하루씩 돌면서 요일 비교 (기존 방식)
+        List<LocalDate> expected = new ArrayList<>();
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            if (repeatDays.contains(date.getDayOfWeek())) expected.add(date);
+        }
+
+        // when
+        List<Schedule> schedules = scheduleGenerator.generateSchedules(group, createMockTemplate());
+
+        // then
+        assertThat(schedules)
+                .extracting(schedule -> schedule.getStartAt().toLocalDate())
+                .containsExactlyElementsOf(expected);
+        assertThat(schedules.get(0).getStartAt().toLocalTime()).isEqualTo(LocalTime.of(10, 0));
+        assertThat(schedules.get(0).getEndAt()).isEqualTo(schedules.get(0).getStartAt().plusMinutes(60));
+    }
+
+    @Test
+    @DisplayName("성공: chunk 크기만큼 나눠서 넘겨준다")
+    void generateInChunks_splits() {
+        // given (매일, 120일)
+        LocalDate start = LocalDate.of(2030, 1, 1);
+        RecurrenceGroup group = createMockGroup(start, start.plusDays(119), LocalTime.of(10, 0),
+                List.of(DayOfWeek.values()), "Australia/Brisbane");
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        // when
+        scheduleGenerator.generateInChunks(group, createMockTemplate(), 50, chunk -> chunkSizes.add(chunk.size()));
+
+        // then
+        assertThat(chunkSizes).containsExactly(50, 50, 20);
+    }
+
+    @Test
+    @DisplayName("성공: 서머타임 전후로 회차마다 오프셋이 달라지고, 건너뛰는 시각은 뒤로 밀린다")
+    void generateSchedules_dst() {
+        // given (시드니 서머타임 시작: 2030-10-06 02:00 -> 03:00, 일요일 02:30 수업)
+        LocalDate start = LocalDate.of(2030, 9, 29);
+        RecurrenceGroup group = createMockGroup(start, start.plusWeeks(1), LocalTime.of(2, 30),
+                List.of(DayOfWeek.SUNDAY), "Australia/Sydney");
+
+        // when
+        List<Schedule> schedules = scheduleGenerator.generateSchedules(group, createMockTemplate());
+
+        // then (ZonedDateTime.of와 같은 결과)
+        assertThat(schedules).hasSize(2);
+        assertThat(schedules.get(0).getStartAt().toInstant())
+                .isEqualTo(ZonedDateTime.of(start, LocalTime.of(2, 30), ZoneId.of("Australia/Sydney")).toInstant());
+        assertThat(schedules.get(0).getStartAt().getOffset()).isEqualTo(ZoneOffset.ofHours(10));
+        assertThat(schedules.get(1).getStartAt().toInstant())
+                .isEqualTo(ZonedDateTime.of(start.plusWeeks(1), LocalTime.of(2, 30), ZoneId.of("Australia/Sydney")).toInstant());
+        assertThat(schedules.get(1).getStartAt().atZoneSameInstant(ZoneId.of("Australia/Sydney")).toLocalTime())
+                .isEqualTo(LocalTime.of(3, 30));
+    }
+
+    @Test
+    @DisplayName("성공: 기간 안에 반복 요일이 없으면 아무것도 넘겨주지 않는다")
+    void generateInChunks_empty() {
+        // given (화요일 ~ 수요일, 금요일 반복)
+        RecurrenceGroup group = createMockGroup(LocalDate.of(2030, 1, 1), LocalDate.of(2030, 1, 2),
+                LocalTime.of(10, 0), List.of(DayOfWeek.FRIDAY), "Australia/Brisbane");
+        List<List<Schedule>> chunks = new ArrayList<>();
+
+        // when
+        scheduleGenerator.generateInChunks(group, createMockTemplate(), 50, chunks::add);
+
+        // then
+        assertThat(chunks).isEmpty();
+    }
+}
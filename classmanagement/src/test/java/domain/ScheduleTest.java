@@ -1,7 +1,6 @@
 package domain;
 
 import com.gymproject.classmanagement.recurrence.domain.entity.RecurrenceGroup;
-import com.gymproject.classmanagement.recurrence.domain.type.RecurrenceStatus;
 import com.gymproject.classmanagement.recurrence.domain.type.RecurrenceType;
 import com.gymproject.classmanagement.schedule.domain.entity.Schedule;
 import com.gymproject.classmanagement.schedule.domain.event.ScheduleChangedEvent;
@@ -59,58 +58,64 @@ class ScheduleTest {
     }
 
     @Test
-    @DisplayName("성공: 예약(decreaseCount) 시 정원이 감소하고 Updated 이벤트가 발생한다")
-    void decreaseCount_success() {
-        // given (정원 10명, 루틴형)
-        Template template = createMockTemplate(10);
-        RecurrenceGroup group = createMockGroup(RecurrenceType.ROUTINE);
+    @DisplayName("실패: 커리큘럼형 수업은 좌석 원자적 차감 전 검증에서 막힌다")
+    void validateSeatReservation_fail_curriculum() {
+        // given
+        RecurrenceGroup group = createMockGroup(RecurrenceType.CURRICULUM);
         OffsetDateTime start = OffsetDateTime.now().plusDays(1);
+        Schedule schedule = Schedule.createRecurrence(group, createMockTemplate(10), start, start.plusHours(1));
 
-        Schedule schedule = Schedule.createRecurrence(group, template, start, start.plusHours(1));
-
-        // when (1시간 전 마감 기준)
-        schedule.decreaseCount(1);
+        // when & then
+        assertThatThrownBy(() -> schedule.validateSeatReservation(0))
+                .isInstanceOf(ScheduleException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ScheduleErrorCode.RESERVATION_NOT_ALLOWED_CURRICULUM.getErrorCode());
+    }
 
-        // then
-        assertThat(schedule.getCapacity()).isEqualTo(9); // 10 -> 9
-        assertThat(schedule.getStatus()).isEqualTo(ScheduleStatus.OPEN);
+    @Test
+    @DisplayName("성공: 좌석 원자적 차감 실패 시 상태에 맞는 사유를 판정한다")
+    void seatReservationFailure_reason() {
+        // given
+        Schedule personal = Schedule.createPersonal(1L, OffsetDateTime.now().plusDays(1), OffsetDateTime.now().plusDays(1).plusHours(1));
+        Schedule full = Schedule.createOneTime(1L, createMockTemplate(0), OffsetDateTime.now().plusDays(1), OffsetDateTime.now().plusDays(1).plusHours(1)); // 잔여석 0
+        Schedule cancelled = Schedule.createOneTime(1L, createMockTemplate(5), OffsetDateTime.now().plusDays(1), OffsetDateTime.now().plusDays(1).plusHours(1));
+        cancelled.cancel(true, 0);
 
-        // 이벤트: Created(생성시) + Updated(예약시) = 2개
-        List<Object> events = DomainEventsTestUtils.getEvents(schedule);
-        assertThat(events).hasSize(2);
+        // when & then
+        assertThat(personal.seatReservationFailure().getErrorCode()).isEqualTo(ScheduleErrorCode.ALREADY_RESERVED_PERSONAL.getErrorCode());
+        assertThat(full.seatReservationFailure().getErrorCode()).isEqualTo(ScheduleErrorCode.CAPACITY_EXCEEDED.getErrorCode());
+        assertThat(cancelled.seatReservationFailure().getErrorCode()).isEqualTo(ScheduleErrorCode.INVALID_STATUS.getErrorCode());
     }
 
     @Test
-    @DisplayName("성공: 마지막 한 자리를 예약하면 상태가 CLOSED로 변경된다")
-    void decreaseCount_close_when_full() {
-        // given (정원 1명)
-        Template template = createMockTemplate(1);
-        RecurrenceGroup group = createMockGroup(RecurrenceType.ROUTINE);
-        OffsetDateTime start = OffsetDateTime.now().plusDays(1);
-
-        Schedule schedule = Schedule.createRecurrence(group, template, start, start.plusHours(1));
+    @DisplayName("성공: 좌석 원자적 차감 완료 시 Updated 이벤트가 발생한다")
+    void markSeatReserved_registers_event() {
+        // given
+        Schedule schedule = Schedule.createOneTime(1L, createMockTemplate(5), OffsetDateTime.now().plusDays(1), OffsetDateTime.now().plusDays(1).plusHours(1));
+        DomainEventsTestUtils.clearEvents(schedule);
 
         // when
-        schedule.decreaseCount(1);
+        schedule.markSeatReserved();
 
         // then
-        assertThat(schedule.getCapacity()).isEqualTo(0);
-        assertThat(schedule.getStatus()).isEqualTo(ScheduleStatus.CLOSED);
+        List<Object> events = DomainEventsTestUtils.getEvents(schedule);
+        assertThat(events).hasSize(1);
+        assertThat(((ScheduleChangedEvent) events.get(0)).getEventType()).isEqualTo(ScheduleChangedEvent.EventType.UPDATED);
     }
 
     @Test
-    @DisplayName("실패: 정원이 0명이거나 이미 CLOSED 된 상태에서는 예약 불가")
-    void decreaseCount_fail_capacity_zero() {
-        // given (정원 1명 -> 예약해서 0명 만듦)
-        Template template = createMockTemplate(1);
-        RecurrenceGroup group = createMockGroup(RecurrenceType.ROUTINE);
-        Schedule schedule = Schedule.createRecurrence(group, template, OffsetDateTime.now().plusDays(1), OffsetDateTime.now().plusDays(1).plusHours(1));
-        schedule.decreaseCount(1); // CLOSED 상태됨
+    @DisplayName("성공: 좌석 원자적 복구 완료 시 Updated 이벤트가 발생한다")
+    void markSeatReleased_registers_event() {
+        // given
+        Schedule schedule = Schedule.createOneTime(1L, createMockTemplate(5), OffsetDateTime.now().plusDays(1), OffsetDateTime.now().plusDays(1).plusHours(1));
+        DomainEventsTestUtils.clearEvents(schedule);
 
-        // when & then
-        assertThatThrownBy(() -> schedule.decreaseCount(1))
-                .isInstanceOf(ScheduleException.class)
-                .hasFieldOrPropertyWithValue("errorCode", ScheduleErrorCode.CAPACITY_EXCEEDED.getErrorCode());
+        // when
+        schedule.markSeatReleased();
+
+        // then
+        List<Object> events = DomainEventsTestUtils.getEvents(schedule);
+        assertThat(events).hasSize(1);
+        assertThat(((ScheduleChangedEvent) events.get(0)).getEventType()).isEqualTo(ScheduleChangedEvent.EventType.UPDATED);
     }
 
     @Test
@@ -130,20 +135,30 @@ class ScheduleTest {
     }
 
     @Test
-    @DisplayName("성공: 미러링 시 부모(Recurrence) 상태와 인원을 따라간다")
-    void mirrorParentStatus_success() {
-        // given
+    @DisplayName("성공: 커리큘럼 수업의 잔여석은 하위 스케줄에 복사하지 않고 그룹에서 읽는다")
+    void getRemainingCapacity_curriculum_reads_group() {
+        // given (그룹에 남은자리 5명)
         RecurrenceGroup group = createMockGroup(RecurrenceType.CURRICULUM);
+        when(group.getRemainingCapacity()).thenReturn(5);
         Schedule schedule = Schedule.createRecurrence(group, createMockTemplate(10),
                 OffsetDateTime.now().plusDays(1),
                 OffsetDateTime.now().plusDays(1).plusHours(1));
 
-        // when (부모가 남은자리 5명에 CLOSED 상태라고 전달)
-        schedule.mirrorParentStatus(5, RecurrenceStatus.CLOSED);
+        // when & then
+        assertThat(schedule.getRemainingCapacity()).isEqualTo(5);
+        assertThat(schedule.getCapacity()).isEqualTo(10); // 스케줄 자체 값은 그대로
+    }
 
-        // then
-        assertThat(schedule.getCapacity()).isEqualTo(5);
-        assertThat(schedule.getStatus()).isEqualTo(ScheduleStatus.CLOSED);
+    @Test
+    @DisplayName("성공: 루틴형/원데이 수업의 잔여석은 스케줄 자신의 값을 읽는다")
+    void getRemainingCapacity_routine_reads_self() {
+        // given
+        RecurrenceGroup group = createMockGroup(RecurrenceType.ROUTINE);
+        OffsetDateTime start = OffsetDateTime.now().plusDays(1);
+        Schedule schedule = Schedule.createRecurrence(group, createMockTemplate(10), start, start.plusHours(1));
+
+        // when & then
+        assertThat(schedule.getRemainingCapacity()).isEqualTo(10);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,139 @@
+package domain;
+
+import com.gymproject.classmanagement.schedule.domain.entity.Schedule;
+import com.gymproject.classmanagement.schedule.domain.service.ScheduleValidator;
+import com.gymproject.classmanagement.schedule.exception.ScheduleErrorCode;
+import com.gymproject.classmanagement.schedule.exception.ScheduleException;
+import com.gymproject.classmanagement.schedule.infrastructure.cache.TrainerBusyIndex;
+import com.gymproject.classmanagement.schedule.infrastructure.persistence.ScheduleRepository;
+import com.gymproject.classmanagement.template.domain.entity.Template;
+import com.gymproject.common.port.booking.TimeOffQueryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ScheduleValidatorTest {
+
+    private static final Long TRAINER_ID = 1L;
+    private static final OffsetDateTime BASE = OffsetDateTime.of(2030, 3, 4, 10, 0, 0, 0, ZoneOffset.ofHours(10));
+
+    private final ScheduleRepository scheduleRepository = Mockito.mock(ScheduleRepository.class);
+    private final TimeOffQueryPort timeOffQueryPort = Mockito.mock(TimeOffQueryPort.class);
+    private final TrainerBusyIndex trainerBusyIndex = Mockito.mock(TrainerBusyIndex.class);
+    private final ScheduleValidator scheduleValidator = new ScheduleValidator(
+            scheduleRepository, timeOffQueryPort, trainerBusyIndex);
+
+    // [Helper] BASE부터 weekOffset주 뒤 같은 시간 수업
+    private Schedule weekly(int weekOffset) {
+        Template template = Mockito.mock(Template.class);
+        when(template.getCapacity()).thenReturn(10);
+        OffsetDateTime startAt = BASE.plusWeeks(weekOffset);
+        return Schedule.createOneTime(TRAINER_ID, template, startAt, startAt.plusHours(1));
+    }
+
+    @Test
+    @DisplayName("성공: chunk별로 검사해도 모든 chunk의 충돌을 모아서 한번에 응답한다")
+    void collectConflicts_across_chunks() {
+        // given (1번째 chunk: 2번째 회차가 수업과 충돌 / 2번째 chunk: 1번째 회차가 휴무와 충돌)
+        List<Schedule> first = List.of(weekly(0), weekly(1));
+        List<Schedule> second = List.of(weekly(2), weekly(3));
+        when(scheduleRepository.findConflictingOrdinals(eq(TRAINER_ID), any(), any()))
+                .thenReturn(List.of(2L))
+                .thenReturn(List.of());
+        when(timeOffQueryPort.findTimeOffOverlaps(eq(TRAINER_ID), anyList(), anyList()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(BASE.plusWeeks(2)));
+
+        // when
+        ScheduleValidator.Conflicts conflicts = new ScheduleValidator.Conflicts();
+        scheduleValidator.collectConflicts(TRAINER_ID, first, conflicts);
+        scheduleValidator.collectConflicts(TRAINER_ID, second, conflicts);
+
+        // then (수업 충돌이 있으면 SCHEDULE_CONFLICT, 상세에는 두 chunk의 충돌이 모두 포함됨)
+        assertThat(conflicts.isEmpty()).isFalse();
+        assertThatThrownBy(conflicts::throwIfAny)
+                .isInstanceOf(ScheduleException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ScheduleErrorCode.SCHEDULE_CONFLICT.getErrorCode())
+                .hasMessageContaining("2030-03-11 10:00")
+                .hasMessageContaining("2030-03-18 10:00");
+    }
+
+    @Test
+    @DisplayName("성공: 충돌이 없으면 예외 없이 통과한다")
+    void throwIfAny_no_conflicts() {
+        // given
+        when(scheduleRepository.findConflictingOrdinals(eq(TRAINER_ID), any(), any())).thenReturn(List.of());
+        when(timeOffQueryPort.findTimeOffOverlaps(eq(TRAINER_ID), anyList(), anyList())).thenReturn(List.of());
+
+        // when
+        ScheduleValidator.Conflicts conflicts = new ScheduleValidator.Conflicts();
+        scheduleValidator.collectConflicts(TRAINER_ID, List.of(weekly(0)), conflicts);
+
+        // then
+        assertThat(conflicts.isEmpty()).isTrue();
+        conflicts.throwIfAny();
+    }
+
+    @Test
+    @DisplayName("성공: 인덱스에 남아있는 일정이 DB에서 취소되었으면 거절하지 않고 인덱스를 버린다")
+    void validateConflict_stale_index_hit() {
+        // given (DB에서 적재했지만 다른 서버에서 취소된 수업)
+        OffsetDateTime startAt = BASE;
+        OffsetDateTime endAt = BASE.plusHours(1);
+        when(trainerBusyIndex.findConflict(TRAINER_ID, startAt, endAt))
+                .thenReturn(Optional.of(new TrainerBusyIndex.Conflict(TrainerBusyIndex.BusyType.SCHEDULE, false)));
+        when(scheduleRepository.existsConflict(TRAINER_ID, startAt, endAt)).thenReturn(false);
+
+        // when
+        scheduleValidator.validateConflict(TRAINER_ID, startAt, endAt);
+
+        // then
+        verify(timeOffQueryPort).validateNoTimeOffOverlap(TRAINER_ID, startAt, endAt);
+        verify(trainerBusyIndex).evict(TRAINER_ID);
+    }
+
+    @Test
+    @DisplayName("실패: 이벤트로 확인된 구간과 겹치면 DB 조회 없이 바로 거절한다")
+    void validateConflict_confirmed_index_hit_skips_db() {
+        // given
+        OffsetDateTime startAt = BASE;
+        OffsetDateTime endAt = BASE.plusHours(1);
+        when(trainerBusyIndex.findConflict(TRAINER_ID, startAt, endAt))
+                .thenReturn(Optional.of(new TrainerBusyIndex.Conflict(TrainerBusyIndex.BusyType.TIME_OFF, true)));
+
+        // when & then
+        assertThatThrownBy(() -> scheduleValidator.validateConflict(TRAINER_ID, startAt, endAt))
+                .isInstanceOf(ScheduleException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ScheduleErrorCode.TIME_OFF_CONFLICT.getErrorCode());
+        verifyNoInteractions(scheduleRepository, timeOffQueryPort);
+    }
+
+    @Test
+    @DisplayName("실패: 인덱스 미스여도 DB에 충돌이 있으면 SCHEDULE_CONFLICT로 거절한다 (다른 서버에서 생성된 일정)")
+    void validateConflict_index_miss_checks_db() {
+        // given
+        OffsetDateTime startAt = BASE;
+        OffsetDateTime endAt = BASE.plusHours(1);
+        when(trainerBusyIndex.findConflict(TRAINER_ID, startAt, endAt)).thenReturn(Optional.empty());
+        when(scheduleRepository.existsConflict(TRAINER_ID, startAt, endAt)).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> scheduleValidator.validateConflict(TRAINER_ID, startAt, endAt))
+                .isInstanceOf(ScheduleException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ScheduleErrorCode.SCHEDULE_CONFLICT.getErrorCode());
+    }
+}
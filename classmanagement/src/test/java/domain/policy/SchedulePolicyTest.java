@@ -13,7 +13,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class SchedulePolicyTest {
     @Test
-    @DisplayName("예약 정책: 커리큘럼(과정)형 수업은 개별 회차 예약(decreaseCount) 불가")
+    @DisplayName("예약 정책: 커리큘럼(과정)형 수업은 개별 회차 예약(validateSeatReservation) 불가")
     void validateReservation_curriculum_fail() {
         // given
         OffsetDateTime future = OffsetDateTime.now().plusDays(1);
@@ -16,6 +16,12 @@ public class UserAuthInfo {
     private final Long userId;
     private final String email;
     private final Roles role;
+    // 표시 이름(토큰 클레임). 이름 클레임이 없는 예전 토큰이면 null
+    private final String displayName;
+
+    public UserAuthInfo(Long userId, String email, Roles role) {
+        this(userId, email, role, null);
+    }
 
     // 객체 스스로가 권한을 확인하게 함
     public boolean isTrainer(){
@@ -38,8 +44,17 @@ public class UserAuthInfo {
             return true;
    }
 
+    public boolean hasDisplayName(){
+        return displayName != null && !displayName.isBlank();
+    }
+
+    // 이름만 바꾼 복사본 (토큰 발급 직전, 프로필 이름 변경 후 재발급 시 사용)
+    public UserAuthInfo withDisplayName(String displayName){
+        return new UserAuthInfo(userId, email, role, displayName);
+    }
+
     public static UserAuthInfo system(){
-        return new UserAuthInfo(-1L, "system", Roles.SYSTEM);
+        return new UserAuthInfo(-1L, "system", Roles.SYSTEM, "SYSTEM");
     }
 }
 /*
@@ -0,0 +1,10 @@
+package com.gymproject.common.dto.booking;
+
+import java.time.OffsetDateTime;
+
+public record TimeOffSlot(
+        Long timeOffId,
+        OffsetDateTime startAt,
+        OffsetDateTime endAt
+) {
+}
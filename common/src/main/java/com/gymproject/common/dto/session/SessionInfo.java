@@ -0,0 +1,11 @@
+package com.gymproject.common.dto.session;
+
+// 세션 차감/복구 결과 (변경 후 상태)
+// 예약 응답을 만들 때 세션 타입을 다시 조회하지 않도록 함께 돌려줌
+public record SessionInfo(
+        Long sessionId,
+        String sessionType,
+        int remainingSessions
+) {
+
+}
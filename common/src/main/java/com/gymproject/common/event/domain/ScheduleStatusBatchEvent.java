@@ -0,0 +1,15 @@
+package com.gymproject.common.event.domain;
+
+import java.util.List;
+
+public record ScheduleStatusBatchEvent(
+        Long recurrenceGroupId, // 묶음의 기준이 되는 그룹 ID
+        Long trainerId, // Trainer ID
+        List<Long> scheduleIds, // source ID 목록
+        String status // 변경된 ScheduleStatus
+){}
+/*
+    [고려]
+    커리큘럼 그룹이 OPEN <-> CLOSED로 바뀌면 하위 스케줄 N개의 상태가 한번에 바뀜.
+    ScheduleEvent를 N번 보내지 않고 한번에 묶어서 보냄(ReadModel도 UPDATE 한번으로 처리)
+ */
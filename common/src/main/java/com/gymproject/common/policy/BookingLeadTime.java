@@ -0,0 +1,23 @@
+package com.gymproject.common.policy;
+
+import com.gymproject.common.contracts.SessionConsumeKind;
+
+/*
+    이용권 종류별 예약 마감 (수업 시작 N시간 전까지만 예약 가능)
+    예약 검증(booking)과 빈 시간 조회(readmodel)가 같은 값을 쓰도록 공통 모듈에 둠
+ */
+public final class BookingLeadTime {
+
+    public static final int FREE_TRIAL_HOURS = 3;
+    public static final int PAID_HOURS = 1;
+
+    private BookingLeadTime() {
+    }
+
+    public static int hoursOf(SessionConsumeKind kind) {
+        return switch (kind) {
+            case FREE_TRIAL -> FREE_TRIAL_HOURS;
+            case PAID -> PAID_HOURS;
+        };
+    }
+}
@@ -0,0 +1,11 @@
+package com.gymproject.common.port.auth;
+
+import com.gymproject.common.dto.auth.UserAuthInfo;
+
+public interface TokenIssuePort {
+
+    // 토큰에 담긴 정보(이름 등)가 바뀌었을 때 바뀐 정보로 액세스 토큰 재발급
+    // currentAccessToken(Authorization 헤더 값)은 예전 정보가 담겨있으므로 만료 전까지 사용 못하게 무효화
+    String reissueAccessToken(UserAuthInfo userAuthInfo, String currentAccessToken);
+
+}
@@ -1,8 +1,17 @@
 package com.gymproject.common.port.booking;
 
+import com.gymproject.common.dto.booking.TimeOffSlot;
+
 import java.time.OffsetDateTime;
+import java.util.List;
 
 public interface TimeOffQueryPort {
     void validateNoTimeOffOverlap(Long trainerId, OffsetDateTime startTime, OffsetDateTime endTime);
 
+    // 여러 후보 시간대 중 휴무와 겹치는 후보의 시작시간 목록 (쿼리 한번)
+    List<OffsetDateTime> findTimeOffOverlaps(Long trainerId, List<OffsetDateTime> startTimes, List<OffsetDateTime> endTimes);
+
+    // from 이후에 끝나는 유효한(취소되지 않은) 휴무 목록
+    List<TimeOffSlot> findActiveTimeOffs(Long trainerId, OffsetDateTime from);
+
 }
@@ -1,9 +1,15 @@
 package com.gymproject.common.port.user;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface UserProfilePort {
     // 트레이너 이름 가져오기
     String getUserFullName(Long trainerId);
 
+    // 여러 사용자 이름을 한번에 가져오기 (userId -> 이름, 없는 사용자는 빠짐)
+    Map<Long, String> getUserFullNames(Collection<Long> userIds);
+
     // 회원가입시 중복되는 휴대폰 번호가 있는건지 확인
     void checkDuplicatePhoneNumber(String phoneNumber);
 
@@ -1,10 +1,16 @@
 package com.gymproject.common.port.user;
 
 import com.gymproject.common.contracts.SessionConsumeKind;
+import com.gymproject.common.dto.session.SessionInfo;
 import com.gymproject.common.vo.Modifier;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface UserSessionPort {
-    Long consumeOneSession(Long userId, SessionConsumeKind sessionConsumeKind);
-    void restoreSession(Long sessionId, Modifier modifier);
+    SessionInfo consumeOneSession(Long userId, SessionConsumeKind sessionConsumeKind);
+    SessionInfo restoreSession(Long sessionId, Modifier modifier);
     String getSessionType(Long sessionId);
+    // 여러 세션의 타입을 쿼리 한번으로 조회 (없는 세션은 결과에서 빠짐)
+    Map<Long, String> getSessionTypes(Collection<Long> sessionIds);
 }
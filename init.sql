@@ -86,6 +86,9 @@ CREATE TABLE public."USER_SESSION_TB" (
 
 ALTER TABLE public."USER_SESSION_TB" ADD CONSTRAINT "FK_USER_TO_SESSION" FOREIGN KEY (user_id) REFERENCES public."USER_TB"(user_id);
 
+-- 세션 차감 시 사용 가능한 세션 선택용 (만료일 임박 순)
+CREATE INDEX "IDX_USER_SESSION_CONSUMABLE" ON public."USER_SESSION_TB" USING btree (user_id, session_type, expire_at, session_id) WHERE status = 'ACTIVE';
+
 
 
 -- public."USER_SESSION_HISTORY_TB" definition
@@ -94,8 +97,11 @@ ALTER TABLE public."USER_SESSION_TB" ADD CONSTRAINT "FK_USER_TO_SESSION" FOREIGN
 
 -- DROP TABLE public."USER_SESSION_HISTORY_TB";
 
+-- [중요] created_at 기준 월별 파티션 (파티션 생성/보관은 HistoryPartitionManager가 담당)
+-- 파티션 전의 기존 DB는 migration/history_partition.sql 로 전환
+-- 파티션 테이블은 IDENTITY를 쓸 수 없고(PG 17 미만), PK에 파티션 키가 포함되어야함
 CREATE TABLE public."USER_SESSION_HISTORY_TB" (
-                                                  history_id int8 GENERATED BY DEFAULT AS IDENTITY( INCREMENT BY 1 MINVALUE 1 MAXVALUE 9223372036854775807 START 1 CACHE 1 NO CYCLE) NOT NULL,
+                                                  history_id int8 NOT NULL,
                                                   user_session_id int8 NOT NULL,
                                                   user_id int8 NOT NULL,
                                                   change_type varchar(255) NOT NULL,
@@ -109,10 +115,16 @@ CREATE TABLE public."USER_SESSION_HISTORY_TB" (
                                                   modifier_role varchar(255) NOT NULL,
                                                   modifier_name varchar(255) NULL,
                                                   expired_at_snapshot timestamptz NOT NULL,
-                                                  CONSTRAINT "PK_USER_SESSION_HISTORY_TB" PRIMARY KEY (history_id)
-);
+                                                  CONSTRAINT "PK_USER_SESSION_HISTORY_TB" PRIMARY KEY (history_id, created_at)
+) PARTITION BY RANGE (created_at);
+-- 월 파티션이 아직 없는 시점의 데이터를 받는 기본 파티션 (월 파티션을 만들 때 해당 월 데이터를 옮김)
+CREATE TABLE public."USER_SESSION_HISTORY_TB_DEFAULT" PARTITION OF public."USER_SESSION_HISTORY_TB" DEFAULT;
 CREATE INDEX "IDX_SESSION_HISTORY_USER_DATE" ON public."USER_SESSION_HISTORY_TB" USING btree (user_id, created_at DESC);
 
+-- 배치 INSERT용 시퀀스 (엔티티 allocationSize = 50 과 INCREMENT 값을 맞춰야함)
+CREATE SEQUENCE public."USER_SESSION_HISTORY_SEQ" INCREMENT BY 50 MINVALUE 1 MAXVALUE 9223372036854775807 START 1 CACHE 1 NO CYCLE;
+SELECT setval('public."USER_SESSION_HISTORY_SEQ"', COALESCE((SELECT MAX(history_id) FROM public."USER_SESSION_HISTORY_TB"), 0) + 1, false);
+
 
 -- public."USER_SESSION_HISTORY_TB" foreign keys
 
@@ -151,8 +163,9 @@ ALTER TABLE public."USER_MEMBERSHIP_TB" ADD CONSTRAINT fk_membership_user FOREIG
 
 -- DROP TABLE public."USER_MEMBERSHIP_HISTORY_TB";
 
+-- [중요] created_at 기준 월별 파티션 (USER_SESSION_HISTORY_TB 참고)
 CREATE TABLE public."USER_MEMBERSHIP_HISTORY_TB" (
-                                                     membership_history_id int8 GENERATED BY DEFAULT AS IDENTITY( INCREMENT BY 1 MINVALUE 1 MAXVALUE 9223372036854775807 START 1 CACHE 1 NO CYCLE) NOT NULL,
+                                                     membership_history_id int8 NOT NULL,
                                                      created_at timestamptz(6) NOT NULL,
                                                      updated_at timestamptz(6) NOT NULL,
                                                      after_expired_at_snapshot timestamptz(6) NOT NULL,
@@ -169,10 +182,15 @@ CREATE TABLE public."USER_MEMBERSHIP_HISTORY_TB" (
                                                      status varchar(255) NULL,
                                                      user_id int8 NOT NULL,
                                                      CONSTRAINT "USER_MEMBERSHIP_HISTORY_TB_change_type_check" CHECK (((change_type)::text = ANY ((ARRAY['PURCHASE'::character varying, 'EXTEND'::character varying, 'EXPIRED'::character varying, 'CANCELLED'::character varying, 'SUSPEND'::character varying, 'RESUME'::character varying, 'ROLLBACK'::character varying])::text[]))),
-	CONSTRAINT "USER_MEMBERSHIP_HISTORY_TB_pkey" PRIMARY KEY (membership_history_id),
+	CONSTRAINT "USER_MEMBERSHIP_HISTORY_TB_pkey" PRIMARY KEY (membership_history_id, created_at),
 	CONSTRAINT "USER_MEMBERSHIP_HISTORY_TB_plan_type_check" CHECK (((plan_type)::text = ANY ((ARRAY['MONTH_1'::character varying, 'MONTH_3'::character varying, 'MONTH_6'::character varying, 'MONTH_12'::character varying])::text[]))),
 	CONSTRAINT "USER_MEMBERSHIP_HISTORY_TB_status_check" CHECK (((status)::text = ANY ((ARRAY['ACTIVE'::character varying, 'EXPIRED'::character varying, 'CANCELLED'::character varying, 'SUSPENDED'::character varying])::text[])))
-);
+) PARTITION BY RANGE (created_at);
+CREATE TABLE public."USER_MEMBERSHIP_HISTORY_TB_DEFAULT" PARTITION OF public."USER_MEMBERSHIP_HISTORY_TB" DEFAULT;
+
+-- 배치 INSERT용 시퀀스 (엔티티 allocationSize = 50 과 INCREMENT 값을 맞춰야함)
+CREATE SEQUENCE public."USER_MEMBERSHIP_HISTORY_SEQ" INCREMENT BY 50 MINVALUE 1 MAXVALUE 9223372036854775807 START 1 CACHE 1 NO CYCLE;
+SELECT setval('public."USER_MEMBERSHIP_HISTORY_SEQ"', COALESCE((SELECT MAX(membership_history_id) FROM public."USER_MEMBERSHIP_HISTORY_TB"), 0) + 1, false);
 
 -- public."CLASS_TEMPLATE_TB" definition
 
@@ -245,6 +263,11 @@ CREATE TABLE public."CLASS_SCHEDULE_TB" (
                                             CONSTRAINT no_schedule_overlap EXCLUDE USING gist (trainer_id WITH =, time_range WITH &&) WHERE (((status)::text <> ALL (ARRAY['CANCELED'::text, 'CANCELLED'::text])))
 );
 
+-- 배치 INSERT용 시퀀스 (엔티티 allocationSize = 50 과 INCREMENT 값을 맞춰야함)
+CREATE SEQUENCE public."CLASS_SCHEDULE_SEQ" INCREMENT BY 50 MINVALUE 1 MAXVALUE 9223372036854775807 START 1 CACHE 1 NO CYCLE;
+-- 기존 데이터가 있는 DB에 적용할 때 IDENTITY로 발급된 ID와 겹치지 않도록 맞춤
+SELECT setval('public."CLASS_SCHEDULE_SEQ"', COALESCE((SELECT MAX(class_schedule_id) FROM public."CLASS_SCHEDULE_TB"), 0) + 1, false);
+
 -- public."CLASS_SCHEDULE_TB" foreign keys
 
 ALTER TABLE public."CLASS_SCHEDULE_TB" ADD CONSTRAINT "FK_CLASS_TEMPLATE_TB_TO_CLASS_SCHEDULE_TB_1" FOREIGN KEY (class_template_id) REFERENCES public."CLASS_TEMPLATE_TB"(template_id);
@@ -272,6 +295,10 @@ CREATE TABLE public."BOOKING_TB" (
 );
 CREATE UNIQUE INDEX idx_booking_user_active ON public."BOOKING_TB" USING btree (user_id, class_schedule_id) WHERE ((status)::text <> 'CANCELLED'::text);
 
+-- 배치 INSERT용 시퀀스 (엔티티 allocationSize = 50 과 INCREMENT 값을 맞춰야함)
+CREATE SEQUENCE public."BOOKING_SEQ" INCREMENT BY 50 MINVALUE 1 MAXVALUE 9223372036854775807 START 1 CACHE 1 NO CYCLE;
+SELECT setval('public."BOOKING_SEQ"', COALESCE((SELECT MAX(booking_id) FROM public."BOOKING_TB"), 0) + 1, false);
+
 
 -- public."BOOKING_TB" foreign keys
 
@@ -285,8 +312,9 @@ ALTER TABLE public."BOOKING_TB" ADD CONSTRAINT "FK_USER_TO_BOOKING" FOREIGN KEY
 
 -- DROP TABLE public."BOOKING_HISTORY_TB";
 
+-- [중요] created_at 기준 월별 파티션 (USER_SESSION_HISTORY_TB 참고)
 CREATE TABLE public."BOOKING_HISTORY_TB" (
-                                             history_id int8 GENERATED BY DEFAULT AS IDENTITY( INCREMENT BY 1 MINVALUE 1 MAXVALUE 9223372036854775807 START 1 CACHE 1 NO CYCLE) NOT NULL,
+                                             history_id int8 NOT NULL,
                                              booking_id int8 NOT NULL,
                                              modifier_id int8 NOT NULL,
                                              modifier_role varchar(255) NOT NULL,
@@ -299,10 +327,31 @@ CREATE TABLE public."BOOKING_HISTORY_TB" (
                                              booking_type varchar(255) NULL,
                                              cancellation_type varchar(255) NULL,
                                              CONSTRAINT "BOOKING_HISTORY_TB_cancellation_type_check" CHECK (((cancellation_type)::text = ANY ((ARRAY['FREE_CANCEL'::character varying, 'PENALTY_CANCEL'::character varying, 'IMPOSSIBLE'::character varying])::text[]))),
-	CONSTRAINT "PK_BOOKING_HISTORY_TB" PRIMARY KEY (history_id)
-);
+	CONSTRAINT "PK_BOOKING_HISTORY_TB" PRIMARY KEY (history_id, created_at)
+) PARTITION BY RANGE (created_at);
+CREATE TABLE public."BOOKING_HISTORY_TB_DEFAULT" PARTITION OF public."BOOKING_HISTORY_TB" DEFAULT;
 CREATE INDEX "IDX_BOOKING_HISTORY_BOOKING_ID" ON public."BOOKING_HISTORY_TB" USING btree (booking_id, created_at DESC);
 
+-- 배치 INSERT용 시퀀스 (엔티티 allocationSize = 50 과 INCREMENT 값을 맞춰야함)
+CREATE SEQUENCE public."BOOKING_HISTORY_SEQ" INCREMENT BY 50 MINVALUE 1 MAXVALUE 9223372036854775807 START 1 CACHE 1 NO CYCLE;
+SELECT setval('public."BOOKING_HISTORY_SEQ"', COALESCE((SELECT MAX(history_id) FROM public."BOOKING_HISTORY_TB"), 0) + 1, false);
+
+-- public."HISTORY_ARCHIVE_TB" definition
+
+-- 보관 기간이 지난 히스토리 파티션의 보관소 (HistoryPartitionManager)
+-- 원본 테이블의 하루치 행을 jsonb 배열 하나로 묶어 저장 -> 큰 값은 TOAST에서 lz4로 압축됨
+CREATE TABLE public."HISTORY_ARCHIVE_TB" (
+                                             archive_id int8 GENERATED BY DEFAULT AS IDENTITY( INCREMENT BY 1 MINVALUE 1 MAXVALUE 9223372036854775807 START 1 CACHE 1 NO CYCLE) NOT NULL,
+                                             source_table varchar(255) NOT NULL,
+                                             archived_day date NOT NULL,
+                                             row_count int4 NOT NULL,
+                                             payload jsonb NOT NULL,
+                                             archived_at timestamptz NOT NULL,
+                                             CONSTRAINT "PK_HISTORY_ARCHIVE_TB" PRIMARY KEY (archive_id)
+);
+ALTER TABLE public."HISTORY_ARCHIVE_TB" ALTER COLUMN payload SET COMPRESSION lz4;
+CREATE INDEX "IDX_HISTORY_ARCHIVE_SOURCE_DAY" ON public."HISTORY_ARCHIVE_TB" USING btree (source_table, archived_day);
+
 -- public."TRAINER_CALENDAR_R" definition
 
 -- Drop table
@@ -0,0 +1,99 @@
+-- 기존 DB의 이력 테이블을 월별 파티션 테이블로 전환 (새 DB는 init.sql로 바로 만들어지므로 필요 없음)
+-- [중요] 서버를 모두 내린 뒤 실행 (테이블 이름을 바꾸는 동안 이력 INSERT가 들어오면 안 됨)
+-- - 여러 번 실행해도 됨: 이미 파티션 테이블이면 해당 테이블은 건너뜀
+-- - 기존 행은 전부 DEFAULT 파티션으로 들어가고, 서버가 뜨면 HistoryPartitionManager가 월별 파티션으로 옮김
+-- - 옛 테이블은 <테이블>_OLD 로 남겨둠 (건수 확인 후 직접 DROP)
+--
+-- 실행: psql -v ON_ERROR_STOP=1 -f migration/history_partition.sql
+
+BEGIN;
+
+-- 1. USER_SESSION_HISTORY_TB
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_partitioned_table pt
+               JOIN pg_class c ON c.oid = pt.partrelid
+               WHERE c.relname = 'USER_SESSION_HISTORY_TB' AND pg_table_is_visible(c.oid)) THEN
+        RAISE NOTICE 'USER_SESSION_HISTORY_TB는 이미 파티션 테이블입니다.';
+        RETURN;
+    END IF;
+
+    -- 1-1. 옛 테이블과 이름이 겹치는 PK/인덱스부터 비켜둠
+    ALTER TABLE public."USER_SESSION_HISTORY_TB" RENAME TO "USER_SESSION_HISTORY_TB_OLD";
+    ALTER TABLE public."USER_SESSION_HISTORY_TB_OLD" RENAME CONSTRAINT "PK_USER_SESSION_HISTORY_TB" TO "PK_USER_SESSION_HISTORY_TB_OLD";
+    ALTER INDEX public."IDX_SESSION_HISTORY_USER_DATE" RENAME TO "IDX_SESSION_HISTORY_USER_DATE_OLD";
+
+    -- 1-2. init.sql과 같은 구조로 생성 (LIKE는 IDENTITY를 복사하지 않음)
+    CREATE TABLE public."USER_SESSION_HISTORY_TB" (
+        LIKE public."USER_SESSION_HISTORY_TB_OLD" INCLUDING DEFAULTS INCLUDING CONSTRAINTS,
+        CONSTRAINT "PK_USER_SESSION_HISTORY_TB" PRIMARY KEY (history_id, created_at)
+    ) PARTITION BY RANGE (created_at);
+    CREATE TABLE public."USER_SESSION_HISTORY_TB_DEFAULT" PARTITION OF public."USER_SESSION_HISTORY_TB" DEFAULT;
+    CREATE INDEX "IDX_SESSION_HISTORY_USER_DATE" ON public."USER_SESSION_HISTORY_TB" USING btree (user_id, created_at DESC);
+
+    -- 1-3. 행 복사 + FK
+    INSERT INTO public."USER_SESSION_HISTORY_TB" SELECT * FROM public."USER_SESSION_HISTORY_TB_OLD";
+    ALTER TABLE public."USER_SESSION_HISTORY_TB" ADD CONSTRAINT "FK_SESSION_TO_HISTORY" FOREIGN KEY (user_session_id) REFERENCES public."USER_SESSION_TB"(session_id);
+END $$;
+
+-- 2. USER_MEMBERSHIP_HISTORY_TB
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_partitioned_table pt
+               JOIN pg_class c ON c.oid = pt.partrelid
+               WHERE c.relname = 'USER_MEMBERSHIP_HISTORY_TB' AND pg_table_is_visible(c.oid)) THEN
+        RAISE NOTICE 'USER_MEMBERSHIP_HISTORY_TB는 이미 파티션 테이블입니다.';
+        RETURN;
+    END IF;
+
+    ALTER TABLE public."USER_MEMBERSHIP_HISTORY_TB" RENAME TO "USER_MEMBERSHIP_HISTORY_TB_OLD";
+    ALTER TABLE public."USER_MEMBERSHIP_HISTORY_TB_OLD" RENAME CONSTRAINT "USER_MEMBERSHIP_HISTORY_TB_pkey" TO "USER_MEMBERSHIP_HISTORY_TB_OLD_pkey";
+
+    CREATE TABLE public."USER_MEMBERSHIP_HISTORY_TB" (
+        LIKE public."USER_MEMBERSHIP_HISTORY_TB_OLD" INCLUDING DEFAULTS INCLUDING CONSTRAINTS,
+        CONSTRAINT "USER_MEMBERSHIP_HISTORY_TB_pkey" PRIMARY KEY (membership_history_id, created_at)
+    ) PARTITION BY RANGE (created_at);
+    CREATE TABLE public."USER_MEMBERSHIP_HISTORY_TB_DEFAULT" PARTITION OF public."USER_MEMBERSHIP_HISTORY_TB" DEFAULT;
+
+    INSERT INTO public."USER_MEMBERSHIP_HISTORY_TB" SELECT * FROM public."USER_MEMBERSHIP_HISTORY_TB_OLD";
+END $$;
+
+-- 3. BOOKING_HISTORY_TB
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_partitioned_table pt
+               JOIN pg_class c ON c.oid = pt.partrelid
+               WHERE c.relname = 'BOOKING_HISTORY_TB' AND pg_table_is_visible(c.oid)) THEN
+        RAISE NOTICE 'BOOKING_HISTORY_TB는 이미 파티션 테이블입니다.';
+        RETURN;
+    END IF;
+
+    ALTER TABLE public."BOOKING_HISTORY_TB" RENAME TO "BOOKING_HISTORY_TB_OLD";
+    ALTER TABLE public."BOOKING_HISTORY_TB_OLD" RENAME CONSTRAINT "PK_BOOKING_HISTORY_TB" TO "PK_BOOKING_HISTORY_TB_OLD";
+    ALTER INDEX public."IDX_BOOKING_HISTORY_BOOKING_ID" RENAME TO "IDX_BOOKING_HISTORY_BOOKING_ID_OLD";
+
+    CREATE TABLE public."BOOKING_HISTORY_TB" (
+        LIKE public."BOOKING_HISTORY_TB_OLD" INCLUDING DEFAULTS INCLUDING CONSTRAINTS,
+        CONSTRAINT "PK_BOOKING_HISTORY_TB" PRIMARY KEY (history_id, created_at)
+    ) PARTITION BY RANGE (created_at);
+    CREATE TABLE public."BOOKING_HISTORY_TB_DEFAULT" PARTITION OF public."BOOKING_HISTORY_TB" DEFAULT;
+    CREATE INDEX "IDX_BOOKING_HISTORY_BOOKING_ID" ON public."BOOKING_HISTORY_TB" USING btree (booking_id, created_at DESC);
+
+    INSERT INTO public."BOOKING_HISTORY_TB" SELECT * FROM public."BOOKING_HISTORY_TB_OLD";
+END $$;
+
+-- 4. 배치 INSERT용 시퀀스 (엔티티 allocationSize = 50 과 INCREMENT 값을 맞춰야함)
+-- 기존 id 다음 값부터 발급되도록 맞춤 (이미 있는 시퀀스도 다시 맞춰도 안전함)
+CREATE SEQUENCE IF NOT EXISTS public."USER_SESSION_HISTORY_SEQ" INCREMENT BY 50 MINVALUE 1 MAXVALUE 9223372036854775807 START 1 CACHE 1 NO CYCLE;
+SELECT setval('public."USER_SESSION_HISTORY_SEQ"', GREATEST(COALESCE((SELECT MAX(history_id) FROM public."USER_SESSION_HISTORY_TB"), 0) + 1,
+                                                            (SELECT CASE WHEN is_called THEN last_value + 1 ELSE last_value END FROM public."USER_SESSION_HISTORY_SEQ")), false);
+
+CREATE SEQUENCE IF NOT EXISTS public."USER_MEMBERSHIP_HISTORY_SEQ" INCREMENT BY 50 MINVALUE 1 MAXVALUE 9223372036854775807 START 1 CACHE 1 NO CYCLE;
+SELECT setval('public."USER_MEMBERSHIP_HISTORY_SEQ"', GREATEST(COALESCE((SELECT MAX(membership_history_id) FROM public."USER_MEMBERSHIP_HISTORY_TB"), 0) + 1,
+                                                               (SELECT CASE WHEN is_called THEN last_value + 1 ELSE last_value END FROM public."USER_MEMBERSHIP_HISTORY_SEQ")), false);
+
+CREATE SEQUENCE IF NOT EXISTS public."BOOKING_HISTORY_SEQ" INCREMENT BY 50 MINVALUE 1 MAXVALUE 9223372036854775807 START 1 CACHE 1 NO CYCLE;
+SELECT setval('public."BOOKING_HISTORY_SEQ"', GREATEST(COALESCE((SELECT MAX(history_id) FROM public."BOOKING_HISTORY_TB"), 0) + 1,
+                                                       (SELECT CASE WHEN is_called THEN last_value + 1 ELSE last_value END FROM public."BOOKING_HISTORY_SEQ")), false);
+
+COMMIT;
@@ -1,6 +1,9 @@
 package com.gymproject.readmodel.api;
 
+import com.gymproject.common.contracts.SessionConsumeKind;
 import com.gymproject.common.dto.exception.CommonResDto;
+import com.gymproject.readmodel.application.AvailableSlotResponse;
+import com.gymproject.readmodel.application.TrainerAvailabilityService;
 import com.gymproject.readmodel.application.TrainerCalendarResponse;
 import com.gymproject.readmodel.application.TrainerCalendarService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -29,6 +32,7 @@ import static com.gymproject.common.constant.GymTimePolicy.SERVICE_ZONE;
 public class TrainerCalendarController {
 
     private final TrainerCalendarService trainerCalendarService;
+    private final TrainerAvailabilityService trainerAvailabilityService;
 
     @Operation(
             summary = "1. 트레이너 통합 일정 조회",
@@ -68,6 +72,37 @@ public class TrainerCalendarController {
                 CommonResDto.success(200, "일정이 성공적으로 조회되었습니다.", result)
         );
     }
+
+    @Operation(
+            summary = "2. 트레이너 예약 가능 시간 조회",
+            description = """
+            기간 내에 1:1 PT를 예약할 수 있는 빈 시간을 수업 시간(분) 단위로 조회합니다.
+            
+            1. 트레이너의 수업, 1:1 예약, 휴무를 합쳐서 바쁜 시간을 계산합니다. (취소된 일정 제외)
+            2. 바쁜 시간 사이의 빈 시간을 `slotMinutes` 길이로 나눠서 반환합니다. (10분 단위 시작)
+               예약 마감이 지난 시간은 제외합니다. (`PAID`: 수업 1시간 전, `FREE_TRIAL`: 수업 3시간 전까지)
+            3. 조회 기간은 최대 31일입니다.
+            """
+    )
+    @GetMapping("/availability")
+    public ResponseEntity<CommonResDto<List<AvailableSlotResponse>>> getAvailableSlots(
+            @Parameter(description = "트레이너 고유 ID") @RequestParam Long trainerId,
+            @Parameter(description = "조회 시작일")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @Parameter(description = "조회 종료일")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            @Parameter(description = "수업 시간(분)", example = "60")
+            @RequestParam(defaultValue = "60") int slotMinutes,
+            @Parameter(description = "이용권 종류 (PAID, FREE_TRIAL)", example = "PAID")
+            @RequestParam(defaultValue = "PAID") SessionConsumeKind ticketType
+    ) {
+        List<AvailableSlotResponse> result =
+                trainerAvailabilityService.getAvailableSlots(trainerId, start, end, slotMinutes, ticketType);
+
+        return ResponseEntity.ok(
+                CommonResDto.success(200, "예약 가능 시간이 성공적으로 조회되었습니다.", result)
+        );
+    }
 }
 /*
     Date , DateTime, Offset/zoned
@@ -0,0 +1,23 @@
+package com.gymproject.readmodel.application;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.gymproject.readmodel.domain.TimeSlot;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.OffsetDateTime;
+
+@Schema(description = "트레이너 예약 가능 시간 응답")
+public record AvailableSlotResponse(
+        @Schema(description = "슬롯 시작 시간 (호주 브리즈번 기준)", example = "2026-01-18 10:00:00")
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Australia/Brisbane")
+        OffsetDateTime start,
+
+        @Schema(description = "슬롯 종료 시간 (호주 브리즈번 기준)", example = "2026-01-18 11:00:00")
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Australia/Brisbane")
+        OffsetDateTime end
+) {
+
+    public static AvailableSlotResponse create(TimeSlot slot) {
+        return new AvailableSlotResponse(slot.startAt(), slot.endAt());
+    }
+}
@@ -0,0 +1,128 @@
+package com.gymproject.readmodel.application;
+
+import com.gymproject.common.contracts.SessionConsumeKind;
+import com.gymproject.common.exception.InvalidInputException;
+import com.gymproject.common.policy.BookingLeadTime;
+import com.gymproject.common.util.GymDateUtil;
+import com.gymproject.readmodel.domain.AvailabilityCalculator;
+import com.gymproject.readmodel.domain.TimeSlot;
+import com.gymproject.readmodel.domain.TrainerCalendar;
+import com.gymproject.readmodel.infrastructure.cache.TrainerAvailabilityCache;
+import com.gymproject.readmodel.infrastructure.persistence.TrainerCalendarRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+import static com.gymproject.common.constant.GymTimePolicy.SERVICE_ZONE;
+
+@Component
+@RequiredArgsConstructor
+public class TrainerAvailabilityService {
+
+    private static final int MIN_SLOT_MINUTES = 10;
+    private static final int MAX_SLOT_MINUTES = 240;
+    private static final int MAX_RANGE_DAYS = 31;
+
+    private final TrainerCalendarRepository trainerCalendarRepository;
+    private final TrainerAvailabilityCache trainerAvailabilityCache;
+
+    // 1] 기간 내 예약 가능한 슬롯 조회 (ticketType: 이용권 종류별 예약 마감 시간 적용)
+    @Transactional(readOnly = true)
+    public List<AvailableSlotResponse> getAvailableSlots(Long trainerId, LocalDate start, LocalDate end,
+                                                         int slotMinutes, SessionConsumeKind ticketType) {
+        validate(start, end, slotMinutes);
+
+        // 1. 날짜별 바쁜 구간: 캐시에 없는 날짜만 모아서 한번에 조회
+        Map<LocalDate, List<TimeSlot>> busyByDay = new HashMap<>();
+        List<LocalDate> missing = new ArrayList<>();
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            LocalDate day = date;
+            trainerAvailabilityCache.get(trainerId, day)
+                    .ifPresentOrElse(busy -> busyByDay.put(day, busy), () -> missing.add(day));
+        }
+        if (!missing.isEmpty()) {
+            busyByDay.putAll(loadBusyDays(trainerId, missing));
+        }
+
+        // 2. 날짜별 빈 시간 계산 (예약 마감이 지난 시간은 제외: 유료 1시간 전, 무료 체험 3시간 전까지)
+        OffsetDateTime bookableFrom = GymDateUtil.now().plusHours(BookingLeadTime.hoursOf(ticketType));
+        Duration slotLength = Duration.ofMinutes(slotMinutes);
+        List<AvailableSlotResponse> result = new ArrayList<>();
+
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            OffsetDateTime dayStart = date.atStartOfDay(SERVICE_ZONE).toOffsetDateTime();
+            OffsetDateTime dayEnd = date.plusDays(1).atStartOfDay(SERVICE_ZONE).toOffsetDateTime();
+            OffsetDateTime windowStart = dayStart.isBefore(bookableFrom) ? bookableFrom : dayStart;
+            if (!windowStart.isBefore(dayEnd)) continue;
+
+            AvailabilityCalculator.findFreeSlots(busyByDay.get(date), windowStart, dayEnd, slotLength)
+                    .stream()
+                    .map(AvailableSlotResponse::create)
+                    .forEach(result::add);
+        }
+        return result;
+    }
+
+    // --- Private Helpers ---
+
+    // 캐시에 없는 날짜들의 바쁜 구간을 조회해서 합친 뒤 날짜별로 나눠 캐시에 저장
+    private Map<LocalDate, List<TimeSlot>> loadBusyDays(Long trainerId, List<LocalDate> days) {
+        // 1. 조회 전 버전 기록 (조회 도중 일정이 바뀌면 캐시에 넣지 않음)
+        long version = trainerAvailabilityCache.version(trainerId);
+
+        // 2. 첫날 00:00 ~ 마지막날 다음날 00:00 사이를 한번에 조회 후 합침
+        LocalDate first = days.get(0);
+        LocalDate last = days.get(days.size() - 1);
+        List<TimeSlot> busy = trainerCalendarRepository.findBusyByTrainerIdAndPeriod(
+                        trainerId,
+                        first.atStartOfDay(SERVICE_ZONE).toOffsetDateTime(),
+                        last.plusDays(1).atStartOfDay(SERVICE_ZONE).toOffsetDateTime())
+                .stream()
+                .map(this::toTimeSlot)
+                .filter(Objects::nonNull)
+                .toList();
+        List<TimeSlot> merged = AvailabilityCalculator.mergeBusy(busy);
+
+        // 3. 날짜별로 나누기 (여러 날에 걸친 휴무는 각 날짜에 모두 포함)
+        Map<LocalDate, List<TimeSlot>> busyByDay = new HashMap<>();
+        for (LocalDate day : days) {
+            OffsetDateTime dayStart = day.atStartOfDay(SERVICE_ZONE).toOffsetDateTime();
+            OffsetDateTime dayEnd = day.plusDays(1).atStartOfDay(SERVICE_ZONE).toOffsetDateTime();
+            busyByDay.put(day, merged.stream().filter(slot -> slot.overlaps(dayStart, dayEnd)).toList());
+        }
+
+        trainerAvailabilityCache.putAll(trainerId, version, busyByDay);
+        return busyByDay;
+    }
+
+    private TimeSlot toTimeSlot(TrainerCalendar calendar) {
+        // 상한/하한이 없는 범위는 빈 시간 계산에서 제외
+        if (calendar.getTimeRange() == null
+                || calendar.getTimeRange().lower() == null
+                || calendar.getTimeRange().upper() == null) {
+            return null;
+        }
+        return new TimeSlot(
+                calendar.getTimeRange().lower().toOffsetDateTime(),
+                calendar.getTimeRange().upper().toOffsetDateTime());
+    }
+
+    private void validate(LocalDate start, LocalDate end, int slotMinutes) {
+        if (start.isAfter(end)) {
+            throw new InvalidInputException("조회 시작일이 종료일보다 늦습니다.");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_RANGE_DAYS) {
+            throw new InvalidInputException("빈 시간은 최대 " + MAX_RANGE_DAYS + "일까지 조회할 수 있습니다.");
+        }
+        if (slotMinutes < MIN_SLOT_MINUTES || slotMinutes > MAX_SLOT_MINUTES) {
+            throw new InvalidInputException(
+                    "수업 시간은 " + MIN_SLOT_MINUTES + "분 이상 " + MAX_SLOT_MINUTES + "분 이하여야 합니다.");
+        }
+    }
+}
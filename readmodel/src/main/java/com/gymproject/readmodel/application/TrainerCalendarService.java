@@ -1,23 +1,23 @@
 package com.gymproject.readmodel.application;
 
 import com.gymproject.common.event.domain.ScheduleEvent;
+import com.gymproject.common.event.domain.ScheduleStatusBatchEvent;
 import com.gymproject.common.event.domain.TimeOffEvent;
 import com.gymproject.common.port.user.UserProfilePort;
+import com.gymproject.common.util.GymDateUtil;
 import com.gymproject.readmodel.domain.CalendarStatus;
-import com.gymproject.readmodel.domain.TrainerCalendar;
 import com.gymproject.readmodel.domain.type.CalendarSource;
+import com.gymproject.readmodel.infrastructure.cache.TrainerAvailabilityCache;
 import com.gymproject.readmodel.infrastructure.persistence.TrainerCalendarRepository;
-import io.hypersistence.utils.hibernate.type.range.Range;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
-import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
-
-import static com.gymproject.common.constant.GymTimePolicy.SERVICE_ZONE;
+import java.util.Map;
 
 @Slf4j
 @Component
@@ -26,13 +26,12 @@ public class TrainerCalendarService {
 
     private final TrainerCalendarRepository trainerCalendarRepository;
     private final UserProfilePort userProfilePort;
+    private final TrainerAvailabilityCache trainerAvailabilityCache;
 
+    // trainerNames: 미리 한번에 조회한 트레이너 이름 (없는 트레이너만 건별 조회)
     @Transactional
-    public void synchronizeSchedule(ScheduleEvent event) {
-        // 1. 데이터 변환 (Event -> Domain Value)
-        Range<ZonedDateTime> range = toRange(event.startAt(), event.endAt());
-
-        // 이벤트로 타입으로부터 달력 상태 매핑
+    public void synchronizeSchedule(ScheduleEvent event, Map<Long, String> trainerNames) {
+        // 1. 이벤트의 상태로부터 달력 상태 매핑
         CalendarStatus newStatus = CalendarStatus.mapStatus(event);
 
         if (newStatus == null) {
@@ -40,24 +39,43 @@ public class TrainerCalendarService {
             return;
         }
 
-        // 2. 조회 (기존 데이터가 있는지?)
-        TrainerCalendar existing = trainerCalendarRepository.findBySourceTypeAndSourceId(
+        // 2. 조회 없이 UPSERT 한번 (생성 vs 수정 분기는 DB가 함)
+        upsert(CalendarSource.SCHEDULE, event.scheduleId(), event.trainerId(), event.title(),
+                event.startAt(), event.endAt(), newStatus, trainerNames);
+
+        // 3. 빈 시간 캐시 무효화
+        trainerAvailabilityCache.invalidate(event.trainerId(), event.startAt(), event.endAt());
+    }
+
+    // 커리큘럼 하위 스케줄 일괄 상태 변경(스케줄별 조회 없이 UPDATE 한번)
+    @Transactional
+    public void synchronizeScheduleStatuses(ScheduleStatusBatchEvent event) {
+        CalendarStatus newStatus = CalendarStatus.mapStatus(event);
+
+        if (newStatus == null || event.scheduleIds().isEmpty()) {
+            log.warn("⚠️ 일괄 상태 변경 이벤트를 무시합니다. 그룹 ID: {}", event.recurrenceGroupId());
+            return;
+        }
+
+        int updated = trainerCalendarRepository.updateStatusBySourceIds(
                 CalendarSource.SCHEDULE,
-                event.scheduleId()
-        ).orElse(null);
-
-        // 3. 로직 분기 (생성 vs 수정)
-        if (existing == null) {
-            createSchedule(event, range, newStatus);
-        } else {
-            existing.updateInfo(event.title(), newStatus);
-            // Dirty Checking으로 자동 저장됨 (명시적 save 생략 가능)
+                event.scheduleIds(),
+                newStatus,
+                GymDateUtil.now()
+        );
+
+        // 아직 생성 이벤트가 반영되지 않은 일정은 이후 생성 시점의 상태로 맞춰짐
+        if (updated != event.scheduleIds().size()) {
+            log.warn("⚠️ 일괄 상태 변경 누락: 요청 {}건, 반영 {}건 (그룹 ID: {})",
+                    event.scheduleIds().size(), updated, event.recurrenceGroupId());
         }
+
+        // 스케줄별 시간 정보가 없으므로 트레이너 전체 무효화
+        trainerAvailabilityCache.invalidateTrainer(event.trainerId());
     }
 
     @Transactional
-    public void synchronizeTimeOff(TimeOffEvent event) {
-        Range<ZonedDateTime> range = toRange(event.startAt(), event.endAt());
+    public void synchronizeTimeOff(TimeOffEvent event, Map<Long, String> trainerNames) {
         // 이벤트로 타입으로부터 달력 상태 매핑
         CalendarStatus newStatus = CalendarStatus.mapStatus(event);
 
@@ -65,16 +83,15 @@ public class TrainerCalendarService {
             return;
         }
 
-        TrainerCalendar existing = trainerCalendarRepository.findBySourceTypeAndSourceId(
-                CalendarSource.BLOCK,
-                event.timeOffId()
-        ).orElse(null);
+        upsert(CalendarSource.BLOCK, event.timeOffId(), event.trainerId(), event.reason(),
+                event.startAt(), event.endAt(), newStatus, trainerNames);
 
-        if (existing == null) {
-            createTimeOff(event, range, newStatus);
-        } else {
-            existing.updateInfo(event.reason(), newStatus);
-        }
+        trainerAvailabilityCache.invalidate(event.trainerId(), event.startAt(), event.endAt());
+    }
+
+    // 여러 트레이너 이름을 한번에 조회 (반영 묶음 단위로 미리 읽어둘 때 사용)
+    public Map<Long, String> loadTrainerNames(Collection<Long> trainerIds) {
+        return userProfilePort.getUserFullNames(trainerIds);
     }
 
     @Transactional(readOnly = true)
@@ -91,35 +108,25 @@ public class TrainerCalendarService {
 
     // --- Private Helpers ---
 
-    private void createSchedule(ScheduleEvent event, Range<ZonedDateTime> range, CalendarStatus status) {
-        // 외부 포트 호출 (이름 조회)
-        String trainerName = userProfilePort.getUserFullName(event.trainerId());
-
-        TrainerCalendar calendar = TrainerCalendar.createScheduleEvent(
-                event,
-                trainerName,
-                range,
-                status
-        );
-        trainerCalendarRepository.save(calendar);
-    }
-
-    private void createTimeOff(TimeOffEvent event, Range<ZonedDateTime> range, CalendarStatus status) {
-        String trainerName = userProfilePort.getUserFullName(event.trainerId());
+    private void upsert(CalendarSource sourceType, Long sourceId, Long trainerId, String title,
+                        OffsetDateTime startAt, OffsetDateTime endAt, CalendarStatus status,
+                        Map<Long, String> trainerNames) {
+        // 외부 포트 호출 (미리 조회한 이름이 없을 때만)
+        String trainerName = trainerNames.get(trainerId);
+        if (trainerName == null) {
+            trainerName = userProfilePort.getUserFullName(trainerId);
+        }
 
-        TrainerCalendar calendar = TrainerCalendar.createTimeOffEvent(
-                event,
+        trainerCalendarRepository.upsert(
+                trainerId,
                 trainerName,
-                range,
-                status
+                title,
+                sourceType.name(),
+                sourceId,
+                startAt,
+                endAt,
+                status.name(),
+                GymDateUtil.now()
         );
-        trainerCalendarRepository.save(calendar);
     }
-
-    private Range<ZonedDateTime> toRange(java.time.OffsetDateTime start, java.time.OffsetDateTime end) {
-        ZonedDateTime zonedStart = start.atZoneSameInstant(SERVICE_ZONE);
-        ZonedDateTime zonedEnd = end.atZoneSameInstant(SERVICE_ZONE);
-        return Range.closedOpen(zonedStart, zonedEnd);
-    }
-
 }
@@ -0,0 +1,105 @@
+package com.gymproject.readmodel.domain;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.gymproject.common.constant.GymTimePolicy.SERVICE_ZONE;
+
+/**
+ * 트레이너의 바쁜 시간(수업, 1:1 예약, 휴무)으로부터 예약 가능한 빈 시간을 계산
+ * 1. 바쁜 구간들을 스윕라인으로 합침 (겹치거나 맞닿은 구간은 하나로)
+ * 2. 합친 구간 사이의 빈 시간을 슬롯 길이만큼 잘라서 반환
+ */
+public final class AvailabilityCalculator {
+
+    // 슬롯 시작 시간은 10분 단위로 맞춤 (지금 시각이 10:07이면 10:10부터)
+    private static final long ALIGN_SECONDS = Duration.ofMinutes(10).toSeconds();
+
+    private AvailabilityCalculator() {
+    }
+
+    // 1] 바쁜 구간 합치기: 결과는 시작 시간순, 서로 겹치지 않음
+    public static List<TimeSlot> mergeBusy(List<TimeSlot> busy) {
+        // 1. 시작(+1), 종료(-1) 지점으로 분해
+        List<Point> points = new ArrayList<>(busy.size() * 2);
+        for (TimeSlot slot : busy) {
+            if (!slot.startAt().isBefore(slot.endAt())) continue; // 빈 구간 무시
+            points.add(new Point(slot.startAt().toInstant(), 1));
+            points.add(new Point(slot.endAt().toInstant(), -1));
+        }
+
+        // 2. 시간순 정렬 (같은 시각이면 시작을 먼저 -> 맞닿은 구간도 하나로 합쳐짐)
+        points.sort(Comparator.comparing(Point::at).thenComparing(Point::delta, Comparator.reverseOrder()));
+
+        // 3. 겹친 개수가 0 -> 1이 되는 지점부터 1 -> 0이 되는 지점까지가 하나의 바쁜 구간
+        List<TimeSlot> merged = new ArrayList<>();
+        int active = 0;
+        Instant openedAt = null;
+        for (Point point : points) {
+            if (point.delta() > 0) {
+                if (active == 0) openedAt = point.at();
+                active++;
+            } else {
+                active--;
+                if (active == 0) merged.add(new TimeSlot(toServiceTime(openedAt), toServiceTime(point.at())));
+            }
+        }
+        return merged;
+    }
+
+    // 2] 빈 시간 계산: mergedBusy는 mergeBusy()의 결과여야 함
+    public static List<TimeSlot> findFreeSlots(List<TimeSlot> mergedBusy,
+                                               OffsetDateTime windowStart,
+                                               OffsetDateTime windowEnd,
+                                               Duration slotLength) {
+        List<TimeSlot> slots = new ArrayList<>();
+        Instant end = windowEnd.toInstant();
+        Instant cursor = alignUp(windowStart.toInstant());
+
+        for (TimeSlot busy : mergedBusy) {
+            Instant busyStart = busy.startAt().toInstant();
+            Instant busyEnd = busy.endAt().toInstant();
+
+            if (!busyEnd.isAfter(cursor)) continue; // 이미 지나간 구간
+            if (!busyStart.isBefore(end)) break;    // 조회 범위 밖
+
+            // 1. 바쁜 구간 전까지 채우기
+            addSlots(slots, cursor, min(busyStart, end), slotLength);
+            // 2. 바쁜 구간이 끝난 뒤부터 다시 시작
+            cursor = alignUp(busyEnd);
+        }
+
+        // 3. 마지막 바쁜 구간 이후 ~ 조회 종료
+        addSlots(slots, cursor, end, slotLength);
+        return slots;
+    }
+
+    // ============ 헬퍼
+
+    private static void addSlots(List<TimeSlot> slots, Instant from, Instant to, Duration slotLength) {
+        for (Instant start = from; !start.plus(slotLength).isAfter(to); start = start.plus(slotLength)) {
+            slots.add(new TimeSlot(toServiceTime(start), toServiceTime(start.plus(slotLength))));
+        }
+    }
+
+    private static Instant alignUp(Instant instant) {
+        long seconds = instant.getEpochSecond() + (instant.getNano() > 0 ? 1 : 0);
+        long remainder = Math.floorMod(seconds, ALIGN_SECONDS);
+        return Instant.ofEpochSecond(remainder == 0 ? seconds : seconds + (ALIGN_SECONDS - remainder));
+    }
+
+    private static Instant min(Instant a, Instant b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static OffsetDateTime toServiceTime(Instant instant) {
+        return instant.atZone(SERVICE_ZONE).toOffsetDateTime();
+    }
+
+    private record Point(Instant at, int delta) {
+    }
+}
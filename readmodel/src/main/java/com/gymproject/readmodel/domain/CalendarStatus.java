@@ -1,6 +1,7 @@
 package com.gymproject.readmodel.domain;
 
 import com.gymproject.common.event.domain.ScheduleEvent;
+import com.gymproject.common.event.domain.ScheduleStatusBatchEvent;
 import com.gymproject.common.event.domain.TimeOffEvent;
 
 public enum CalendarStatus {
@@ -53,8 +54,16 @@ public enum CalendarStatus {
      */
 
     public static CalendarStatus mapStatus(ScheduleEvent event) {
-        if(event.status() == null) return null;
-        return switch (event.status()){
+        return mapScheduleStatus(event.status());
+    }
+
+    public static CalendarStatus mapStatus(ScheduleStatusBatchEvent event) {
+        return mapScheduleStatus(event.status());
+    }
+
+    private static CalendarStatus mapScheduleStatus(String status) {
+        if(status == null) return null;
+        return switch (status){
             case "OPEN" -> CalendarStatus.CLASS_OPEN;
             case "CLOSED" -> CalendarStatus.CLASS_CLOSED;
             case "CANCELLED" -> CalendarStatus.CLASS_CANCELLED;
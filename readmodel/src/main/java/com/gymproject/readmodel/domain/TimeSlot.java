@@ -0,0 +1,11 @@
+package com.gymproject.readmodel.domain;
+
+import java.time.OffsetDateTime;
+
+// [시작, 종료) 구간
+public record TimeSlot(OffsetDateTime startAt, OffsetDateTime endAt) {
+
+    public boolean overlaps(OffsetDateTime start, OffsetDateTime end) {
+        return startAt.isBefore(end) && endAt.isAfter(start);
+    }
+}
@@ -0,0 +1,117 @@
+package com.gymproject.readmodel.infrastructure.cache;
+
+import com.gymproject.readmodel.domain.TimeSlot;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.gymproject.common.constant.GymTimePolicy.SERVICE_ZONE;
+
+/**
+ * 트레이너/날짜별로 합쳐진 바쁜 구간 캐시 (빈 시간 조회용)
+ * - 슬롯 길이와 상관없이 재사용할 수 있도록 바쁜 구간만 저장함
+ * - 달력 프로젝터(TrainerCalendarService)가 일정을 반영할 때 해당 날짜를 지움
+ */
+@Component
+public class TrainerAvailabilityCache {
+
+    // 다른 서버에서 반영된 일정은 무효화가 오지 않으므로 일정 시간이 지나면 다시 조회
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final Map<DayKey, CachedDay> days = new ConcurrentHashMap<>();
+    // 트레이너별 변경 버전(조회 도중 무효화가 들어오면 조회 결과를 저장하지 않기 위함)
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public Optional<List<TimeSlot>> get(Long trainerId, LocalDate date) {
+        CachedDay cached = days.get(new DayKey(trainerId, date));
+        if (cached == null || cached.isExpired(Instant.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(cached.busy());
+    }
+
+    // 조회 시작 전에 받아둔 버전
+    public long version(Long trainerId) {
+        return versions.computeIfAbsent(trainerId, id -> new AtomicLong()).get();
+    }
+
+    // 조회 도중 무효화가 없었을 때만 저장
+    public void putAll(Long trainerId, long version, Map<LocalDate, List<TimeSlot>> busyByDay) {
+        if (version(trainerId) != version) return;
+        if (days.size() > MAX_ENTRIES) {
+            evictExpired();
+            if (days.size() > MAX_ENTRIES) days.clear(); // 만료된 것이 없으면 전부 비움 (다시 조회하면 됨)
+        }
+
+        Instant expiresAt = Instant.now().plus(TTL);
+        busyByDay.forEach((date, busy) ->
+                days.put(new DayKey(trainerId, date), new CachedDay(List.copyOf(busy), expiresAt)));
+    }
+
+    // 1] 일정이 걸친 날짜만 무효화
+    public void invalidate(Long trainerId, OffsetDateTime startAt, OffsetDateTime endAt) {
+        LocalDate first = startAt.atZoneSameInstant(SERVICE_ZONE).toLocalDate();
+        LocalDate last = endAt.atZoneSameInstant(SERVICE_ZONE).toLocalDate();
+        evictNowAndAfterCommit(() -> {
+            bumpVersion(trainerId);
+            for (LocalDate date = first; !date.isAfter(last); date = date.plusDays(1)) {
+                days.remove(new DayKey(trainerId, date));
+            }
+        });
+    }
+
+    // 2] 시간 정보가 없는 일괄 변경은 트레이너 전체 무효화
+    public void invalidateTrainer(Long trainerId) {
+        evictNowAndAfterCommit(() -> {
+            bumpVersion(trainerId);
+            days.keySet().removeIf(key -> key.trainerId().equals(trainerId));
+        });
+    }
+
+    // ============ 헬퍼
+
+    /*
+        [중요] 지금 지우고, 커밋 후에 한번 더 지움
+        커밋 전에 다른 요청이 이전 데이터를 읽어서 다시 캐시에 넣을 수 있기 때문
+     */
+    private void evictNowAndAfterCommit(Runnable evict) {
+        evict.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        }
+    }
+
+    private void bumpVersion(Long trainerId) {
+        versions.computeIfAbsent(trainerId, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    private void evictExpired() {
+        Instant now = Instant.now();
+        days.values().removeIf(cached -> cached.isExpired(now));
+    }
+
+    private record DayKey(Long trainerId, LocalDate date) {
+    }
+
+    private record CachedDay(List<TimeSlot> busy, Instant expiresAt) {
+        boolean isExpired(Instant now) {
+            return !expiresAt.isAfter(now);
+        }
+    }
+}
@@ -1,34 +1,32 @@
 package com.gymproject.readmodel.infrastructure.listener;
 
 import com.gymproject.common.event.domain.ScheduleEvent;
-import com.gymproject.readmodel.application.TrainerCalendarService;
+import com.gymproject.common.event.domain.ScheduleStatusBatchEvent;
+import com.gymproject.readmodel.infrastructure.projection.CalendarProjectionPipeline;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ScheduleEventListener {
 
-    private final TrainerCalendarService trainerCalendarService;
+    private final CalendarProjectionPipeline calendarProjectionPipeline;
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    // 발행 스레드에서는 큐에 넣기만 하고, 반영은 트레이너별 파이프라인이 비동기로 처리함
     @EventListener
     public void handle(ScheduleEvent event) {
-        trainerCalendarService.synchronizeSchedule(event);
-        log.info("📥 [ReadModel 수신] 스케줄 동기화 시작: ID={}, Type={}",
+        log.info("📥 [ReadModel 수신] 스케줄 동기화 요청: ID={}, Type={}",
                 event.scheduleId(), event.status());
+        calendarProjectionPipeline.submit(event.trainerId(), event);
+    }
 
-        try {
-            trainerCalendarService.synchronizeSchedule(event);
-            log.info("✅ [ReadModel 완료] 스케줄 동기화 성공: ID={}", event.scheduleId());
-        } catch (Exception e) {
-            log.error("❌ [ReadModel 에러] 동기화 중 실패: ID={}, 이유={}",
-                    event.scheduleId(), e.getMessage(), e);
-        }
+    @EventListener
+    public void handle(ScheduleStatusBatchEvent event) {
+        log.info("📥 [ReadModel 수신] 스케줄 일괄 상태 변경 요청: 그룹 ID={}, {}건, Status={}",
+                event.recurrenceGroupId(), event.scheduleIds().size(), event.status());
+        calendarProjectionPipeline.submit(event.trainerId(), event);
     }
 }
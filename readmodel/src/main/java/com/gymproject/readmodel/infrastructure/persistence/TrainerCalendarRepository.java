@@ -1,8 +1,10 @@
 package com.gymproject.readmodel.infrastructure.persistence;
 
+import com.gymproject.readmodel.domain.CalendarStatus;
 import com.gymproject.readmodel.domain.TrainerCalendar;
 import com.gymproject.readmodel.domain.type.CalendarSource;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -14,6 +16,36 @@ public interface TrainerCalendarRepository extends JpaRepository<TrainerCalendar
 
     Optional<TrainerCalendar> findBySourceTypeAndSourceId(CalendarSource calendarSource, Long sourceId);
 
+    /*
+        [중요] 이벤트 하나당 SQL 한번 (조회 없이 INSERT 또는 UPDATE)
+        - 같은 출처(source_type, source_id)의 일정이 있으면 ux_cal_source 인덱스 충돌 -> UPDATE
+        - 같은 이벤트가 다시 들어와도 결과가 같음(멱등)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO "TRAINER_CALENDAR_R"
+            (trainer_id, trainer_name, title, source_type, source_id, time_range, status, created_at, updated_at)
+        VALUES
+            (:trainerId, :trainerName, :title, :sourceType, :sourceId,
+             tstzrange(CAST(:startAt AS timestamptz), CAST(:endAt AS timestamptz), '[)'),
+             :status, :now, :now)
+        ON CONFLICT (source_type, source_id) DO UPDATE
+        SET trainer_name = EXCLUDED.trainer_name,
+            title = EXCLUDED.title,
+            time_range = EXCLUDED.time_range,
+            status = EXCLUDED.status,
+            updated_at = EXCLUDED.updated_at
+    """, nativeQuery = true)
+    int upsert(@Param("trainerId") Long trainerId,
+               @Param("trainerName") String trainerName,
+               @Param("title") String title,
+               @Param("sourceType") String sourceType,
+               @Param("sourceId") Long sourceId,
+               @Param("startAt") OffsetDateTime startAt,
+               @Param("endAt") OffsetDateTime endAt,
+               @Param("status") String status,
+               @Param("now") OffsetDateTime now);
+
     // 기간 조회 쿼리
     // 요청 기간(start~end)과 겹치는(overlap) 모든 데이터를 조회
     @Query(value = """
@@ -27,4 +59,30 @@ public interface TrainerCalendarRepository extends JpaRepository<TrainerCalendar
             @Param("start") OffsetDateTime start,
             @Param("end") OffsetDateTime end
     );
+
+    // 빈 시간 계산용: 기간과 겹치는 일정 중 시간을 점유하는 것(취소되지 않은 수업/예약/휴무)만 조회
+    @Query(value = """
+        SELECT * FROM "TRAINER_CALENDAR_R" t
+        WHERE t.trainer_id = :trainerId
+        AND t.time_range && tstzrange(CAST(:start AS timestamptz), CAST(:end AS timestamptz), '[)')
+        AND (t.status IS NULL OR t.status NOT IN ('CLASS_CANCELLED', 'TIMEOFF_CANCELLED'))
+    """, nativeQuery = true)
+    List<TrainerCalendar> findBusyByTrainerIdAndPeriod(
+            @Param("trainerId") Long trainerId,
+            @Param("start") OffsetDateTime start,
+            @Param("end") OffsetDateTime end
+    );
+
+    // 같은 출처의 여러 일정 상태를 UPDATE 한번으로 변경(커리큘럼 일괄 상태 변경용)
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE TrainerCalendar t
+        SET t.status = :status, t.updatedAt = :now
+        WHERE t.sourceType = :sourceType
+        AND t.sourceId IN :sourceIds
+    """)
+    int updateStatusBySourceIds(@Param("sourceType") CalendarSource sourceType,
+                                @Param("sourceIds") List<Long> sourceIds,
+                                @Param("status") CalendarStatus status,
+                                @Param("now") OffsetDateTime now);
 }
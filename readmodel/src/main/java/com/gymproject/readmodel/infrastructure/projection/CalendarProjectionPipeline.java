@@ -0,0 +1,261 @@
+package com.gymproject.readmodel.infrastructure.projection;
+
+import com.gymproject.common.event.domain.ScheduleEvent;
+import com.gymproject.common.event.domain.ScheduleStatusBatchEvent;
+import com.gymproject.common.event.domain.TimeOffEvent;
+import com.gymproject.readmodel.application.TrainerCalendarService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TRAINER_CALENDAR_R 비동기 반영 파이프라인
+ * - 트레이너 ID로 파티션을 나누고, 파티션마다 스레드 하나가 순서대로 처리함 (트레이너별 순서 보장)
+ * - 큐에 쌓인 이벤트를 한번에 꺼내서 트랜잭션 하나로 반영 (같은 일정의 이벤트는 마지막 것만 반영)
+ * - 묶음에 나오는 트레이너 이름은 반영 전에 한번에 조회 (이벤트마다 이름을 조회하지 않음)
+ * - 큐가 가득 차면 발행 스레드가 대기함 (backpressure)
+ */
+@Slf4j
+@Component
+public class CalendarProjectionPipeline {
+
+    private static final int PARTITIONS = 4;
+    private static final int QUEUE_CAPACITY = 1_000;
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final TrainerCalendarService trainerCalendarService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Partition[] partitions = new Partition[PARTITIONS];
+
+    private final Counter projectedCounter;
+    private final Counter coalescedCounter;
+    private final Counter failedCounter;
+
+    public CalendarProjectionPipeline(TrainerCalendarService trainerCalendarService,
+                                      PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry) {
+        this.trainerCalendarService = trainerCalendarService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        for (int i = 0; i < PARTITIONS; i++) {
+            partitions[i] = new Partition(i);
+        }
+
+        this.projectedCounter = Counter.builder("calendar.projection.events")
+                .description("달력에 반영한 이벤트 수")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("calendar.projection.coalesced")
+                .description("같은 일정의 뒤 이벤트로 대체되어 생략한 이벤트 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("calendar.projection.failed")
+                .description("반영에 실패한 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("calendar.projection.lag", this, CalendarProjectionPipeline::lagSeconds)
+                .description("아직 반영되지 않은 가장 오래된 이벤트의 대기 시간(초)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("calendar.projection.queue", this, CalendarProjectionPipeline::queueSize)
+                .description("반영 대기 중인 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        for (Partition partition : partitions) {
+            partition.worker.start();
+        }
+    }
+
+    // 종료 시 남은 이벤트를 최대한 반영하고 멈춤
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        for (Partition partition : partitions) {
+            partition.running = false;
+        }
+        for (Partition partition : partitions) {
+            partition.worker.join(TimeUnit.SECONDS.toMillis(SHUTDOWN_TIMEOUT_SECONDS));
+            if (!partition.queue.isEmpty()) {
+                log.warn("⚠️ [ReadModel] 종료 시 반영하지 못한 이벤트 {}건 (파티션 {})",
+                        partition.queue.size(), partition.index);
+            }
+        }
+    }
+
+    // 1] 이벤트 등록: 큐가 가득 차면 자리가 날 때까지 대기
+    public void submit(Long trainerId, Object event) {
+        Partition partition = partitions[Math.floorMod(Objects.hashCode(trainerId), PARTITIONS)];
+        try {
+            partition.queue.put(new Envelope(event, System.nanoTime()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failedCounter.increment();
+            log.error("❌ [ReadModel] 이벤트 등록 중 인터럽트: {}", event);
+        }
+    }
+
+    // ============ 처리
+
+    private void run(Partition partition) {
+        List<Envelope> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (partition.running || !partition.queue.isEmpty()) {
+            try {
+                // 1. 하나가 들어올 때까지 대기 후, 쌓여있는 만큼 한번에 꺼냄
+                Envelope first = partition.queue.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+
+                batch.add(first);
+                partition.queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+                partition.inFlightSince = first.enqueuedAt();
+
+                // 2. 반영
+                project(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // 워커 스레드가 죽으면 해당 파티션이 멈추므로 모든 예외를 잡음
+                log.error("❌ [ReadModel] 파티션 {} 처리 중 예상치 못한 에러", partition.index, e);
+            } finally {
+                partition.inFlightSince = 0;
+                batch.clear();
+            }
+        }
+    }
+
+    private void project(List<Envelope> batch) {
+        List<Object> events = coalesce(batch);
+        coalescedCounter.increment(batch.size() - events.size());
+        Map<Long, String> trainerNames = loadTrainerNames(events);
+
+        try {
+            // 1. 묶음 전체를 트랜잭션 하나로 반영
+            transactionTemplate.executeWithoutResult(status -> events.forEach(event -> apply(event, trainerNames)));
+            projectedCounter.increment(events.size());
+        } catch (Exception e) {
+            // 2. 실패하면 하나씩 다시 반영 (문제 있는 이벤트만 버림)
+            log.warn("⚠️ [ReadModel] 묶음 반영 실패, 건별로 재시도합니다. {}건, 이유={}", events.size(), e.getMessage());
+            for (Object event : events) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> apply(event, trainerNames));
+                    projectedCounter.increment();
+                } catch (Exception each) {
+                    failedCounter.increment();
+                    log.error("❌ [ReadModel 에러] 동기화 중 실패: {}, 이유={}", event, each.getMessage(), each);
+                }
+            }
+        }
+    }
+
+    /*
+        [중요] 같은 일정(스케줄/휴무)의 이벤트가 여러 개면 마지막 것만 남김
+        - 반영이 UPSERT(전체 상태 덮어쓰기)라서 마지막 이벤트만 반영해도 결과가 같음
+        - 남은 이벤트끼리의 순서는 그대로 유지 (일괄 상태 변경 이벤트는 합치지 않음)
+     */
+    static List<Object> coalesce(List<Envelope> batch) {
+        Map<String, Integer> lastIndexBySource = new HashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            String key = sourceKey(batch.get(i).event());
+            if (key != null) lastIndexBySource.put(key, i);
+        }
+
+        List<Object> events = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            Object event = batch.get(i).event();
+            String key = sourceKey(event);
+            if (key == null || lastIndexBySource.get(key) == i) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    private static String sourceKey(Object event) {
+        if (event instanceof ScheduleEvent schedule) return "SCHEDULE:" + schedule.scheduleId();
+        if (event instanceof TimeOffEvent timeOff) return "BLOCK:" + timeOff.timeOffId();
+        return null;
+    }
+
+    // 이름이 필요한 이벤트(스케줄/휴무)의 트레이너 이름을 한번에 조회
+    // 조회가 실패해도 반영은 계속함 (반영 시 건별로 다시 조회)
+    private Map<Long, String> loadTrainerNames(List<Object> events) {
+        Set<Long> trainerIds = new HashSet<>();
+        for (Object event : events) {
+            if (event instanceof ScheduleEvent schedule) trainerIds.add(schedule.trainerId());
+            if (event instanceof TimeOffEvent timeOff) trainerIds.add(timeOff.trainerId());
+        }
+        if (trainerIds.isEmpty()) return Map.of();
+
+        try {
+            return trainerCalendarService.loadTrainerNames(trainerIds);
+        } catch (Exception e) {
+            log.warn("⚠️ [ReadModel] 트레이너 이름 일괄 조회 실패, 건별로 조회합니다. {}명, 이유={}", trainerIds.size(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private void apply(Object event, Map<Long, String> trainerNames) {
+        if (event instanceof ScheduleEvent schedule) {
+            trainerCalendarService.synchronizeSchedule(schedule, trainerNames);
+        } else if (event instanceof ScheduleStatusBatchEvent batch) {
+            trainerCalendarService.synchronizeScheduleStatuses(batch);
+        } else if (event instanceof TimeOffEvent timeOff) {
+            trainerCalendarService.synchronizeTimeOff(timeOff, trainerNames);
+        } else {
+            log.warn("⚠️ [ReadModel] 처리할 수 없는 이벤트입니다: {}", event);
+        }
+    }
+
+    // ============ 지표
+
+    private double lagSeconds() {
+        long now = System.nanoTime();
+        long oldest = 0;
+        for (Partition partition : partitions) {
+            long inFlight = partition.inFlightSince;
+            Envelope head = partition.queue.peek();
+            long since = inFlight != 0 ? inFlight : (head != null ? head.enqueuedAt() : 0);
+            if (since != 0) {
+                oldest = Math.max(oldest, now - since);
+            }
+        }
+        return oldest / 1_000_000_000.0;
+    }
+
+    private double queueSize() {
+        int size = 0;
+        for (Partition partition : partitions) {
+            size += partition.queue.size();
+        }
+        return size;
+    }
+
+    record Envelope(Object event, long enqueuedAt) {
+    }
+
+    private final class Partition {
+        private final int index;
+        private final BlockingQueue<Envelope> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final Thread worker;
+        private volatile boolean running = true;
+        private volatile long inFlightSince; // 처리 중인 묶음의 첫 이벤트 등록 시각 (없으면 0)
+
+        private Partition(int index) {
+            this.index = index;
+            this.worker = new Thread(() -> run(this), "calendar-projection-" + index);
+            this.worker.setDaemon(true);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.gymproject.readmodel.application;
+
+import com.gymproject.common.contracts.SessionConsumeKind;
+import com.gymproject.common.util.GymDateUtil;
+import com.gymproject.readmodel.infrastructure.cache.TrainerAvailabilityCache;
+import com.gymproject.readmodel.infrastructure.persistence.TrainerCalendarRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.gymproject.common.constant.GymTimePolicy.SERVICE_ZONE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+class TrainerAvailabilityServiceTest {
+
+    private static final Long TRAINER_ID = 1L;
+
+    private final TrainerAvailabilityCache trainerAvailabilityCache = Mockito.mock(TrainerAvailabilityCache.class);
+    private final TrainerAvailabilityService trainerAvailabilityService = new TrainerAvailabilityService(
+            Mockito.mock(TrainerCalendarRepository.class), trainerAvailabilityCache);
+
+    @Test
+    @DisplayName("성공: 유료 이용권은 지금부터 1시간 뒤 이후의 슬롯만 반환한다")
+    void getAvailableSlots_paid_lead_time() {
+        // given (오늘/내일 모두 일정 없음)
+        when(trainerAvailabilityCache.get(anyLong(), any())).thenReturn(Optional.of(List.of()));
+        LocalDate today = LocalDate.now(SERVICE_ZONE);
+        OffsetDateTime before = GymDateUtil.now();
+
+        // when
+        List<AvailableSlotResponse> slots = trainerAvailabilityService.getAvailableSlots(
+                TRAINER_ID, today, today.plusDays(1), 60, SessionConsumeKind.PAID);
+
+        // then
+        assertThat(slots).isNotEmpty();
+        assertThat(slots).allSatisfy(slot -> assertThat(slot.start()).isAfterOrEqualTo(before.plusHours(1)));
+    }
+
+    @Test
+    @DisplayName("성공: 무료 체험권은 지금부터 3시간 뒤 이후의 슬롯만 반환한다")
+    void getAvailableSlots_free_trial_lead_time() {
+        // given
+        when(trainerAvailabilityCache.get(anyLong(), any())).thenReturn(Optional.of(List.of()));
+        LocalDate today = LocalDate.now(SERVICE_ZONE);
+        OffsetDateTime before = GymDateUtil.now();
+
+        // when
+        List<AvailableSlotResponse> slots = trainerAvailabilityService.getAvailableSlots(
+                TRAINER_ID, today, today.plusDays(1), 60, SessionConsumeKind.FREE_TRIAL);
+
+        // then
+        assertThat(slots).isNotEmpty();
+        assertThat(slots).allSatisfy(slot -> assertThat(slot.start()).isAfterOrEqualTo(before.plusHours(3)));
+    }
+}
@@ -0,0 +1,85 @@
+package com.gymproject.readmodel.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static com.gymproject.common.constant.GymTimePolicy.SERVICE_ZONE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AvailabilityCalculatorTest {
+
+    private static final LocalDate DATE = LocalDate.of(2030, 3, 4);
+
+    private OffsetDateTime at(int hour, int minute) {
+        return DATE.atTime(LocalTime.of(hour, minute)).atZone(SERVICE_ZONE).toOffsetDateTime();
+    }
+
+    private TimeSlot slot(int startHour, int startMinute, int endHour, int endMinute) {
+        return new TimeSlot(at(startHour, startMinute), at(endHour, endMinute));
+    }
+
+    @Test
+    @DisplayName("겹치거나 맞닿은 바쁜 구간은 하나로 합쳐진다")
+    void mergeBusy() {
+        // given (수업 10:00~11:00, 예약 10:30~11:30, 휴무 11:30~12:00, 수업 14:00~15:00)
+        List<TimeSlot> busy = List.of(
+                slot(14, 0, 15, 0),
+                slot(10, 30, 11, 30),
+                slot(10, 0, 11, 0),
+                slot(11, 30, 12, 0));
+
+        // when
+        List<TimeSlot> merged = AvailabilityCalculator.mergeBusy(busy);
+
+        // then
+        assertThat(merged).containsExactly(slot(10, 0, 12, 0), slot(14, 0, 15, 0));
+    }
+
+    @Test
+    @DisplayName("바쁜 구간 사이의 빈 시간을 슬롯 길이로 나누고, 남는 자투리는 버린다")
+    void findFreeSlots() {
+        // given (09:00~13:00 조회, 10:00~10:30 바쁨, 60분 슬롯)
+        List<TimeSlot> merged = List.of(slot(10, 0, 10, 30));
+
+        // when
+        List<TimeSlot> slots = AvailabilityCalculator.findFreeSlots(
+                merged, at(9, 0), at(13, 0), Duration.ofMinutes(60));
+
+        // then (09:00~10:00 / 10:30~11:30 / 11:30~12:30, 12:30~13:00은 부족)
+        assertThat(slots).containsExactly(
+                slot(9, 0, 10, 0),
+                slot(10, 30, 11, 30),
+                slot(11, 30, 12, 30));
+    }
+
+    @Test
+    @DisplayName("조회 시작 시각이 10분 단위가 아니면 다음 10분부터 시작한다")
+    void findFreeSlots_aligns_start() {
+        // when
+        List<TimeSlot> slots = AvailabilityCalculator.findFreeSlots(
+                List.of(), at(9, 7), at(11, 0), Duration.ofMinutes(50));
+
+        // then
+        assertThat(slots).containsExactly(slot(9, 10, 10, 0), slot(10, 0, 10, 50));
+    }
+
+    @Test
+    @DisplayName("조회 범위 전체가 바쁘면 빈 시간이 없다")
+    void findFreeSlots_fully_busy() {
+        // given (전날부터 이어지는 휴무)
+        List<TimeSlot> merged = List.of(new TimeSlot(at(0, 0).minusDays(1), at(0, 0).plusDays(1)));
+
+        // when
+        List<TimeSlot> slots = AvailabilityCalculator.findFreeSlots(
+                merged, at(0, 0), at(0, 0).plusDays(1), Duration.ofMinutes(60));
+
+        // then
+        assertThat(slots).isEmpty();
+    }
+}
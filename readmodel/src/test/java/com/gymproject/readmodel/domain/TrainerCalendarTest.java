@@ -1,6 +1,7 @@
 package com.gymproject.readmodel.domain;
 
 import com.gymproject.common.event.domain.ScheduleEvent;
+import com.gymproject.common.event.domain.ScheduleStatusBatchEvent;
 import com.gymproject.common.event.domain.TimeOffEvent;
 import com.gymproject.readmodel.domain.type.CalendarSource;
 import io.hypersistence.utils.hibernate.type.range.Range;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -151,6 +153,18 @@ class TrainerCalendarTest {
         assertThat(calendar.getStatus()).isEqualTo(CalendarStatus.CLASS_CLOSED);
     }
 
+    @Test
+    @DisplayName("스케줄 일괄 상태 변경 이벤트도 단건 이벤트와 같은 규칙으로 매핑된다")
+    void mapStatus_BatchEvent() {
+        // given
+        ScheduleStatusBatchEvent closed = new ScheduleStatusBatchEvent(1L, TRAINER_ID, List.of(SOURCE_ID, 101L), "CLOSED");
+        ScheduleStatusBatchEvent open = new ScheduleStatusBatchEvent(1L, TRAINER_ID, List.of(SOURCE_ID, 101L), "OPEN");
+
+        // when & then
+        assertThat(CalendarStatus.mapStatus(closed)).isEqualTo(CalendarStatus.CLASS_CLOSED);
+        assertThat(CalendarStatus.mapStatus(open)).isEqualTo(CalendarStatus.CLASS_OPEN);
+    }
+
     // --- Helper ---
     private TrainerCalendar createDummyCalendar() {
         return TrainerCalendar.createScheduleEvent(
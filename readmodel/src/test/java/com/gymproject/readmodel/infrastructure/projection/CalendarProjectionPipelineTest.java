@@ -0,0 +1,126 @@
+package com.gymproject.readmodel.infrastructure.projection;
+
+import com.gymproject.common.event.domain.ScheduleEvent;
+import com.gymproject.common.event.domain.ScheduleStatusBatchEvent;
+import com.gymproject.common.event.domain.TimeOffEvent;
+import com.gymproject.readmodel.application.TrainerCalendarService;
+import com.gymproject.readmodel.infrastructure.projection.CalendarProjectionPipeline.Envelope;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CalendarProjectionPipelineTest {
+
+    private static final Long TRAINER_ID = 1L;
+    private static final OffsetDateTime START = OffsetDateTime.of(2030, 3, 4, 10, 0, 0, 0, ZoneOffset.ofHours(10));
+
+    private final TrainerCalendarService trainerCalendarService = Mockito.mock(TrainerCalendarService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CalendarProjectionPipeline pipeline = new CalendarProjectionPipeline(
+            trainerCalendarService, Mockito.mock(PlatformTransactionManager.class), meterRegistry);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pipeline.stop();
+    }
+
+    private ScheduleEvent scheduleEvent(Long scheduleId, String status) {
+        return new ScheduleEvent(scheduleId, TRAINER_ID, START, START.plusHours(1), status, "PT", 1L, 0L);
+    }
+
+    @Test
+    @DisplayName("같은 일정의 이벤트는 마지막 것만 남기고, 나머지 이벤트의 순서는 유지한다")
+    void coalesce_keeps_last_per_source() {
+        // given
+        ScheduleEvent created = scheduleEvent(10L, "OPEN");
+        ScheduleStatusBatchEvent batch = new ScheduleStatusBatchEvent(5L, TRAINER_ID, List.of(10L, 11L), "CLOSED");
+        TimeOffEvent timeOff = new TimeOffEvent(20L, TRAINER_ID, START, START.plusHours(2), "REGISTERED", "휴가");
+        ScheduleEvent reserved = scheduleEvent(10L, "RESERVED");
+
+        // when
+        List<Object> events = CalendarProjectionPipeline.coalesce(List.of(
+                new Envelope(created, 1), new Envelope(batch, 2), new Envelope(timeOff, 3), new Envelope(reserved, 4)));
+
+        // then
+        assertThat(events).containsExactly(batch, timeOff, reserved);
+    }
+
+    @Test
+    @DisplayName("같은 트레이너의 이벤트는 등록한 순서대로 비동기로 반영된다")
+    void submit_projects_in_order() {
+        // given
+        pipeline.start();
+        ScheduleEvent schedule = scheduleEvent(10L, "OPEN");
+        ScheduleStatusBatchEvent batch = new ScheduleStatusBatchEvent(5L, TRAINER_ID, List.of(10L), "CLOSED");
+        TimeOffEvent timeOff = new TimeOffEvent(20L, TRAINER_ID, START, START.plusHours(2), "REGISTERED", "휴가");
+
+        // when
+        pipeline.submit(TRAINER_ID, schedule);
+        pipeline.submit(TRAINER_ID, batch);
+        pipeline.submit(TRAINER_ID, timeOff);
+
+        // then
+        verify(trainerCalendarService, timeout(2_000)).synchronizeTimeOff(eq(timeOff), any());
+        InOrder inOrder = inOrder(trainerCalendarService);
+        inOrder.verify(trainerCalendarService).synchronizeSchedule(eq(schedule), any());
+        inOrder.verify(trainerCalendarService).synchronizeScheduleStatuses(batch);
+        inOrder.verify(trainerCalendarService).synchronizeTimeOff(eq(timeOff), any());
+    }
+
+    @Test
+    @DisplayName("묶음 반영이 실패하면 건별로 다시 반영하고, 실패한 이벤트만 집계한다")
+    void failed_batch_retries_each_event() throws InterruptedException {
+        // given
+        ScheduleEvent broken = scheduleEvent(10L, "OPEN");
+        TimeOffEvent timeOff = new TimeOffEvent(20L, TRAINER_ID, START, START.plusHours(2), "REGISTERED", "휴가");
+        doThrow(new IllegalStateException("DB 에러")).when(trainerCalendarService).synchronizeSchedule(any(), any());
+
+        // when (워커 시작 전에 넣어서 한 묶음으로 처리되게 함)
+        pipeline.submit(TRAINER_ID, timeOff);
+        pipeline.submit(TRAINER_ID, broken);
+        pipeline.start();
+        pipeline.stop(); // 큐가 빌 때까지 대기
+
+        // then (묶음에서 1번 + 재시도 1번)
+        verify(trainerCalendarService, times(2)).synchronizeTimeOff(eq(timeOff), any());
+        verify(trainerCalendarService, times(2)).synchronizeSchedule(eq(broken), any());
+        assertThat(meterRegistry.counter("calendar.projection.failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("묶음에 나오는 트레이너 이름은 한번에 조회해서 모든 이벤트에 넘긴다")
+    void batch_loads_trainer_names_once() throws InterruptedException {
+        // given
+        Long otherTrainerId = 2L;
+        ScheduleEvent schedule = scheduleEvent(10L, "OPEN");
+        TimeOffEvent timeOff = new TimeOffEvent(20L, otherTrainerId, START, START.plusHours(2), "REGISTERED", "휴가");
+        Map<Long, String> names = Map.of(TRAINER_ID, "김트레이너", otherTrainerId, "이트레이너");
+        when(trainerCalendarService.loadTrainerNames(Set.of(TRAINER_ID, otherTrainerId))).thenReturn(names);
+
+        // when (같은 파티션에 넣고 워커 시작 전에 넣어서 한 묶음으로 처리되게 함)
+        pipeline.submit(TRAINER_ID, schedule);
+        pipeline.submit(TRAINER_ID, timeOff);
+        pipeline.start();
+        pipeline.stop();
+
+        // then
+        verify(trainerCalendarService, times(1)).loadTrainerNames(any());
+        verify(trainerCalendarService).synchronizeSchedule(schedule, names);
+        verify(trainerCalendarService).synchronizeTimeOff(timeOff, names);
+    }
+}
@@ -1,30 +1,85 @@
 package com.gymproject.support;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.Duration;
 
+/**
+ * 외부 API(구글 OAuth 등) 호출용 HTTP 클라이언트
+ * - 커넥션 풀 + keep-alive: 호출마다 TCP/TLS 연결을 새로 맺지 않고 재사용
+ * - 호스트(route)별 최대 커넥션 수 = 호스트별 동시 요청 한도 (bulkhead)
+ *   -> 한 외부 서버가 느려져도 그 서버로 가는 요청만 한도까지 묶이고,
+ *      나머지는 connection-request-timeout 만큼만 기다리고 바로 실패 (요청 스레드가 고갈되지 않음)
+ */
 @Configuration
 public class HttpConfig {
 
+    @Value("${app.http.max-total:100}")
+    private int maxTotal;
+
+    @Value("${app.http.max-per-route:20}")
+    private int maxPerRoute;
+
+    @Value("${app.http.connect-timeout:5s}")
+    private Duration connectTimeout;
+
+    @Value("${app.http.read-timeout:5s}")
+    private Duration readTimeout;
+
+    @Value("${app.http.connection-request-timeout:1s}")
+    private Duration connectionRequestTimeout;
+
+    @Value("${app.http.keep-alive:30s}")
+    private Duration keepAlive;
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient httpClient(MeterRegistry meterRegistry) {
+        // 1. 커넥션 풀 (풀 대기 시간 지표 포함)
+        MeteredConnectionManager connectionManager = new MeteredConnectionManager(meterRegistry);
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(connectTimeout)) // 연결 타임아웃
+                .setSocketTimeout(Timeout.of(readTimeout)) // 읽기 타임아웃
+                .setTimeToLive(TimeValue.of(Duration.ofMinutes(5))) // DNS 변경 반영을 위해 오래된 커넥션은 교체
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2)) // 한동안 안 쓴 커넥션은 끊겼는지 확인 후 사용
+                .build());
+
+        // 2. 풀 상태 지표 (httpcomponents.httpclient.pool.*)
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "outbound").bindTo(meterRegistry);
+
+        // 3. 클라이언트
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(connectionRequestTimeout)) // 풀 대기 한도 (넘으면 바로 실패)
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(keepAlive)) // keep-alive 시간 동안 안 쓴 커넥션은 정리
+                .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
+    public RestTemplate restTemplate(RestTemplateBuilder builder, CloseableHttpClient httpClient) {
         return builder
-                .requestFactory(()-> {
-                    // 1. 실제 요청을 만드는 팩토리 생성
-                    SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-
-                    // 2. 팩토리에서 직접 타임아웃 설정
-                    factory.setConnectTimeout(Duration.ofSeconds(5)); // 연결 5초 타임아웃
-                    factory.setReadTimeout(Duration.ofSeconds(5)); // 읽기 5초 타임아웃
-                    return factory;
-                })
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
                 .build();
     }
 }
 
 // setReadTimeout, setConnectTimeout 지원중단
+// SimpleClientHttpRequestFactory는 요청마다 새 연결(HttpURLConnection)을 맺어서 풀 기반 클라이언트로 교체
@@ -0,0 +1,74 @@
+package com.gymproject.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.util.Timeout;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 커넥션 풀에서 커넥션을 빌릴 때까지 기다린 시간을 호스트별로 기록하는 커넥션 매니저
+ * - http.client.pool.wait{host}: 풀 대기 시간 (길어지면 해당 호스트 동시 요청이 한도에 걸리고 있다는 뜻)
+ * - http.client.pool.timeout{host}: 대기 시간 초과로 실패한 요청 수
+ */
+class MeteredConnectionManager extends PoolingHttpClientConnectionManager {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> waitTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> timeoutCounters = new ConcurrentHashMap<>();
+
+    MeteredConnectionManager(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+        LeaseRequest delegate = super.lease(id, route, requestTimeout, state);
+        String host = route.getTargetHost().getHostName();
+
+        return new LeaseRequest() {
+            @Override
+            public ConnectionEndpoint get(Timeout timeout) throws InterruptedException, ExecutionException, TimeoutException {
+                long start = System.nanoTime();
+                try {
+                    return delegate.get(timeout);
+                } catch (TimeoutException e) {
+                    timeoutCounter(host).increment();
+                    throw e;
+                } finally {
+                    waitTimer(host).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return delegate.cancel();
+            }
+        };
+    }
+
+    // ============ 헬퍼
+
+    private Timer waitTimer(String host) {
+        return waitTimers.computeIfAbsent(host, h -> Timer.builder("http.client.pool.wait")
+                .description("외부 API 호출 시 커넥션 풀 대기 시간")
+                .tag("host", h)
+                .register(meterRegistry));
+    }
+
+    private Counter timeoutCounter(String host) {
+        return timeoutCounters.computeIfAbsent(host, h -> Counter.builder("http.client.pool.timeout")
+                .description("커넥션 풀 대기 시간 초과로 실패한 요청 수 (호스트별 동시 요청 한도 초과)")
+                .tag("host", h)
+                .register(meterRegistry));
+    }
+}
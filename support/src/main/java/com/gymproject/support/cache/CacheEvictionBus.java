@@ -0,0 +1,96 @@
+package com.gymproject.support.cache;
+
+import com.gymproject.support.redis.RedisTool;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 2단계 캐시(TwoLevelCache) 무효화 전파
+ * - 모든 캐시가 채널 하나를 같이 씀 (메시지: "<캐시 이름>:<ID>")
+ * - Redis를 쓰는 캐시가 하나라도 있을 때만 구독 (서버 시작 시 등록된 캐시 기준)
+ * - 자기가 발행한 메시지도 받지만 이미 지운 항목을 한번 더 지울 뿐임
+ */
+@Slf4j
+@Component
+public class CacheEvictionBus implements SmartLifecycle {
+
+    public static final String CHANNEL = "CACHE_EVICT";
+
+    private final RedisTool redisTool;
+    private final ObjectProvider<RedisConnectionFactory> connectionFactory;
+    private final Map<String, TwoLevelCache<?>> caches = new ConcurrentHashMap<>();
+
+    private RedisMessageListenerContainer container;
+
+    public CacheEvictionBus(RedisTool redisTool, ObjectProvider<RedisConnectionFactory> connectionFactory) {
+        this.redisTool = redisTool;
+        this.connectionFactory = connectionFactory;
+    }
+
+    // 1] 캐시 등록 (TwoLevelCache 생성자에서 호출)
+    void register(TwoLevelCache<?> cache) {
+        if (caches.putIfAbsent(cache.getName(), cache) != null) {
+            throw new IllegalStateException("같은 이름의 캐시가 이미 있습니다: " + cache.getName());
+        }
+    }
+
+    // 2] 다른 서버에 무효화 알림
+    void publish(String cacheName, Long id) {
+        redisTool.publish(CHANNEL, cacheName + ":" + id);
+    }
+
+    // 3] 다른 서버가 발행한 무효화 메시지 처리 (메모리 캐시만 지움)
+    void onMessage(String body) {
+        int separator = body.lastIndexOf(':');
+        TwoLevelCache<?> cache = separator > 0 ? caches.get(body.substring(0, separator)) : null;
+        if (cache == null) {
+            log.warn("[Cache] 알 수 없는 무효화 메시지: {}", body);
+            return;
+        }
+        try {
+            cache.evictLocal(Long.valueOf(body.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("[Cache] 잘못된 무효화 메시지: {}", body);
+        }
+    }
+
+    // ============ 구독 (Redis를 쓰는 캐시가 있을 때만)
+
+    @Override
+    public synchronized void start() {
+        if (container != null || caches.values().stream().noneMatch(TwoLevelCache::isRedisEnabled)) return;
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory.getObject());
+        container.addMessageListener((message, pattern) ->
+                onMessage(new String(message.getBody(), StandardCharsets.UTF_8)), new ChannelTopic(CHANNEL));
+        container.afterPropertiesSet();
+        container.start();
+        this.container = container;
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (container == null) return;
+        try {
+            container.destroy();
+        } catch (Exception e) {
+            log.warn("[Cache] 무효화 구독 종료 실패: {}", e.getMessage());
+        }
+        container = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return container != null;
+    }
+}
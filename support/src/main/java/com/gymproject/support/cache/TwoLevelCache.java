@@ -0,0 +1,235 @@
+package com.gymproject.support.cache;
+
+import com.gymproject.support.redis.RedisTool;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * ID(Long) -> 값 2단계 캐시
+ * - 1차: 서버 메모리 (LRU, 최대 개수 제한 + TTL)
+ * - 2차: Redis (선택, redisEnabled 일 때만)
+ * - 무효화하면 메모리 -> Redis 삭제 -> CacheEvictionBus로 다른 서버의 메모리 캐시도 지움
+ *   발행이 유실되면 다른 서버는 최대 localTtl 만큼 이전 값을 볼 수 있음
+ * - 지표: <metricName>{result=local|redis|miss}, <metricName>.evictions, <metricName>.size
+ */
+@Slf4j
+public class TwoLevelCache<V> {
+
+    private final String name;
+    private final String redisPrefix;
+    private final Settings settings;
+    private final Codec<V> codec;
+    private final RedisTool redisTool;
+    private final CacheEvictionBus evictionBus;
+
+    // 접근 순서 LinkedHashMap: 가득 차면 가장 오래 안 쓴 값부터 버림
+    private final Map<Long, Cached<V>> entries;
+    // 무효화 버전(조회 도중 무효화가 들어오면 조회 결과를 저장하지 않기 위함)
+    // 무효화는 드물기 때문에 ID별로 두지 않고 하나만 둠
+    private final AtomicLong version = new AtomicLong();
+
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter missCounter;
+    private final Counter evictCounter;
+
+    /**
+     * @param name       캐시 이름 (Redis 키 접두사 + 무효화 메시지 구분용, 예: USER_NAME)
+     * @param metricName 지표 이름 (예: user.name.cache)
+     */
+    public TwoLevelCache(String name,
+                         String metricName,
+                         Settings settings,
+                         Codec<V> codec,
+                         RedisTool redisTool,
+                         CacheEvictionBus evictionBus,
+                         MeterRegistry meterRegistry) {
+        this.name = name;
+        this.redisPrefix = name + ":";
+        this.settings = settings;
+        this.codec = codec;
+        this.redisTool = redisTool;
+        this.evictionBus = evictionBus;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Cached<V>> eldest) {
+                return size() > settings.maxEntries();
+            }
+        });
+
+        this.localHitCounter = Counter.builder(metricName)
+                .description("서버 메모리에서 찾은 횟수")
+                .tag("result", "local")
+                .register(meterRegistry);
+        this.redisHitCounter = Counter.builder(metricName)
+                .description("Redis에서 찾은 횟수")
+                .tag("result", "redis")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(metricName)
+                .description("캐시에 없어서 DB를 조회한 횟수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.evictCounter = Counter.builder(metricName + ".evictions")
+                .description("값 변경으로 캐시를 지운 횟수")
+                .register(meterRegistry);
+        meterRegistry.gauge(metricName + ".size", entries, Map::size);
+
+        evictionBus.register(this);
+    }
+
+    // 1] 단건 조회: 메모리 -> Redis -> DB(loader) 순서
+    public V get(Long id, Function<Long, V> loader) {
+        // 1. 메모리
+        V value = readLocal(id, System.nanoTime());
+        if (value != null) {
+            localHitCounter.increment();
+            return value;
+        }
+
+        long version = this.version.get();
+
+        // 2. Redis
+        value = readRedis(List.of(id)).get(id);
+        if (value != null) {
+            redisHitCounter.increment();
+            putLocal(id, version, value);
+            return value;
+        }
+
+        // 3. DB
+        missCounter.increment();
+        value = loader.apply(id);
+        putLocal(id, version, value);
+        if (value != null) writeRedis(Map.of(id, value), version);
+        return value;
+    }
+
+    // 2] 여러 건 조회: 메모리에 없는 것만 Redis(MGET 한번), 그래도 없는 것만 DB(loader 한번)
+    // DB에도 없는 ID는 결과에서 빠짐
+    public Map<Long, V> getAll(Collection<Long> ids, Function<Collection<Long>, Map<Long, V>> loader) {
+        Map<Long, V> result = new HashMap<>();
+        Set<Long> missing = new LinkedHashSet<>();
+
+        // 1. 메모리
+        long now = System.nanoTime();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            V value = readLocal(id, now);
+            if (value != null) {
+                result.put(id, value);
+            } else {
+                missing.add(id);
+            }
+        }
+        localHitCounter.increment(result.size());
+        if (missing.isEmpty()) return result;
+
+        long version = this.version.get();
+
+        // 2. Redis
+        Map<Long, V> fromRedis = readRedis(missing);
+        fromRedis.forEach((id, value) -> putLocal(id, version, value));
+        redisHitCounter.increment(fromRedis.size());
+        result.putAll(fromRedis);
+        missing.removeAll(fromRedis.keySet());
+        if (missing.isEmpty()) return result;
+
+        // 3. DB
+        missCounter.increment(missing.size());
+        Map<Long, V> loaded = loader.apply(missing);
+        loaded.forEach((id, value) -> putLocal(id, version, value));
+        writeRedis(loaded, version);
+        result.putAll(loaded);
+        return result;
+    }
+
+    // 3] 무효화: 메모리 -> Redis 삭제 -> 다른 서버에 알림
+    public void evict(Long id) {
+        evictLocal(id);
+        if (settings.redisEnabled()) {
+            try {
+                redisTool.deleteValues(redisPrefix + id);
+                evictionBus.publish(name, id);
+            } catch (RuntimeException e) {
+                log.warn("[Cache] {} Redis 삭제/발행 실패: id={}, 이유={}", name, id, e.getMessage());
+            }
+        }
+        evictCounter.increment();
+    }
+
+    // 4] 메모리만 무효화 (다른 서버가 발행한 무효화 메시지를 받았을 때)
+    public void evictLocal(Long id) {
+        version.incrementAndGet();
+        entries.remove(id);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isRedisEnabled() {
+        return settings.redisEnabled();
+    }
+
+    // ============ 헬퍼
+
+    private V readLocal(Long id, long now) {
+        Cached<V> cached = entries.get(id);
+        return cached != null && !cached.isExpired(now) ? cached.value() : null;
+    }
+
+    private void putLocal(Long id, long version, V value) {
+        if (value == null || this.version.get() != version) return;
+        entries.put(id, new Cached<>(value, System.nanoTime() + settings.localTtl().toNanos()));
+    }
+
+    // Redis 장애가 요청 실패로 이어지지 않도록 예외는 로그만 남기고 DB로 넘어감
+    private Map<Long, V> readRedis(Collection<Long> ids) {
+        if (!settings.redisEnabled()) return Map.of();
+        try {
+            List<String> keys = ids.stream().map(id -> redisPrefix + id).toList();
+            Map<Long, V> values = new HashMap<>();
+            redisTool.multiGet(keys).forEach((key, value) -> {
+                Long id = Long.valueOf(key.substring(redisPrefix.length()));
+                values.put(id, codec.decode(id, value));
+            });
+            return values;
+        } catch (RuntimeException e) {
+            log.warn("[Cache] {} Redis 조회 실패: {}건, 이유={}", name, ids.size(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private void writeRedis(Map<Long, V> values, long version) {
+        if (!settings.redisEnabled() || values.isEmpty() || this.version.get() != version) return;
+        try {
+            Map<String, String> encoded = new HashMap<>();
+            values.forEach((id, value) -> encoded.put(redisPrefix + id, codec.encode(value)));
+            redisTool.multiSet(encoded, settings.redisTtl());
+        } catch (RuntimeException e) {
+            log.warn("[Cache] {} Redis 저장 실패: {}건, 이유={}", name, values.size(), e.getMessage());
+        }
+    }
+
+    private record Cached<V>(V value, long expiresAtNanos) {
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+
+    // 캐시 설정 (localTtl: 다른 서버의 변경이 늦게 반영될 수 있는 최대 시간)
+    public record Settings(Duration localTtl, int maxEntries, Duration redisTtl, boolean redisEnabled) {
+    }
+
+    // Redis에 문자열로 저장하기 위한 변환
+    public interface Codec<V> {
+        String encode(V value);
+
+        V decode(Long id, String value);
+    }
+}
@@ -1,12 +1,19 @@
 package com.gymproject.support.email;
 
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
 
+import java.util.*;
+
 @Component
 @RequiredArgsConstructor
 // 순수하게 이메일만 발송하는 기능
@@ -26,6 +33,50 @@ public class EmailTool {
         }
     }
 
+    /*
+        여러 메일을 SMTP 연결 하나로 발송 (연결/로그인/STARTTLS는 한번만)
+        - 반환값: 발송에 실패한 메일의 순번(index)
+        - 연결 자체가 실패하면 전부 실패로 반환
+     */
+    public Set<Integer> sendAll(List<OutboxMail> mails) {
+        Map<MimeMessage, Integer> indexByMessage = new LinkedHashMap<>();
+        Set<Integer> failed = new HashSet<>();
+
+        for (int i = 0; i < mails.size(); i++) {
+            try {
+                indexByMessage.put(createMimeMessage(mails.get(i)), i);
+            } catch (MessagingException | IllegalArgumentException e) {
+                log.error("Email 생성 실패: {}번째 메일, 이유={}", i, e.getMessage());
+                failed.add(i);
+            }
+        }
+        if (indexByMessage.isEmpty()) return failed;
+
+        try {
+            mailSender.send(indexByMessage.keySet().toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            // 메일별 실패 (연결 실패면 나머지 전부가 여기 들어있음)
+            e.getFailedMessages().keySet().forEach(message -> {
+                Integer index = indexByMessage.get(message);
+                if (index != null) failed.add(index);
+            });
+            log.warn("Email 일부 발송 실패: {}/{}건, 이유={}", failed.size(), mails.size(), e.getMessage());
+        } catch (MailException e) {
+            failed.addAll(indexByMessage.values());
+            log.warn("Email 발송 실패: {}건, 이유={}", mails.size(), e.getMessage());
+        }
+        return failed;
+    }
+
+    private MimeMessage createMimeMessage(OutboxMail mail) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+        helper.setTo(mail.to());
+        helper.setSubject(mail.subject());
+        helper.setText(mail.text());
+        return message;
+    }
+
     private SimpleMailMessage createEmailForm(String email, String title, String text) {
         SimpleMailMessage emailForm = new SimpleMailMessage();
         emailForm.setTo(email);
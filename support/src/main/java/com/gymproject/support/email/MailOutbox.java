@@ -0,0 +1,28 @@
+package com.gymproject.support.email;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메일 아웃박스 (Redis Stream)
+ * - 요청 스레드는 메일을 스트림에 넣기만 하고 바로 반환 (SMTP 발송을 기다리지 않음)
+ * - 실제 발송/재시도는 MailOutboxDispatcher가 백그라운드에서 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class MailOutbox {
+
+    static final String STREAM_KEY = "MailOutbox";
+    static final String GROUP = "mail-dispatcher";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public void enqueue(String to, String subject, String text) {
+        OutboxMail mail = new OutboxMail(to, subject, text);
+        redisTemplate.opsForStream().add(StreamRecords.newRecord()
+                .in(STREAM_KEY)
+                .ofMap(mail.toFields()));
+    }
+}
@@ -0,0 +1,165 @@
+package com.gymproject.support.email;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.gymproject.support.email.MailOutbox.GROUP;
+import static com.gymproject.support.email.MailOutbox.STREAM_KEY;
+
+/**
+ * 메일 아웃박스 발송기
+ * - 주기적으로 스트림에서 메일을 꺼내 SMTP 연결 하나로 묶어서 발송
+ * - 발송 성공한 메일만 ACK 후 삭제, 실패한 메일은 대기(pending) 상태로 남겨서 backoff 후 재시도
+ * - 서버가 여러 대여도 컨슈머 그룹이라 같은 메일을 동시에 보내지 않음 (죽은 서버가 가져간 메일은 재시도 때 가져옴)
+ */
+@Slf4j
+@Component
+public class MailOutboxDispatcher {
+
+    private static final int BATCH_SIZE = 50;
+    private static final int MAX_ATTEMPTS = 5;
+    // 재시도 간격: 30초, 1분, 2분, 4분 (인증 코드 유효시간 30분 안에 끝남)
+    // 다른 서버가 발송 중인 메일을 가로채지 않도록 SMTP 타임아웃보다 충분히 길게 잡음
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+
+    private final StreamOperations<String, Object, Object> streamOps;
+    private final EmailTool emailTool;
+    private final String consumerName = "dispatcher-" + UUID.randomUUID().toString().substring(0, 8);
+
+    private volatile boolean groupReady;
+
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter deadCounter;
+
+    public MailOutboxDispatcher(RedisTemplate<String, Object> redisTemplate,
+                                EmailTool emailTool,
+                                MeterRegistry meterRegistry) {
+        this.streamOps = redisTemplate.opsForStream();
+        this.emailTool = emailTool;
+
+        this.sentCounter = Counter.builder("mail.outbox.sent")
+                .description("발송에 성공한 메일 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("mail.outbox.failed")
+                .description("발송에 실패한 횟수 (재시도 대상)")
+                .register(meterRegistry);
+        this.deadCounter = Counter.builder("mail.outbox.dead")
+                .description("최대 재시도 후에도 실패해서 버린 메일 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail-outbox.poll-interval-millis:500}")
+    public void dispatch() {
+        try {
+            ensureGroup();
+
+            // 1. 재시도 대상 (backoff가 지난 실패 메일) 먼저, 남는 자리만큼 새 메일
+            List<MapRecord<String, Object, Object>> records = new ArrayList<>(claimRetries());
+            if (records.size() < BATCH_SIZE) {
+                records.addAll(readNew(BATCH_SIZE - records.size()));
+            }
+            if (records.isEmpty()) return;
+
+            // 2. 발송
+            send(records);
+        } catch (DataAccessException e) {
+            // Redis 장애면 다음 주기에 다시 시도 (스트림이 지워졌으면 그룹부터 다시 생성)
+            groupReady = false;
+            log.warn("⚠️ [Mail] 아웃박스 처리 실패, 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    // ============ 헬퍼
+
+    private void send(List<MapRecord<String, Object, Object>> records) {
+        List<OutboxMail> mails = records.stream()
+                .map(record -> OutboxMail.fromFields(record.getValue()))
+                .toList();
+
+        Set<Integer> failed = emailTool.sendAll(mails);
+
+        List<RecordId> sent = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            if (!failed.contains(i)) sent.add(records.get(i).getId());
+        }
+        remove(sent);
+
+        sentCounter.increment(sent.size());
+        failedCounter.increment(failed.size());
+    }
+
+    private List<MapRecord<String, Object, Object>> readNew(int count) {
+        List<MapRecord<String, Object, Object>> records = streamOps.read(
+                Consumer.from(GROUP, consumerName),
+                StreamReadOptions.empty().count(count),
+                StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()));
+        return records == null ? List.of() : records;
+    }
+
+    // 발송 실패로 ACK되지 않은 메일 중 backoff가 지난 것을 가져옴 (횟수 초과면 버림)
+    private List<MapRecord<String, Object, Object>> claimRetries() {
+        PendingMessages pending = streamOps.pending(STREAM_KEY, GROUP, Range.unbounded(), BATCH_SIZE);
+        if (pending == null || pending.isEmpty()) return List.of();
+
+        List<RecordId> due = new ArrayList<>();
+        List<RecordId> dead = new ArrayList<>();
+        for (PendingMessage message : pending) {
+            long attempts = message.getTotalDeliveryCount();
+            if (attempts >= MAX_ATTEMPTS) {
+                dead.add(message.getId());
+            } else if (message.getElapsedTimeSinceLastDelivery().compareTo(backoff(attempts)) >= 0) {
+                due.add(message.getId());
+            }
+        }
+
+        if (!dead.isEmpty()) {
+            remove(dead);
+            deadCounter.increment(dead.size());
+            log.error("❌ [Mail] {}회 발송 실패로 메일을 버립니다: {}", MAX_ATTEMPTS, dead);
+        }
+        if (due.isEmpty()) return List.of();
+
+        List<MapRecord<String, Object, Object>> claimed =
+                streamOps.claim(STREAM_KEY, GROUP, consumerName, BASE_BACKOFF, due.toArray(RecordId[]::new));
+        return claimed == null ? List.of() : claimed;
+    }
+
+    private void remove(List<RecordId> ids) {
+        if (ids.isEmpty()) return;
+        RecordId[] array = ids.toArray(RecordId[]::new);
+        streamOps.acknowledge(STREAM_KEY, GROUP, array);
+        streamOps.delete(STREAM_KEY, array); // 스트림이 계속 커지지 않도록 처리한 메일은 삭제
+    }
+
+    // 30초 * 2^(시도횟수-1)
+    private static Duration backoff(long attempts) {
+        return BASE_BACKOFF.multipliedBy(1L << Math.max(0, attempts - 1));
+    }
+
+    private void ensureGroup() {
+        if (groupReady) return;
+        try {
+            streamOps.createGroup(STREAM_KEY, ReadOffset.from("0"), GROUP); // 스트림이 없으면 같이 생성(MKSTREAM)
+        } catch (DataAccessException e) {
+            String message = String.valueOf(NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            if (!message.contains("BUSYGROUP")) throw e; // 이미 그룹이 있으면 정상
+        }
+        groupReady = true;
+    }
+}
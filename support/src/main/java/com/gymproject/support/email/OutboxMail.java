@@ -0,0 +1,23 @@
+package com.gymproject.support.email;
+
+import java.util.Map;
+
+// 아웃박스(Redis Stream)에 저장하는 메일 한 통
+public record OutboxMail(String to, String subject, String text) {
+
+    static final String TO = "to";
+    static final String SUBJECT = "subject";
+    static final String TEXT = "text";
+
+    Map<String, String> toFields() {
+        return Map.of(TO, to, SUBJECT, subject, TEXT, text);
+    }
+
+    static OutboxMail fromFields(Map<Object, Object> fields) {
+        return new OutboxMail(
+                (String) fields.get(TO),
+                (String) fields.get(SUBJECT),
+                (String) fields.get(TEXT)
+        );
+    }
+}
@@ -0,0 +1,258 @@
+package com.gymproject.support.partition;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import static com.gymproject.common.constant.GymTimePolicy.SERVICE_ZONE;
+
+/**
+ * 이력 테이블 월별 파티션 관리
+ * - 이번 달부터 months-ahead 개월 뒤까지 파티션을 미리 만듦 (DEFAULT 파티션에 들어간 행은 새 파티션으로 옮김)
+ * - DEFAULT 파티션에 남아있는 지난 달 행(파티션 전환 전 데이터 등)도 월별 파티션으로 옮겨서 보관/아카이브 대상에 포함
+ * - retention-months 보다 오래된 파티션은 일 단위 jsonb 묶음으로 HISTORY_ARCHIVE_TB에 옮긴 뒤 떼어내고 삭제
+ * - 서버가 여러 대여도 테이블별 advisory lock으로 한 서버만 작업함
+ */
+@Slf4j
+@Component
+public class HistoryPartitionManager {
+
+    private static final int LOCK_KEY = 0x48495354; // "HIST"
+    private static final Pattern TABLE_NAME = Pattern.compile("[A-Z][A-Z0-9_]*");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final DateTimeFormatter BOUND = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ssXXX");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final List<String> tables;
+    private final int monthsAhead;
+    private final int retentionMonths;
+
+    private final Counter createdCounter;
+    private final Counter archivedCounter;
+    private final Counter archivedRowCounter;
+
+    public HistoryPartitionManager(JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.history-partition.enabled:false}") boolean enabled,
+                                   @Value("${app.history-partition.tables:}") String[] tables,
+                                   @Value("${app.history-partition.months-ahead:2}") int monthsAhead,
+                                   @Value("${app.history-partition.retention-months:12}") int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+
+        // 테이블 이름은 SQL에 그대로 들어가므로 설정값을 검증함
+        for (String table : tables) {
+            if (!TABLE_NAME.matcher(table).matches()) {
+                throw new IllegalArgumentException("잘못된 이력 테이블 이름입니다: " + table);
+            }
+        }
+        this.tables = List.of(tables);
+        if (retentionMonths < 1) {
+            throw new IllegalArgumentException("retention-months는 1 이상이어야 합니다.");
+        }
+
+        this.createdCounter = Counter.builder("history.partition.created")
+                .description("새로 만든 월별 파티션 수")
+                .register(meterRegistry);
+        this.archivedCounter = Counter.builder("history.partition.archived")
+                .description("보관 기간이 지나 아카이브 후 삭제한 파티션 수")
+                .register(meterRegistry);
+        this.archivedRowCounter = Counter.builder("history.archive.rows")
+                .description("아카이브 테이블로 옮긴 이력 행 수")
+                .register(meterRegistry);
+    }
+
+    // 서버 시작 시 한번 (이번 달 파티션이 없으면 모든 이력이 DEFAULT 파티션으로 들어가므로)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${app.history-partition.cron:0 30 3 * * *}", zone = "Australia/Brisbane")
+    public void maintain() {
+        if (!enabled) return;
+
+        YearMonth current = YearMonth.now(SERVICE_ZONE);
+        for (String table : tables) {
+            try {
+                // 테이블마다 트랜잭션을 나눠서 한 테이블이 실패해도 나머지는 진행
+                transactionTemplate.executeWithoutResult(status -> maintainTable(table, current));
+            } catch (Exception e) {
+                log.error("❌ [Partition] {} 파티션 관리 실패, 다음 주기에 재시도: {}", table, e.getMessage(), e);
+            }
+        }
+    }
+
+    // ============ 처리
+
+    private void maintainTable(String table, YearMonth current) {
+        // 1. 다른 서버가 작업 중이면 건너뜀 (트랜잭션이 끝나면 자동으로 풀림)
+        Boolean locked = jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(?, ?)", Boolean.class, LOCK_KEY, table.hashCode());
+        if (!Boolean.TRUE.equals(locked)) return;
+
+        // 2. 아직 파티션 테이블로 바꾸지 않은 DB면 건너뜀
+        if (!isPartitioned(table)) {
+            log.warn("⚠️ [Partition] {}는 파티션 테이블이 아니라서 건너뜁니다. (migration/history_partition.sql 로 전환)", table);
+            return;
+        }
+
+        Set<YearMonth> existing = findPartitions(table);
+
+        // 3. 이번 달 ~ months-ahead 개월 뒤 파티션 생성
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            if (!existing.contains(month)) {
+                createPartition(table, month);
+                existing.add(month);
+            }
+        }
+
+        // 4. DEFAULT 파티션에 남은 다른 달의 행도 월별 파티션으로 옮김 (옮기지 않으면 아카이브되지 않고 계속 쌓임)
+        for (YearMonth month : findDefaultMonths(table)) {
+            if (!existing.contains(month)) {
+                createPartition(table, month);
+                existing.add(month);
+            }
+        }
+
+        // 5. 보관 기간이 지난 파티션 아카이브 후 삭제
+        for (YearMonth month : expiredMonths(existing, current, retentionMonths)) {
+            archivePartition(table, month);
+        }
+    }
+
+    /*
+        [중요] DEFAULT 파티션에 해당 월의 행이 있으면 ATTACH가 실패함
+        - 새 테이블을 만들고, DEFAULT에서 해당 월의 행을 옮긴 뒤 ATTACH
+        - 옮기는 중에 해당 월의 행이 DEFAULT에 새로 들어오면 ATTACH가 실패하므로 DEFAULT를 먼저 잠금
+          (ATTACH가 어차피 DEFAULT에 ACCESS EXCLUSIVE를 잡으므로 처음부터 같은 락을 잡아서 락 업그레이드를 피함)
+        - ATTACH 할 때 부모의 인덱스/PK/FK가 새 파티션에 자동으로 만들어짐
+     */
+    private void createPartition(String table, YearMonth month) {
+        String partition = quote(partitionName(table, month));
+        String range = "created_at >= '" + lowerBound(month) + "' AND created_at < '" + lowerBound(month.plusMonths(1)) + "'";
+
+        jdbcTemplate.execute("LOCK TABLE " + quote(table + "_DEFAULT") + " IN ACCESS EXCLUSIVE MODE");
+        jdbcTemplate.execute("CREATE TABLE " + partition
+                + " (LIKE " + quote(table) + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        jdbcTemplate.execute("WITH moved AS (DELETE FROM " + quote(table + "_DEFAULT") + " WHERE " + range + " RETURNING *)"
+                + " INSERT INTO " + partition + " SELECT * FROM moved");
+        jdbcTemplate.execute("ALTER TABLE " + quote(table) + " ATTACH PARTITION " + partition
+                + " FOR VALUES FROM ('" + lowerBound(month) + "') TO ('" + lowerBound(month.plusMonths(1)) + "')");
+
+        createdCounter.increment();
+        log.info("[Partition] {} 파티션 생성", partitionName(table, month));
+    }
+
+    // 하루치 이력을 jsonb 배열 하나로 묶어서 저장 (TOAST lz4 압축이 묶음 단위로 적용됨)
+    private void archivePartition(String table, YearMonth month) {
+        String partition = quote(partitionName(table, month));
+
+        Long archivedRows = jdbcTemplate.queryForObject("SELECT count(*) FROM " + partition, Long.class);
+        int days = jdbcTemplate.update("""
+                INSERT INTO "HISTORY_ARCHIVE_TB" (source_table, archived_day, row_count, payload, archived_at)
+                SELECT ?, d.day, count(*), jsonb_agg(d.doc ORDER BY d.created_at), now()
+                FROM (SELECT (h.created_at AT TIME ZONE ?)::date AS day, h.created_at, to_jsonb(h) AS doc
+                      FROM %s h) d
+                GROUP BY d.day
+                """.formatted(partition), table, SERVICE_ZONE.getId());
+
+        jdbcTemplate.execute("ALTER TABLE " + quote(table) + " DETACH PARTITION " + partition);
+        jdbcTemplate.execute("DROP TABLE " + partition);
+
+        archivedCounter.increment();
+        archivedRowCounter.increment(archivedRows == null ? 0 : archivedRows);
+        log.info("[Partition] {} 아카이브 완료: {}일치, {}건", partitionName(table, month), days, archivedRows);
+    }
+
+    // ============ 헬퍼
+
+    private boolean isPartitioned(String table) {
+        Boolean partitioned = jdbcTemplate.queryForObject("""
+                SELECT EXISTS (SELECT 1 FROM pg_partitioned_table pt
+                               JOIN pg_class c ON c.oid = pt.partrelid
+                               WHERE c.relname = ? AND pg_table_is_visible(c.oid))
+                """, Boolean.class, table);
+        return Boolean.TRUE.equals(partitioned);
+    }
+
+    private Set<YearMonth> findPartitions(String table) {
+        List<String> names = jdbcTemplate.queryForList("""
+                SELECT child.relname FROM pg_inherits i
+                JOIN pg_class parent ON parent.oid = i.inhparent
+                JOIN pg_class child ON child.oid = i.inhrelid
+                WHERE parent.relname = ? AND pg_table_is_visible(parent.oid)
+                """, String.class, table);
+        return parsePartitionMonths(table, names);
+    }
+
+    // DEFAULT 파티션에 행이 있는 달 (서비스 시간대 기준, 파티션 경계와 같은 기준)
+    private List<YearMonth> findDefaultMonths(String table) {
+        return jdbcTemplate.queryForList("""
+                        SELECT DISTINCT to_char(date_trunc('month', created_at AT TIME ZONE ?), 'YYYYMM')
+                        FROM %s
+                        """.formatted(quote(table + "_DEFAULT")), String.class, SERVICE_ZONE.getId())
+                .stream()
+                .map(month -> YearMonth.parse(month, SUFFIX))
+                .toList();
+    }
+
+    // 이름이 <테이블>_yyyyMM 인 파티션만 대상 (DEFAULT 파티션 제외)
+    static Set<YearMonth> parsePartitionMonths(String table, List<String> names) {
+        Set<YearMonth> months = new TreeSet<>();
+        String prefix = table + "_";
+        for (String name : names) {
+            if (!name.startsWith(prefix)) continue;
+            try {
+                months.add(YearMonth.parse(name.substring(prefix.length()), SUFFIX));
+            } catch (DateTimeParseException ignored) {
+                // DEFAULT 등 월별 파티션이 아닌 것
+            }
+        }
+        return months;
+    }
+
+    // 보관 기간(retentionMonths)이 지난 달: 이번 달이 2030-03, 보관 12개월이면 2029-03보다 이전 달
+    static List<YearMonth> expiredMonths(Set<YearMonth> months, YearMonth current, int retentionMonths) {
+        YearMonth oldestKept = current.minusMonths(retentionMonths);
+        return months.stream()
+                .filter(month -> month.isBefore(oldestKept))
+                .toList();
+    }
+
+    static String partitionName(String table, YearMonth month) {
+        return table + "_" + month.format(SUFFIX);
+    }
+
+    // 서비스 시간대 기준 월 시작 시각 (예: 2030-03-01 00:00:00+10:00)
+    static String lowerBound(YearMonth month) {
+        return month.atDay(1).atStartOfDay(SERVICE_ZONE).format(BOUND);
+    }
+
+    private static String quote(String identifier) {
+        return "\"" + identifier + "\"";
+    }
+}
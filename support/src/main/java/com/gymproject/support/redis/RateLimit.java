@@ -0,0 +1,7 @@
+package com.gymproject.support.redis;
+
+import java.time.Duration;
+
+// 슬라이딩 윈도우 제한 하나: window 동안 key로 최대 limit번 허용
+public record RateLimit(String key, int limit, Duration window) {
+}
@@ -0,0 +1,43 @@
+package com.gymproject.support.redis;
+
+import org.springframework.data.redis.core.RedisOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * RedisTool.executeInTransaction에 넘길 명령 묶음
+ * - 명령을 모아두기만 하고, 실제 전송은 RedisTool이 MULTI/EXEC 파이프라인으로 한번에 함
+ */
+public class RedisBatch {
+
+    private final List<Consumer<RedisOperations<String, Object>>> commands = new ArrayList<>();
+
+    RedisBatch() {
+    }
+
+    public RedisBatch set(String key, String value, Duration duration) {
+        commands.add(ops -> ops.opsForValue().set(key, value, duration));
+        return this;
+    }
+
+    public RedisBatch addToSortedSet(String key, String member, double score) {
+        commands.add(ops -> ops.opsForZSet().add(key, member, score));
+        return this;
+    }
+
+    public RedisBatch delete(String key) {
+        commands.add(ops -> ops.delete(key));
+        return this;
+    }
+
+    boolean isEmpty() {
+        return commands.isEmpty();
+    }
+
+    void applyTo(RedisOperations<String, Object> ops) {
+        commands.forEach(command -> command.accept(ops));
+    }
+}
@@ -1,25 +1,41 @@
 package com.gymproject.support.redis;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.time.Duration;
+
 @Configuration
 @RequiredArgsConstructor
 @EnableRedisRepositories
 public class RedisConfig {
     private final RedisProperties redisProperties;
 
+    private static final Duration DEFAULT_COMMAND_TIMEOUT = Duration.ofSeconds(2);
+
     // RedisProperties를 yml에 저장한 host,post로 연결
+    // 파이프라인/트랜잭션(MULTI)은 전용 커넥션이 필요해서 풀에서 빌려 씀 (spring.data.redis.lettuce.pool.*)
     @Bean
     public RedisConnectionFactory redisConnectionFactory(){
-        return new LettuceConnectionFactory(redisProperties.getHost(), redisProperties.getPort());
+        RedisStandaloneConfiguration server =
+                new RedisStandaloneConfiguration(redisProperties.getHost(), redisProperties.getPort());
+
+        LettucePoolingClientConfiguration client = LettucePoolingClientConfiguration.builder()
+                .poolConfig(poolConfig())
+                .commandTimeout(redisProperties.getTimeout() != null ? redisProperties.getTimeout() : DEFAULT_COMMAND_TIMEOUT)
+                .build();
+
+        return new LettuceConnectionFactory(server, client);
     }
 
     //serializer 설정으로 redis-cli를 통해 직접 데이터 조회가능하게 설정
@@ -28,8 +44,26 @@ public class RedisConfig {
         RedisTemplate<String,Object> redisTemplate = new RedisTemplate<>();
         redisTemplate.setKeySerializer(new StringRedisSerializer());
         redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer()); // Stream 필드(메일 아웃박스)도 문자열로 저장
+        redisTemplate.setHashValueSerializer(new StringRedisSerializer());
         redisTemplate.setConnectionFactory(redisConnectionFactory());
 
         return redisTemplate;
     }
+
+    // ============ 헬퍼
+
+    private GenericObjectPoolConfig<?> poolConfig() {
+        RedisProperties.Pool pool = redisProperties.getLettuce().getPool();
+
+        GenericObjectPoolConfig<?> config = new GenericObjectPoolConfig<>();
+        config.setMaxTotal(pool.getMaxActive());
+        config.setMaxIdle(pool.getMaxIdle());
+        config.setMinIdle(pool.getMinIdle());
+        config.setMaxWait(pool.getMaxWait()); // 풀이 비었을 때 기다리는 최대 시간
+        if (pool.getTimeBetweenEvictionRuns() != null) {
+            config.setTimeBetweenEvictionRuns(pool.getTimeBetweenEvictionRuns());
+        }
+        return config;
+    }
 }
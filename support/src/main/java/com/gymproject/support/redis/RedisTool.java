@@ -1,50 +1,97 @@
 package com.gymproject.support.redis;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 @Component
 @Transactional
-@RequiredArgsConstructor
 public class RedisTool {
 
     private static final Logger log = LoggerFactory.getLogger(RedisTool.class);
 
+    // 저장된 값이 ARGV[1]과 같을 때만 ARGV[2]로 교체 (TTL: ARGV[3] 밀리초)
+    private static final RedisScript<Long> COMPARE_AND_SET_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    /*
+        슬라이딩 윈도우 제한 (키마다 ZSET에 허용한 시각을 기록)
+        KEYS: 제한 키들, ARGV: [1]현재 시각(ms), [2]이번 요청 식별값, 이후 키마다 (limit, window ms)
+        - 하나라도 초과면 아무것도 기록하지 않고 초과한 키의 순번(1부터) 반환, 모두 여유가 있으면 전부 기록 후 0
+     */
+    private static final RedisScript<Long> SLIDING_WINDOW_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            for i, key in ipairs(KEYS) do
+                local limit = tonumber(ARGV[1 + i * 2])
+                local window = tonumber(ARGV[2 + i * 2])
+                redis.call('ZREMRANGEBYSCORE', key, '-inf', now - window)
+                if redis.call('ZCARD', key) >= limit then
+                    return i
+                end
+            end
+            for i, key in ipairs(KEYS) do
+                redis.call('ZADD', key, now, ARGV[2])
+                redis.call('PEXPIRE', key, tonumber(ARGV[2 + i * 2]))
+            end
+            return 0
+            """, Long.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    // 명령별 지연 시간 (redis.command{command=get|set|...})
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
 
 //    private static final String RT_PREFIX = "RT:"; // Key 값의 접두사
 
+    public RedisTool(RedisTemplate<String, Object> redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
     // 1. 저장 (만료시간 없이 단순 캐싱)
     public void setValues(String key, String data) {
-        ValueOperations<String, Object> ops = redisTemplate.opsForValue();
-        ops.set(key, data);
+        record("set", () -> redisTemplate.opsForValue().set(key, data));
     }
 
     // 2. 저장 (만료시간 있음)
     public void setValues(String key, String data, Duration duration) {
-        ValueOperations<String, Object> values = redisTemplate.opsForValue();
-        values.set(key, data, duration);
+        record("set", () -> redisTemplate.opsForValue().set(key, data, duration));
     }
 
-    // 3. 조회
+    // 3. 조회 (GET 한번)
     public String getValues(String key) {
-        ValueOperations<String, Object> values = redisTemplate.opsForValue();
-        if (values.get(key) == null) {
+        Object value = record("get", () -> redisTemplate.opsForValue().get(key));
+        if (value == null) {
             return "false";
         }
-        return (String) values.get(key);
+        return (String) value;
     }
 
     // 4. 삭제
     public void deleteValues(String key) {
-        Boolean result = redisTemplate.delete(key);
+        Boolean result = record("delete", () -> redisTemplate.delete(key));
         if (Boolean.FALSE.equals(result)) {
             log.warn("레디스 삭제 실패 혹은 키 없음: {}", key);
         }
@@ -55,6 +102,151 @@ public class RedisTool {
     public boolean checkExistsValue(String value) {
         return !value.equals("false");
     }
+
+    // 5-1. 키 존재 확인 (EXISTS 한번)
+    public boolean hasKey(String key) {
+        return Boolean.TRUE.equals(record("exists", () -> redisTemplate.hasKey(key)));
+    }
+
+    /*
+        6. 비교 후 교체 (compare-and-set, TTL 포함)
+        [중요] GET으로 비교하고 SET으로 바꾸면 요청이 두번이고, 그 사이에 다른 요청이 끼어들 수 있음
+        - Lua 스크립트는 Redis에서 한번에(다른 명령이 끼어들지 않게) 실행되므로 왕복 한번으로 원자적 교체
+        - 저장된 값이 expected와 같을 때만 newValue로 바꾸고 true 반환
+     */
+    public boolean compareAndSet(String key, String expected, String newValue, Duration duration) {
+        Long result = record("compare_and_set", () -> redisTemplate.execute(
+                COMPARE_AND_SET_SCRIPT,
+                List.of(key),
+                expected, newValue, String.valueOf(duration.toMillis())
+        ));
+        return Long.valueOf(1L).equals(result);
+    }
+
+    /*
+        7. 슬라이딩 윈도우 제한 확인 + 기록 (Lua 한번, 왕복 한번)
+        - 반환값: 초과한 제한의 순번(limits 기준 0부터), 모두 통과면 -1
+        - 초과한 요청은 기록하지 않음 (공격이 멈추면 window 뒤에 풀림)
+     */
+    public int tryAcquire(List<RateLimit> limits) {
+        List<String> keys = new ArrayList<>(limits.size());
+        List<Object> args = new ArrayList<>(2 + limits.size() * 2);
+        long now = System.currentTimeMillis();
+        args.add(String.valueOf(now));
+        args.add(now + "-" + ThreadLocalRandom.current().nextLong()); // 같은 ms의 요청도 따로 기록
+        for (RateLimit limit : limits) {
+            keys.add(limit.key());
+            args.add(String.valueOf(limit.limit()));
+            args.add(String.valueOf(limit.window().toMillis()));
+        }
+
+        Long result = record("rate_limit", () -> redisTemplate.execute(SLIDING_WINDOW_SCRIPT, keys, args.toArray()));
+        return result == null || result == 0 ? -1 : result.intValue() - 1;
+    }
+
+    // ============ 여러 키 (왕복 한번)
+
+    // 8. 여러 키 조회 (MGET 한번). 없는 키는 결과에서 빠짐
+    public Map<String, String> multiGet(Collection<String> keys) {
+        if (keys.isEmpty()) return Map.of();
+
+        List<String> keyList = new ArrayList<>(keys);
+        List<Object> values = record("mget", () -> redisTemplate.opsForValue().multiGet(keyList));
+
+        Map<String, String> result = new LinkedHashMap<>();
+        for (int i = 0; i < keyList.size(); i++) {
+            Object value = values == null ? null : values.get(i);
+            if (value != null) result.put(keyList.get(i), (String) value);
+        }
+        return result;
+    }
+
+    // 9. 여러 키 저장 (SET을 파이프라인으로 한번에 전송, 키마다 같은 TTL)
+    public void multiSet(Map<String, String> values, Duration duration) {
+        if (values.isEmpty()) return;
+        pipelined("mset", ops -> values.forEach((key, value) -> ops.opsForValue().set(key, value, duration)));
+    }
+
+    // 10. 여러 키 삭제 (DEL 한번)
+    public long multiDelete(Collection<String> keys) {
+        if (keys.isEmpty()) return 0;
+        Long deleted = record("mdelete", () -> redisTemplate.delete(keys));
+        return deleted == null ? 0 : deleted;
+    }
+
+    // ============ 정렬 집합 (ZSET)
+
+    // 11. 점수 범위 조회 (멤버 -> 점수)
+    public Map<String, Double> rangeByScore(String key, double min, double max) {
+        Set<ZSetOperations.TypedTuple<Object>> tuples =
+                record("zrange", () -> redisTemplate.opsForZSet().rangeByScoreWithScores(key, min, max));
+        if (tuples == null) return Map.of();
+
+        Map<String, Double> result = new LinkedHashMap<>();
+        for (ZSetOperations.TypedTuple<Object> tuple : tuples) {
+            result.put((String) tuple.getValue(), tuple.getScore());
+        }
+        return result;
+    }
+
+    // 12. 점수 범위 삭제
+    public long removeRangeByScore(String key, double min, double max) {
+        Long removed = record("zremrange", () -> redisTemplate.opsForZSet().removeRangeByScore(key, min, max));
+        return removed == null ? 0 : removed;
+    }
+
+    /*
+        13. 트랜잭션 파이프라인 (MULTI ~ EXEC를 한번에 전송)
+        - 명령들이 모두 실행되거나 하나도 실행되지 않음 (다른 클라이언트 명령이 중간에 끼어들지 않음)
+        - 조회 결과가 필요한 조건부 변경은 compareAndSet(Lua)을 사용
+        예) redisTool.executeInTransaction(batch -> batch.set(k1, v1, ttl).delete(k2));
+     */
+    public void executeInTransaction(Consumer<RedisBatch> commands) {
+        RedisBatch batch = new RedisBatch();
+        commands.accept(batch);
+        if (batch.isEmpty()) return;
+
+        pipelined("transaction", ops -> {
+            ops.multi();
+            batch.applyTo(ops);
+            ops.exec();
+        });
+    }
+
+    // ============ 발행 (Pub/Sub)
+
+    // 14. 채널에 메시지 발행 (구독 중인 모든 서버가 받음, 받는 서버가 없으면 버려짐)
+    public void publish(String channel, String message) {
+        record("publish", () -> redisTemplate.convertAndSend(channel, message));
+    }
+
+    // ============ 헬퍼
+
+    private void pipelined(String command, Consumer<RedisOperations<String, Object>> commands) {
+        record(command, () -> redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                commands.accept((RedisOperations<String, Object>) operations);
+                return null; // 파이프라인은 결과를 executePipelined의 반환값으로 받음
+            }
+        }));
+    }
+
+    private <T> T record(String command, Supplier<T> call) {
+        return timer(command).record(call);
+    }
+
+    private void record(String command, Runnable call) {
+        timer(command).record(call);
+    }
+
+    private Timer timer(String command) {
+        return timers.computeIfAbsent(command, name -> Timer.builder("redis.command")
+                .description("레디스 명령 지연 시간 (파이프라인은 묶음 전체)")
+                .tag("command", name)
+                .register(meterRegistry));
+    }
 }
 
 /* 아래는 모듈 분리 전 토큰과 관련된 내용
@@ -0,0 +1,198 @@
+package com.gymproject.support.cache;
+
+import com.gymproject.support.redis.RedisTool;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+class TwoLevelCacheTest {
+
+    private static final Long ID = 1L;
+
+    private final RedisTool redisTool = Mockito.mock(RedisTool.class);
+    @SuppressWarnings("unchecked")
+    private final CacheEvictionBus evictionBus = new CacheEvictionBus(redisTool, Mockito.mock(ObjectProvider.class));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    // [Helper] 메모리만 쓰는 캐시 (최대 2개)
+    private TwoLevelCache<String> localCache() {
+        return cache("LOCAL", new TwoLevelCache.Settings(Duration.ofMinutes(1), 2, Duration.ofMinutes(10), false));
+    }
+
+    private TwoLevelCache<String> redisCache() {
+        return cache("REDIS", new TwoLevelCache.Settings(Duration.ofMinutes(1), 100, Duration.ofMinutes(10), true));
+    }
+
+    private TwoLevelCache<String> cache(String name, TwoLevelCache.Settings settings) {
+        return new TwoLevelCache<>(name, "test.cache", settings, new TwoLevelCache.Codec<>() {
+            @Override
+            public String encode(String value) {
+                return value;
+            }
+
+            @Override
+            public String decode(Long id, String value) {
+                return value;
+            }
+        }, redisTool, evictionBus, meterRegistry);
+    }
+
+    // [Helper] DB 조회 대신 호출 횟수를 세는 로더
+    private String load(Long id) {
+        loadCount.incrementAndGet();
+        return "value " + id + "-" + loadCount.get();
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("test.cache", "result", result).count();
+    }
+
+    @Test
+    @DisplayName("같은 ID를 여러번 조회해도 DB는 한번만 조회하고 결과별로 집계한다")
+    void get_loads_once() {
+        // given
+        TwoLevelCache<String> cache = localCache();
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            cache.get(ID, this::load);
+        }
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(count("miss")).isEqualTo(1);
+        assertThat(count("local")).isEqualTo(9);
+        verifyNoInteractions(redisTool); // Redis 사용 안함 설정
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 안 쓴 값부터 버린다")
+    void evicts_least_recently_used() {
+        // given (최대 2개)
+        TwoLevelCache<String> cache = localCache();
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+        cache.get(1L, this::load); // 1번을 최근에 사용
+
+        // when
+        cache.get(3L, this::load); // 2번이 밀려남
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+
+        // then (1, 2, 3 처음 조회 + 밀려난 2번 재조회)
+        assertThat(loadCount.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화가 들어오면 읽은 값을 캐시에 넣지 않는다")
+    void evict_during_load_is_not_cached() {
+        // given
+        TwoLevelCache<String> cache = localCache();
+
+        // when (DB에서 읽는 사이에 값이 바뀜)
+        cache.get(ID, id -> {
+            cache.evict(id);
+            return load(id);
+        });
+        String value = cache.get(ID, this::load);
+
+        // then
+        assertThat(value).isEqualTo("value 1-2");
+        assertThat(meterRegistry.counter("test.cache.evictions").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("메모리에 없으면 Redis에서 찾고, Redis에도 없을 때만 DB를 조회해 Redis에 저장한다")
+    void get_reads_redis_before_db() {
+        // given
+        TwoLevelCache<String> cache = redisCache();
+        when(redisTool.multiGet(List.of("REDIS:1"))).thenReturn(Map.of("REDIS:1", "from redis"));
+        when(redisTool.multiGet(List.of("REDIS:2"))).thenReturn(Map.of());
+
+        // when
+        String cached = cache.get(1L, this::load);
+        String loaded = cache.get(2L, this::load);
+
+        // then
+        assertThat(cached).isEqualTo("from redis");
+        assertThat(loaded).isEqualTo("value 2-1");
+        assertThat(count("redis")).isEqualTo(1);
+        assertThat(count("miss")).isEqualTo(1);
+        verify(redisTool).multiSet(Map.of("REDIS:2", "value 2-1"), Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("Redis 장애가 나도 DB에서 읽어서 응답한다")
+    void redis_failure_falls_back_to_db() {
+        // given
+        TwoLevelCache<String> cache = redisCache();
+        when(redisTool.multiGet(any())).thenThrow(new IllegalStateException("Redis 연결 실패"));
+        doThrow(new IllegalStateException("Redis 연결 실패")).when(redisTool).multiSet(anyMap(), any());
+
+        // when
+        String value = cache.get(ID, this::load);
+
+        // then
+        assertThat(value).isEqualTo("value 1-1");
+    }
+
+    @Test
+    @DisplayName("Redis를 쓰면 무효화할 때 Redis 값을 지우고 공용 채널로 다른 서버에 알린다")
+    void evict_publishes_to_other_servers() {
+        // given
+        TwoLevelCache<String> cache = redisCache();
+
+        // when
+        cache.evict(ID);
+
+        // then
+        verify(redisTool).deleteValues("REDIS:" + ID);
+        verify(redisTool).publish(CacheEvictionBus.CHANNEL, "REDIS:" + ID);
+    }
+
+    @Test
+    @DisplayName("다른 서버의 무효화 메시지를 받으면 해당 캐시의 메모리만 지우고 다음 조회에서 다시 읽는다")
+    void eviction_message_evicts_local_only() {
+        // given
+        TwoLevelCache<String> cache = localCache();
+        TwoLevelCache<String> other = cache("OTHER", new TwoLevelCache.Settings(Duration.ofMinutes(1), 2, Duration.ofMinutes(10), false));
+        cache.get(ID, this::load);
+        other.get(ID, this::load);
+
+        // when (다른 서버에서 값이 바뀜)
+        evictionBus.onMessage("LOCAL:" + ID);
+        cache.get(ID, this::load);
+        other.get(ID, this::load);
+
+        // then (LOCAL만 다시 읽음, 발행/집계 없음)
+        assertThat(loadCount.get()).isEqualTo(3);
+        assertThat(meterRegistry.counter("test.cache.evictions").count()).isZero();
+        verifyNoInteractions(redisTool);
+    }
+
+    @Test
+    @DisplayName("같은 이름의 캐시를 두번 만들면 예외가 발생한다")
+    void duplicate_name_fails() {
+        // given
+        localCache();
+
+        // when & then
+        assertThatThrownBy(this::localCache).isInstanceOf(IllegalStateException.class);
+    }
+}
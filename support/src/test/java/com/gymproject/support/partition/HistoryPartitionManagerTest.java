@@ -0,0 +1,118 @@
+package com.gymproject.support.partition;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static com.gymproject.common.constant.GymTimePolicy.SERVICE_ZONE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+class HistoryPartitionManagerTest {
+
+    private static final String TABLE = "USER_SESSION_HISTORY_TB";
+
+    private final JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+    private final HistoryPartitionManager manager = new HistoryPartitionManager(
+            jdbcTemplate, Mockito.mock(PlatformTransactionManager.class), new SimpleMeterRegistry(),
+            true, new String[]{TABLE}, 2, 12);
+
+    @Test
+    @DisplayName("파티션 이름은 <테이블>_yyyyMM, 경계는 서비스 시간대 기준 월 시작 시각이다")
+    void partition_name_and_bound() {
+        // given
+        YearMonth month = YearMonth.of(2030, 3);
+
+        // when & then
+        assertThat(HistoryPartitionManager.partitionName(TABLE, month)).isEqualTo("USER_SESSION_HISTORY_TB_203003");
+        assertThat(HistoryPartitionManager.lowerBound(month)).isEqualTo("2030-03-01 00:00:00+10:00");
+        assertThat(HistoryPartitionManager.lowerBound(month.plusMonths(10))).isEqualTo("2031-01-01 00:00:00+10:00");
+    }
+
+    @Test
+    @DisplayName("월별 파티션 이름만 읽고 DEFAULT 등 다른 테이블은 무시한다")
+    void parse_partition_months() {
+        // given
+        List<String> names = List.of(
+                TABLE + "_203003", TABLE + "_202912", TABLE + "_DEFAULT", TABLE + "_2030", "OTHER_TB_203001");
+
+        // when
+        Set<YearMonth> months = HistoryPartitionManager.parsePartitionMonths(TABLE, names);
+
+        // then
+        assertThat(months).containsExactly(YearMonth.of(2029, 12), YearMonth.of(2030, 3));
+    }
+
+    @Test
+    @DisplayName("보관 기간(12개월)보다 오래된 달만 아카이브 대상이다")
+    void expired_months_cutoff() {
+        // given (이번 달 2030-03 -> 2029-03부터 보관)
+        Set<YearMonth> months = new TreeSet<>(List.of(
+                YearMonth.of(2029, 1), YearMonth.of(2029, 2), YearMonth.of(2029, 3), YearMonth.of(2030, 3)));
+
+        // when
+        List<YearMonth> expired = HistoryPartitionManager.expiredMonths(months, YearMonth.of(2030, 3), 12);
+
+        // then
+        assertThat(expired).containsExactly(YearMonth.of(2029, 1), YearMonth.of(2029, 2));
+    }
+
+    @Test
+    @DisplayName("DEFAULT 파티션에 남은 지난 달 행은 월별 파티션으로 옮기고, 보관 기간이 지났으면 아카이브 후 삭제한다")
+    void maintain_moves_past_months_out_of_default() {
+        // given
+        YearMonth current = YearMonth.now(SERVICE_ZONE);
+        YearMonth expiredPartition = current.minusMonths(13); // 이미 있는 오래된 파티션
+        YearMonth expiredInDefault = current.minusMonths(20); // DEFAULT에만 있는 오래된 행
+        YearMonth keptInDefault = current.minusMonths(3);     // DEFAULT에만 있는 보관 기간 내 행
+
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), any(Object[].class))).thenReturn(true);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT count(*)"), eq(Long.class))).thenReturn(3L);
+        when(jdbcTemplate.queryForList(contains("pg_inherits"), eq(String.class), any(Object[].class)))
+                .thenReturn(List.of(name(current), name(current.plusMonths(1)), name(expiredPartition), TABLE + "_DEFAULT"));
+        when(jdbcTemplate.queryForList(contains("_DEFAULT"), eq(String.class), any(Object[].class)))
+                .thenReturn(List.of(code(expiredInDefault), code(keptInDefault), code(current)));
+
+        // when
+        manager.maintain();
+
+        // then (months-ahead 파티션 + DEFAULT에 있던 지난 달 파티션 생성)
+        verify(jdbcTemplate).execute(contains("ATTACH PARTITION \"" + name(current.plusMonths(2)) + "\""));
+        verify(jdbcTemplate).execute(contains("ATTACH PARTITION \"" + name(expiredInDefault) + "\""));
+        verify(jdbcTemplate).execute(contains("ATTACH PARTITION \"" + name(keptInDefault) + "\""));
+        verify(jdbcTemplate, never()).execute(contains("CREATE TABLE \"" + name(current) + "\""));
+
+        // then (행을 옮기기 전에 DEFAULT 파티션을 잠금)
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute("LOCK TABLE \"" + TABLE + "_DEFAULT\" IN ACCESS EXCLUSIVE MODE");
+        inOrder.verify(jdbcTemplate).execute(startsWith("WITH moved AS (DELETE FROM \"" + TABLE + "_DEFAULT\""));
+
+        // then (보관 기간이 지난 파티션만 삭제)
+        verify(jdbcTemplate).execute("DROP TABLE \"" + name(expiredPartition) + "\"");
+        verify(jdbcTemplate).execute("DROP TABLE \"" + name(expiredInDefault) + "\"");
+        verify(jdbcTemplate, never()).execute("DROP TABLE \"" + name(keptInDefault) + "\"");
+    }
+
+    // [Helper]
+    private String name(YearMonth month) {
+        return HistoryPartitionManager.partitionName(TABLE, month);
+    }
+
+    private String code(YearMonth month) {
+        return String.format("%d%02d", month.getYear(), month.getMonthValue());
+    }
+}
@@ -9,12 +9,14 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -28,13 +30,15 @@ public class UserController {
     private final UserProfileService userProfileService;
 
     @Operation(summary = "1. 프로필 정보 수정", description = "" +
-            "현재 로그인한 사용자의 이름, 휴대폰번호 등 정보를 수정합니다.")
+            "현재 로그인한 사용자의 이름, 휴대폰번호 등 정보를 수정합니다. " +
+            "이름이 바뀌면 새 AccessToken을 응답하고, 요청에 쓴 AccessToken은 만료 전까지 사용할 수 없도록 무효화됩니다.")
     @PatchMapping("/profile")
     public ResponseEntity<CommonResDto<UserProfileResponse>> updateProfile(
             @RequestBody @Valid UserProfileUpdateRequest dto,
-            @AuthenticationPrincipal UserAuthInfo userInfo
+            @AuthenticationPrincipal UserAuthInfo userInfo,
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String accessToken // 이름 변경 시 무효화할 기존 토큰
     ) {
-        UserProfileResponse response = userProfileService.updateProfile(dto, userInfo);
+        UserProfileResponse response = userProfileService.updateProfile(dto, userInfo, accessToken);
         return ResponseEntity.ok()
                 .body(CommonResDto.success(HttpStatus.OK.value(), "프로필이 수정되었습니다.", response));
     }
@@ -0,0 +1,108 @@
+package com.gymproject.user.common.infrastructure;
+
+import com.gymproject.user.common.domain.BaseEntity;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 히스토리(세션/멤버십 원장) 기록기
+ * - 트랜잭션 안에서 생긴 히스토리를 모아두었다가 커밋 직전에 한번에 저장
+ * - 히스토리 ID는 시퀀스(50개씩 미리 할당)라서 INSERT가 JDBC 배치로 묶임 (환불, 만료 같은 대량 변경도 왕복 몇 번으로 끝남)
+ * - 커밋 직전에 flush까지 하므로 INSERT가 실패하면 업무 변경과 함께 전체 롤백됨 (기존 BEFORE_COMMIT 저장과 같은 보장)
+ * - TransactionExecutionListener 빈이라서 트랜잭션 매니저에 자동 등록됨 (커밋 직전 단계에서 모은 히스토리 처리용)
+ */
+@Component
+@RequiredArgsConstructor
+public class HistoryWriter implements TransactionExecutionListener {
+
+    private final EntityManager entityManager;
+
+    // 트랜잭션 밖에서 불리면 새 트랜잭션을 열고 그 커밋 직전에 저장 (기존 repository.save와 같은 동작)
+    @Transactional
+    public void append(BaseEntity history) {
+        Batch batch = currentBatch();
+        if (batch == null) {
+            batch = new Batch();
+            TransactionSynchronizationManager.registerSynchronization(batch);
+        }
+        batch.add(history);
+    }
+
+    /*
+        [중요] 커밋 직전 단계(BEFORE_COMMIT)에서 처음 들어온 히스토리
+        - RefundEventListener처럼 BEFORE_COMMIT 리스너 안에서 세션/멤버십이 바뀌면 그때 Batch가 등록됨
+        - 스프링은 커밋 직전 작업 목록을 미리 복사해서 돌기 때문에 이때 등록한 Batch의 beforeCommit은 불리지 않음
+        - 트랜잭션 매니저가 DB 커밋 바로 전에 이 메서드를 부르므로 여기서 남은 히스토리를 저장
+          (예외가 나면 트랜잭션 매니저가 롤백 -> 전체 롤백 보장 유지)
+     */
+    @Override
+    public void beforeCommit(TransactionExecution transaction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        Batch batch = currentBatch();
+        if (batch != null) {
+            batch.flush();
+        }
+    }
+
+    // ============ 헬퍼
+
+    // 현재 트랜잭션의 Batch (REQUIRES_NEW로 트랜잭션이 바뀌면 등록된 작업 목록도 같이 바뀌므로 트랜잭션마다 따로 모임)
+    private Batch currentBatch() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof Batch batch) {
+                return batch;
+            }
+        }
+        return null;
+    }
+
+    /*
+        [중요] 커밋 직전 저장은 가장 마지막 순서(LOWEST_PRECEDENCE)로 실행
+        - 다른 BEFORE_COMMIT 리스너가 남긴 히스토리까지 한번에 저장하기 위함
+        - 저장이 끝난 뒤에 들어온 히스토리는 바로 persist (커밋 시 flush에 포함됨)
+     */
+    private final class Batch implements TransactionSynchronization {
+
+        private final List<BaseEntity> pending = new ArrayList<>();
+        private boolean flushed;
+
+        private void add(BaseEntity history) {
+            if (flushed) {
+                entityManager.persist(history);
+            } else {
+                pending.add(history);
+            }
+        }
+
+        private void flush() {
+            if (flushed) return;
+            flushed = true;
+            if (pending.isEmpty()) return;
+
+            pending.forEach(entityManager::persist);
+            pending.clear();
+            entityManager.flush(); // 실패하면 여기서 예외 -> 트랜잭션 롤백
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            flush();
+        }
+    }
+}
@@ -22,9 +22,11 @@ import static java.time.Duration.between;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class UserMembershipHistory extends BaseEntity {
 
+    /// [중요] 히스토리는 커밋 직전에 한번에 저장하므로 시퀀스(50개씩 미리 할당) + 배치 INSERT 사용 (HistoryWriter)
     @Id
     @Column(name = "membership_history_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_membership_history_seq")
+    @SequenceGenerator(name = "user_membership_history_seq", sequenceName = "USER_MEMBERSHIP_HISTORY_SEQ", allocationSize = 50)
     private Long historyId;
 
     @Column(name = "membership_id", nullable = false)
@@ -1,24 +1,24 @@
 package com.gymproject.user.membership.infrastructure.listener;
 
+import com.gymproject.user.common.infrastructure.HistoryWriter;
 import com.gymproject.user.membership.domain.entity.UserMembershipHistory;
 import com.gymproject.user.membership.domain.event.MembershipChangedEvent;
 import com.gymproject.user.membership.domain.type.MembershipChangeType;
-import com.gymproject.user.membership.infrastructure.persistence.UserMembershipHistoryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component
 @RequiredArgsConstructor
 public class MembershipHistoryListener {
 
-    private final UserMembershipHistoryRepository membershipHistoryRepository;
+    private final HistoryWriter historyWriter;
 
     /*
         멤버십 상태 변경 이벤트를 감지하여 히스토리에 저장
+        저장은 HistoryWriter가 커밋 직전에 한번에 (배치 INSERT)
      */
-    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    @EventListener
     public void handle(MembershipChangedEvent event) {
 
         UserMembershipHistory history =
@@ -60,7 +60,7 @@ public class MembershipHistoryListener {
                     );
                 };
 
-                membershipHistoryRepository.save(history);
+                historyWriter.append(history);
 
     }
 
@@ -2,6 +2,7 @@ package com.gymproject.user.profile.application;
 
 import com.gymproject.common.dto.auth.UserAuthInfo;
 import com.gymproject.common.event.domain.ProfileInfo;
+import com.gymproject.common.port.auth.TokenIssuePort;
 import com.gymproject.user.profile.application.dto.UserProfileResponse;
 import com.gymproject.user.profile.application.dto.UserProfileUpdateRequest;
 import com.gymproject.user.profile.domain.entity.User;
@@ -14,6 +15,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 
 @Service
 @RequiredArgsConstructor
@@ -21,6 +26,7 @@ import org.springframework.util.StringUtils;
 public class UserProfileService {
 
     private final UserRepository userRepository;
+    private final TokenIssuePort tokenIssuePort;
 
     @Transactional
     public void registUser(Long userId, ProfileInfo profileInfo) {
@@ -41,9 +47,9 @@ public class UserProfileService {
         userRepository.save(user);
     }
 
-    // 사용자의 프로필 정보 수정
+    // 사용자의 프로필 정보 수정 (accessToken: 요청에 쓰인 액세스 토큰, 이름이 바뀌면 재발급 후 무효화)
     @Transactional
-    public UserProfileResponse updateProfile(UserProfileUpdateRequest dto, UserAuthInfo userInfo) {
+    public UserProfileResponse updateProfile(UserProfileUpdateRequest dto, UserAuthInfo userInfo, String accessToken) {
         // 0] 전부 null 값이면 예외발생
         dto.validateAllBlank();
 
@@ -76,7 +82,7 @@ public class UserProfileService {
         }
 
         // 4] 프로필 수정 실행(VO가 null이면 엔티티에서 알아서 무시)
-        user.updateProfile(
+        boolean nameChanged = user.updateProfile(
                 newFirstName,
                 newLastName,
                 phoneVO
@@ -85,13 +91,21 @@ public class UserProfileService {
         // 3. 변경 사항 저장
         userRepository.save(user);
 
-        // 4. response 생성
+        // 4. 이름이 바뀌었으면 액세스 토큰 재발급 (토큰 클레임에 이름이 들어있음)
+        // 예전 이름이 담긴 기존 토큰은 만료 전까지 사용 못하게 무효화
+        String reissuedToken = null;
+        if (nameChanged) {
+            reissuedToken = tokenIssuePort.reissueAccessToken(userInfo.withDisplayName(user.getFullName()), accessToken);
+        }
+
+        // 5. response 생성
         UserProfileResponse response = UserProfileResponse.builder()
                 .email(userInfo.getEmail()) // 안바뀌는 거라서 토큰에서 바로 전달
                 .role(userInfo.getRole()) // 바뀌지 않는 대상이라서 토큰에서 바로 전달
                 .id(user.getId())
                 .userName(user.getFullName())
                 .phoneNumber(user.getPhoneNumber())
+                .accessToken(reissuedToken)
                 .build();
 
         return response;
@@ -113,6 +127,15 @@ public class UserProfileService {
         return findUserById(trainerId).getFullName();
     }
 
+    // 여러 사용자 이름을 쿼리 한번으로 조회 (없는 사용자는 결과에서 빠짐)
+    public Map<Long, String> getUserFullNames(Collection<Long> userIds) {
+        Map<Long, String> names = new HashMap<>();
+        for (User user : userRepository.findAllById(userIds)) {
+            names.put(user.getUserId(), user.getFullName());
+        }
+        return names;
+    }
+
 
     // ------------ 헬퍼
     private User findUserById(Long userId) {
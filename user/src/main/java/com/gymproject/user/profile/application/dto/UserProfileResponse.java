@@ -17,6 +17,8 @@ public record UserProfileResponse(
         @Schema(description = "사용자 휴대폰 번호 정보", example="04392872")
         PhoneNumber phoneNumber,
         @Schema(description = "사용자 권한", example = "MEMBER")
-        Roles role
+        Roles role,
+        @Schema(description = "이름이 바뀐 경우 새로 발급한 액세스 토큰 (이름이 그대로면 null)")
+        String accessToken
 ) {
 }
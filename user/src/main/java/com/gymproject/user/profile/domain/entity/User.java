@@ -3,6 +3,7 @@ package com.gymproject.user.profile.domain.entity;
 import com.gymproject.common.security.SexType;
 import com.gymproject.common.util.GymDateUtil;
 import com.gymproject.user.profile.domain.event.UserJoinedEvent;
+import com.gymproject.user.profile.domain.event.UserNameChangedEvent;
 import com.gymproject.user.profile.domain.policy.UserProfilePolicy;
 import com.gymproject.user.profile.domain.vo.PhoneNumber;
 import jakarta.persistence.*;
@@ -87,15 +88,23 @@ public class User extends AbstractAggregateRoot<User> implements Persistable<Lon
         return user;
     }
 
-    // 2. 프로필 수정
-    public void updateProfile(String firstName, String lastName, PhoneNumber phoneNumber) {
+    // 2. 프로필 수정 (이름이 바뀌었으면 true)
+    public boolean updateProfile(String firstName, String lastName, PhoneNumber phoneNumber) {
 
         validateUpdate(firstName,lastName);
+        String oldFullName = getFullName();
 
         if(firstName != null) this.firstName = firstName;
         if(lastName != null) this.lastName = lastName;
 
         if(phoneNumber != null) this.phoneNumber = phoneNumber;
+
+        // 이름이 바뀌었으면 커밋 후 이름 캐시를 지우도록 알림
+        boolean nameChanged = !getFullName().equals(oldFullName);
+        if(nameChanged) {
+            registerEvent(new UserNameChangedEvent(this.userId));
+        }
+        return nameChanged;
     }
 
     public String getFullName(){
@@ -0,0 +1,14 @@
+package com.gymproject.user.profile.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class UserNameChangedEvent {
+    private final Long userId;
+}
+/*
+    프로필 수정으로 이름(firstName, lastName)이 바뀌었을 때 발생
+    커밋 후 이름 캐시(UserNameCache)를 지우는 용도
+ */
@@ -3,14 +3,19 @@ package com.gymproject.user.profile.infrastructure.adapter;
 import com.gymproject.common.port.user.UserProfilePort;
 import com.gymproject.user.profile.application.UserProfileService;
 import com.gymproject.user.profile.domain.vo.PhoneNumber;
+import com.gymproject.user.profile.infrastructure.cache.UserNameCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.Map;
+
 @RequiredArgsConstructor
 @Component
 public class UserProfileAdapter implements UserProfilePort {
 
     private final UserProfileService userProfileService;
+    private final UserNameCache userNameCache;
 
     @Override
     public Long findIdentityIdByPhone(String phoneNumber) {
@@ -22,7 +27,14 @@ public class UserProfileAdapter implements UserProfilePort {
 
     @Override
     public String getUserFullName(Long trainerId) {
-        return userProfileService.getUserFullName(trainerId);
+        // 다른 모듈에서 명령마다 여러 번 호출하므로 캐시를 거침
+        return userNameCache.get(trainerId, userProfileService::getUserFullName);
+    }
+
+    @Override
+    public Map<Long, String> getUserFullNames(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) return Map.of();
+        return userNameCache.getAll(userIds, userProfileService::getUserFullNames);
     }
 
     @Override
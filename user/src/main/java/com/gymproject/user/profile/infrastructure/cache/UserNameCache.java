@@ -0,0 +1,67 @@
+package com.gymproject.user.profile.infrastructure.cache;
+
+import com.gymproject.support.cache.CacheEvictionBus;
+import com.gymproject.support.cache.TwoLevelCache;
+import com.gymproject.support.redis.RedisTool;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 사용자 표시 이름(full name) 캐시
+ * - 서버 메모리(LRU) -> Redis(app.user-name-cache.redis-enabled=true 일 때만) -> DB 순서 (TwoLevelCache)
+ * - 프로필 수정으로 이름이 바뀌면 커밋 후 UserNameChangedEvent로 바로 지움
+ * - Redis를 쓰면 무효화를 CacheEvictionBus 채널로 발행해서 다른 서버의 메모리 캐시도 지움
+ */
+@Component
+public class UserNameCache {
+
+    private final TwoLevelCache<String> cache;
+
+    public UserNameCache(RedisTool redisTool,
+                         CacheEvictionBus evictionBus,
+                         MeterRegistry meterRegistry,
+                         @Value("${app.user-name-cache.local-ttl:5m}") Duration localTtl,
+                         @Value("${app.user-name-cache.max-entries:10000}") int maxEntries,
+                         @Value("${app.user-name-cache.redis-ttl:1h}") Duration redisTtl,
+                         @Value("${app.user-name-cache.redis-enabled:false}") boolean redisEnabled) {
+        this.cache = new TwoLevelCache<>(
+                "USER_NAME",
+                "user.name.cache",
+                new TwoLevelCache.Settings(localTtl, maxEntries, redisTtl, redisEnabled),
+                new TwoLevelCache.Codec<>() {
+                    @Override
+                    public String encode(String name) {
+                        return name;
+                    }
+
+                    @Override
+                    public String decode(Long userId, String name) {
+                        return name;
+                    }
+                },
+                redisTool,
+                evictionBus,
+                meterRegistry);
+    }
+
+    // 1] 단건 조회: 메모리 -> Redis -> DB(loader) 순서
+    public String get(Long userId, Function<Long, String> loader) {
+        return cache.get(userId, loader);
+    }
+
+    // 2] 여러 건 조회: 캐시에 없는 사용자만 한번에 DB(loader)에서 읽음, DB에도 없는 사용자는 결과에서 빠짐
+    public Map<Long, String> getAll(Collection<Long> userIds, Function<Collection<Long>, Map<Long, String>> loader) {
+        return cache.getAll(userIds, loader);
+    }
+
+    // 3] 무효화: 메모리 -> Redis 삭제 -> 다른 서버에 알림
+    public void evict(Long userId) {
+        cache.evict(userId);
+    }
+}
@@ -0,0 +1,21 @@
+package com.gymproject.user.profile.infrastructure.listener;
+
+import com.gymproject.user.profile.domain.event.UserNameChangedEvent;
+import com.gymproject.user.profile.infrastructure.cache.UserNameCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class UserNameChangedListener {
+
+    private final UserNameCache userNameCache;
+
+    // 커밋 후에 지워야 다른 요청이 커밋 전 이름을 다시 캐시에 넣지 않음
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(UserNameChangedEvent event) {
+        userNameCache.evict(event.getUserId());
+    }
+}
@@ -17,17 +17,18 @@ import com.gymproject.user.profile.domain.entity.User;
 import com.gymproject.user.profile.domain.type.UserSessionStatus;
 import com.gymproject.user.sesssion.domain.entity.UserSession;
 import com.gymproject.user.sesssion.domain.entity.UserSessionHistory;
+import com.gymproject.user.sesssion.domain.event.SessionChangedEvent;
 import com.gymproject.user.sesssion.domain.type.SessionProductType;
 import com.gymproject.user.sesssion.domain.type.SessionType;
 import com.gymproject.user.sesssion.exception.UserSessionErrorCode;
 import com.gymproject.user.sesssion.exception.UserSessionsException;
+import com.gymproject.user.sesssion.infrastructure.persistence.SessionTypeView;
 import com.gymproject.user.sesssion.infrastructure.persistence.UserSessionHistoryRepository;
 import com.gymproject.user.sesssion.infrastructure.persistence.UserSessionRepository;
 import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
@@ -36,7 +37,11 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static com.gymproject.common.constant.GymTimePolicy.SERVICE_ZONE;
 
@@ -45,6 +50,8 @@ import static com.gymproject.common.constant.GymTimePolicy.SERVICE_ZONE;
 @RequiredArgsConstructor
 public class UserSessionService {
 
+    private static final int MAX_CONSUME_ATTEMPTS = 3; // 차감 경합에서 밀렸을 때 다른 세션으로 다시 시도하는 횟수
+
     private final UserSessionRepository userSessionRepository;
     private final UserSessionHistoryRepository historyRepository;
     private final UserProfileService userProfileService;
@@ -53,32 +60,26 @@ public class UserSessionService {
     private final ApplicationEventPublisher applicationEventPublisher;
     private final JsonSerializer jsonSerializer; // [추가]
 
-    // 1. 세션을 1회 소진
-    public Long consume(Long userId, SessionConsumeKind sessionConsumeKind) {
+    // 1. 세션을 1회 소진 (차감 후 세션 반환)
+    public UserSession consume(Long userId, SessionConsumeKind sessionConsumeKind) {
         // 1) session type 확인
         SessionType targetType = toSessionType(sessionConsumeKind);
         OffsetDateTime now = GymDateUtil.now();
 
-        // 2) 사용 가능한 세션 1개 조회(DB에서 필터링)
-        UserSession session = findConsumableSession(userId, targetType, now);
+        // 2) 사용 가능한 세션 1개 차감(DB에서 선택 + 차감을 한번에)
+        UserSession session = consumeSession(userId, targetType, now);
 
         // 변경 주체 생성
         Modifier modifier = Modifier.user(userId, session.getUser().getFullName());
 
-        // 엔티티에 modifier를 넘기면서 비지니스 로직 호출
-        /*[RF]
-            @Version이 붙은 컬럼이 동시 업데이트 감지가 됨.
-         */
-        session.use(modifier, now);
-
-        // save 시에 이벤트가 자동으로 발행
-        userSessionRepository.save(session);
+        // 3) 히스토리 기록 (엔티티를 거치지 않고 차감했으므로 이벤트를 직접 발행)
+        applicationEventPublisher.publishEvent(SessionChangedEvent.used(session, modifier));
 
-        return session.getSessionId();
+        return session;
     }
 
     // 2. 티켓 타입에 따라서 세션 복구(현재는 유저가 취소해서 복구시키는걸로 되어있음)
-    public void restore(Long sessionId, Modifier modifier) {
+    public UserSession restore(Long sessionId, Modifier modifier) {
         // 해당 세션아이디를 받아서 복구
         UserSession session = getUserSession(sessionId);
 
@@ -89,6 +90,8 @@ public class UserSessionService {
 
         // save 시에 이벤트가 자동 발행
         userSessionRepository.save(session);
+
+        return session;
     }
 
     // 3. 세션권 구매요청
@@ -151,17 +154,24 @@ public class UserSessionService {
 
     //*--------------------- 세부 로직
 
-    private UserSession findConsumableSession(Long userId, SessionType targetType, OffsetDateTime now) {
-        UserSession session = userSessionRepository.findFirstConsumableSession(
-                        userId,
-                        targetType,
-                        UserSessionStatus.ACTIVE,
-                        now,
-                        PageRequest.of(0, 1))
-                .stream()
-                .findFirst()
-                .orElseThrow(() -> new UserSessionsException(UserSessionErrorCode.EXHAUSTED));
-        return session;
+    /*
+        [중요] 조건부 UPDATE로 차감 (@Version 충돌로 예약이 실패하지 않도록)
+        - 빈 결과: 사용 가능한 세션이 없거나, 고른 세션의 마지막 횟수를 다른 요청이 먼저 차감함
+        - 후자라면 남은 다른 세션으로 다시 시도 (세션권 개수만큼만 경합이 생기므로 몇 번이면 끝남)
+        - RETURNING으로 받은 엔티티는 차감 후 상태라서 그대로 히스토리에 사용
+          (같은 트랜잭션에서 이 세션을 먼저 읽었다면 영속성 컨텍스트의 이전 값이 반환되므로, 차감 전에는 읽지 않음)
+     */
+    private UserSession consumeSession(Long userId, SessionType targetType, OffsetDateTime now) {
+        for (int attempt = 0; attempt < MAX_CONSUME_ATTEMPTS; attempt++) {
+            Optional<UserSession> consumed = userSessionRepository.consumeOne(userId, targetType.name(), now);
+            if (consumed.isPresent()) {
+                return consumed.get();
+            }
+            if (!userSessionRepository.existsConsumableSession(userId, targetType, UserSessionStatus.ACTIVE, now)) {
+                break;
+            }
+        }
+        throw new UserSessionsException(UserSessionErrorCode.EXHAUSTED);
     }
 
     private UserSession getUserSession(Long sessionId) {
@@ -218,6 +228,18 @@ public class UserSessionService {
         return session.getSessionType().name();
     }
 
+    // 세션 타입 일괄 조회 (sessionId -> 타입)
+    @Transactional(readOnly = true)
+    public Map<Long, String> getSessionTypes(Collection<Long> sessionIds) {
+        if (sessionIds.isEmpty()) return Map.of();
+
+        Map<Long, String> types = new HashMap<>();
+        for (SessionTypeView view : userSessionRepository.findSessionTypes(sessionIds)) {
+            types.put(view.getSessionId(), view.getSessionType().name());
+        }
+        return types;
+    }
+
     // History 조회용 메서드
     @Transactional(readOnly = true)
     public Page<SessionHistoryResponse> searchSessionHistory(SessionHistorySearchCondition condition, Pageable pageable) {
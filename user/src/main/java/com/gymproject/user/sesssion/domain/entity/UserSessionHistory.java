@@ -21,8 +21,10 @@ import java.time.OffsetDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class UserSessionHistory extends BaseEntity {
 
+    /// [중요] 히스토리는 커밋 직전에 한번에 저장하므로 시퀀스(50개씩 미리 할당) + 배치 INSERT 사용 (HistoryWriter)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_session_history_seq")
+    @SequenceGenerator(name = "user_session_history_seq", sequenceName = "USER_SESSION_HISTORY_SEQ", allocationSize = 50)
     @Column(name = "history_id")
     private Long historyId;
 
@@ -1,13 +1,18 @@
 package com.gymproject.user.sesssion.infrastructure.adapter;
 
 import com.gymproject.common.contracts.SessionConsumeKind;
+import com.gymproject.common.dto.session.SessionInfo;
 import com.gymproject.common.exception.InvalidInputException;
 import com.gymproject.common.port.user.UserSessionPort;
 import com.gymproject.common.vo.Modifier;
 import com.gymproject.user.sesssion.application.UserSessionService;
+import com.gymproject.user.sesssion.domain.entity.UserSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.Map;
+
 @RequiredArgsConstructor
 @Component
 public class UserSessionAdapter implements UserSessionPort {
@@ -27,18 +32,18 @@ public class UserSessionAdapter implements UserSessionPort {
      * 로직 처리방식은 도메인 로직이 눈에 잘드러난다는 장점이 있음.
      */
     @Override
-    public Long consumeOneSession(Long userId, SessionConsumeKind sessionConsumeKind){
+    public SessionInfo consumeOneSession(Long userId, SessionConsumeKind sessionConsumeKind){
         // 기술적 검증만 수행
         if(userId == null) throw new InvalidInputException("유저 Id가 들어오지 않았습니다.");
         if(sessionConsumeKind == null) throw new InvalidInputException("consumeKind의 값이 잘못되었습니다.");
 
         // 비지니스 로직은 서비스에 위임
-        return userSessionService.consume(userId, sessionConsumeKind);
+        return toSessionInfo(userSessionService.consume(userId, sessionConsumeKind));
     }
 
     @Override
-    public void restoreSession(Long sessionId, Modifier modifier){
-        userSessionService.restore(sessionId, modifier);
+    public SessionInfo restoreSession(Long sessionId, Modifier modifier){
+        return toSessionInfo(userSessionService.restore(sessionId, modifier));
     }
 
     // 세션권이 무료(True) 인지 유료(False)인지
@@ -46,6 +51,20 @@ public class UserSessionAdapter implements UserSessionPort {
     public String getSessionType(Long sessionId) {
         return userSessionService.getSessionType(sessionId);
     }
+
+    @Override
+    public Map<Long, String> getSessionTypes(Collection<Long> sessionIds) {
+        if (sessionIds == null) throw new InvalidInputException("세션 Id 목록이 들어오지 않았습니다.");
+        return userSessionService.getSessionTypes(sessionIds);
+    }
+
+    // 엔티티 -> 모듈 밖으로 나가는 DTO
+    private SessionInfo toSessionInfo(UserSession session) {
+        return new SessionInfo(
+                session.getSessionId(),
+                session.getSessionType().name(),
+                session.getRemainingSessions());
+    }
 }
 
 /*
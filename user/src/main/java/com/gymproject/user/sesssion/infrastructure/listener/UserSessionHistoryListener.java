@@ -1,21 +1,25 @@
 package com.gymproject.user.sesssion.infrastructure.listener;
 
+import com.gymproject.user.common.infrastructure.HistoryWriter;
 import com.gymproject.user.sesssion.domain.entity.UserSession;
 import com.gymproject.user.sesssion.domain.entity.UserSessionHistory;
 import com.gymproject.user.sesssion.domain.event.SessionChangedEvent;
-import com.gymproject.user.sesssion.infrastructure.persistence.UserSessionHistoryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component
 @RequiredArgsConstructor
 public class UserSessionHistoryListener {
 
-    private final UserSessionHistoryRepository historyRepository;
+    private final HistoryWriter historyWriter;
 
-    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    /*
+        [변경] BEFORE_COMMIT에서 한 건씩 save -> 변경 시점에 히스토리를 만들어 HistoryWriter에 모음
+        - 저장은 HistoryWriter가 커밋 직전에 한번에 (배치 INSERT)
+        - 히스토리를 변경 시점에 만들기 때문에 한 트랜잭션에서 같은 세션이 여러 번 바뀌어도 각 시점의 잔여량이 남음
+     */
+    @EventListener
     public void recordHistory(SessionChangedEvent event) {
         // 1. 이벤트에서 엔티티를 바로 꺼냄 (repository 조회 안해도됨)
         UserSession session = event.getUserSession();
@@ -66,8 +70,8 @@ public class UserSessionHistoryListener {
                     );
                 };
 
-        // 3. 저장
-        historyRepository.save(history);
+        // 3. 커밋 직전에 모아서 저장
+        historyWriter.append(history);
     }
 
 }
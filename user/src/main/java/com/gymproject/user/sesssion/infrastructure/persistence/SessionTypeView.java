@@ -0,0 +1,10 @@
+package com.gymproject.user.sesssion.infrastructure.persistence;
+
+import com.gymproject.user.sesssion.domain.type.SessionType;
+
+// 세션 타입 일괄 조회 결과 (엔티티 전체를 읽지 않음)
+public interface SessionTypeView {
+    Long getSessionId();
+
+    SessionType getSessionType();
+}
@@ -3,31 +3,77 @@ package com.gymproject.user.sesssion.infrastructure.persistence;
 import com.gymproject.user.sesssion.domain.entity.UserSession;
 import com.gymproject.user.sesssion.domain.type.SessionType;
 import com.gymproject.user.profile.domain.type.UserSessionStatus;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface UserSessionRepository extends JpaRepository<UserSession, Long> {
+
+    // 세션 1회 차감(원자적): 만료일 임박한 사용 가능 세션 선택 + 차감 + FULLY_USED 전환을 단일 UPDATE로 처리
+    // 고른 세션이 그 사이 다른 요청에 의해 소진되었으면 빈 결과를 반환함 (행 락을 기다린 뒤 바깥 조건을 다시 검사함)
+    // RETURNING 결과를 받아야해서 @Modifying 대신 @Transactional을 명시
+    @Transactional
+    @Query(value = """
+        UPDATE "USER_SESSION_TB" s
+        SET used_sessions = s.used_sessions + 1,
+            status = CASE WHEN s.used_sessions + 1 >= s.total_sessions THEN 'FULLY_USED' ELSE s.status END,
+            "version" = s."version" + 1,
+            updated_at = :now
+        WHERE s.session_id = (
+            SELECT c.session_id FROM "USER_SESSION_TB" c
+            WHERE c.user_id = :userId
+            AND c.status = 'ACTIVE'
+            AND c.session_type = :sessionType
+            AND (c.expire_at IS NULL OR c.expire_at > :now)
+            AND c.used_sessions < c.total_sessions
+            ORDER BY c.expire_at ASC, c.session_id ASC
+            LIMIT 1
+        )
+        AND s.status = 'ACTIVE'
+        AND s.used_sessions < s.total_sessions
+        RETURNING *
+    """, nativeQuery = true)
+    Optional<UserSession> consumeOne(@Param("userId") Long userId,
+                                     @Param("sessionType") String sessionType,
+                                     @Param("now") OffsetDateTime now);
+
+    // 차감 실패 시: 사용 가능한 세션이 정말 없는지(EXHAUSTED), 경합에서 밀린 것인지 구분용
+    @Query("""
+            SELECT COUNT(s) > 0 FROM UserSession s
+            WHERE s.user.userId = :userId
+            AND s.status = :status
+            AND s.sessionType = :sessionType
+            AND (s.expireAt IS NULL OR s.expireAt > :now)
+            AND s.usedSessions < s.totalSessions
+            """)
+    boolean existsConsumableSession(@Param("userId") Long userId,
+                                    @Param("sessionType") SessionType sessionType,
+                                    @Param("status") UserSessionStatus status,
+                                    @Param("now") OffsetDateTime now);
+
     @Query("""
-            SELECT s FROM UserSession s
-            WHERE s.user.userId = :userId 
-            AND s.status = :status 
-            AND s.sessionType= :sessionType
-            AND(s.expireAt IS NULL OR s.expireAt > :now)
-            AND s.usedSessions < s.totalSessions 
-            ORDER BY s.expireAt ASC, s.sessionId ASC
-                        """)
-        // 만료일 임박한 순서 정렬
-    List<UserSession> findFirstConsumableSession(@Param("userId") Long userId,
-                                                 @Param("sessionType") SessionType sessionType,
-                                                 @Param("status") UserSessionStatus status,
-                                                 @Param("now" ) OffsetDateTime now,
-                                                 Pageable pageable)
-    ;
+            SELECT s.sessionId AS sessionId, s.sessionType AS sessionType
+            FROM UserSession s
+            WHERE s.sessionId IN :sessionIds
+            """)
+    List<SessionTypeView> findSessionTypes(@Param("sessionIds") Collection<Long> sessionIds);
 }
+
+/*
+    [변경] 조회 후 엔티티 차감(@Version) -> 조건부 UPDATE
+    기존: 사용 가능한 세션 조회 -> session.use() -> 커밋 시 version 비교
+          같은 회원이 동시에 두 건을 예약하면 한 건은 ObjectOptimisticLockingFailureException으로 실패함
+    변경: 선택과 차감을 한 문장으로 처리. 같은 세션을 노리는 요청은 행 락에서 순서대로 차감되고,
+          남은 횟수가 없으면 다음 세션으로 다시 시도함 (UserSessionService.consume)
+
+    FOR UPDATE SKIP LOCKED를 쓰지 않은 이유
+    회원의 사용 가능한 세션권은 보통 1개라서, 잠긴 세션을 건너뛰면 횟수가 남아있는데도 EXHAUSTED가 됨
+ */
@@ -0,0 +1,111 @@
+package com.gymproject.user.common.infrastructure;
+
+import com.gymproject.user.common.domain.BaseEntity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import static org.mockito.Mockito.*;
+
+class HistoryWriterTest {
+
+    private final EntityManager entityManager = Mockito.mock(EntityManager.class);
+    private final HistoryWriter historyWriter = new HistoryWriter(entityManager);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 히스토리는 모아두었다가 커밋 직전에 한번에 저장한다")
+    void append_flushes_before_commit() {
+        // given (트랜잭션 시작)
+        TransactionSynchronizationManager.initSynchronization();
+        BaseEntity first = new BaseEntity();
+        BaseEntity second = new BaseEntity();
+
+        // when
+        historyWriter.append(first);
+        historyWriter.append(second);
+
+        // then (커밋 전에는 저장하지 않음)
+        verifyNoInteractions(entityManager);
+
+        // when (커밋 직전)
+        TransactionSynchronizationUtils.triggerBeforeCommit(false);
+
+        // then (모두 persist 후 flush 한번)
+        InOrder inOrder = inOrder(entityManager);
+        inOrder.verify(entityManager).persist(first);
+        inOrder.verify(entityManager).persist(second);
+        inOrder.verify(entityManager, times(1)).flush();
+    }
+
+    @Test
+    @DisplayName("커밋 직전 저장이 끝난 뒤에 들어온 히스토리는 바로 저장한다")
+    void append_after_flush_persists_directly() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        historyWriter.append(new BaseEntity());
+        TransactionSynchronizationUtils.triggerBeforeCommit(false);
+        BaseEntity late = new BaseEntity();
+
+        // when
+        historyWriter.append(late);
+
+        // then
+        verify(entityManager).persist(late);
+    }
+
+    @Test
+    @DisplayName("커밋 직전 단계에서 처음 들어온 히스토리는 트랜잭션 매니저의 커밋 직전 호출 때 저장한다")
+    void append_during_before_commit_flushes_on_commit() {
+        // given (다른 BEFORE_COMMIT 작업 안에서 처음 append -> 그때 등록한 Batch는 이번 커밋 직전 단계에서 불리지 않음)
+        TransactionSynchronizationManager.initSynchronization();
+        BaseEntity late = new BaseEntity();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                historyWriter.append(late);
+            }
+        });
+        TransactionSynchronizationUtils.triggerBeforeCommit(false);
+        verifyNoInteractions(entityManager);
+
+        // when (트랜잭션 매니저가 DB 커밋 직전에 호출)
+        historyWriter.beforeCommit(Mockito.mock(TransactionExecution.class));
+
+        // then
+        InOrder inOrder = inOrder(entityManager);
+        inOrder.verify(entityManager).persist(late);
+        inOrder.verify(entityManager).flush();
+    }
+
+    @Test
+    @DisplayName("이미 커밋 직전에 저장한 Batch는 트랜잭션 매니저 호출 때 다시 저장하지 않는다")
+    void flushed_batch_is_not_flushed_again() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        BaseEntity history = new BaseEntity();
+        historyWriter.append(history);
+        TransactionSynchronizationUtils.triggerBeforeCommit(false);
+
+        // when
+        historyWriter.beforeCommit(Mockito.mock(TransactionExecution.class));
+
+        // then
+        verify(entityManager, times(1)).persist(history);
+        verify(entityManager, times(1)).flush();
+    }
+}
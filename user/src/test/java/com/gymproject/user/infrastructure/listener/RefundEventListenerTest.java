@@ -0,0 +1,107 @@
+package com.gymproject.user.infrastructure.listener;
+
+import com.gymproject.common.event.integration.RefundEvent;
+import com.gymproject.common.security.Roles;
+import com.gymproject.common.vo.Modifier;
+import com.gymproject.user.common.infrastructure.HistoryWriter;
+import com.gymproject.user.membership.application.UserMembershipService;
+import com.gymproject.user.membership.infrastructure.listener.MembershipHistoryListener;
+import com.gymproject.user.profile.domain.entity.User;
+import com.gymproject.user.sesssion.application.UserSessionService;
+import com.gymproject.user.sesssion.domain.entity.UserSession;
+import com.gymproject.user.sesssion.domain.entity.UserSessionHistory;
+import com.gymproject.user.sesssion.domain.event.SessionChangedEvent;
+import com.gymproject.user.sesssion.domain.type.SessionChangeType;
+import com.gymproject.user.sesssion.domain.type.SessionProductType;
+import com.gymproject.user.sesssion.infrastructure.listener.UserSessionHistoryListener;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.event.TransactionalEventListenerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 환불은 BEFORE_COMMIT 리스너 안에서 세션을 바꾸므로,
+ * 그 때 생긴 히스토리가 커밋 직전 단계에서도 빠짐없이 저장되는지 확인
+ */
+class RefundEventListenerTest {
+
+    private static final Long SESSION_ID = 10L;
+
+    private final UserSessionService userSessionService = Mockito.mock(UserSessionService.class);
+    private final UserMembershipService userMembershipService = Mockito.mock(UserMembershipService.class);
+    private final EntityManager entityManager = Mockito.mock(EntityManager.class);
+    private final HistoryWriter historyWriter = new HistoryWriter(entityManager);
+
+    private AnnotationConfigApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        // 실제 리스너들 + HistoryWriter + @TransactionalEventListener 처리기만 등록 (서비스/EntityManager는 Mock)
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(TransactionalEventListenerFactory.class);
+        context.registerBean(UserSessionService.class, () -> userSessionService);
+        context.registerBean(UserMembershipService.class, () -> userMembershipService);
+        context.registerBean(HistoryWriter.class, () -> historyWriter);
+        context.registerBean(RefundEventListener.class);
+        context.registerBean(UserSessionHistoryListener.class);
+        context.registerBean(MembershipHistoryListener.class);
+        context.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        context.close();
+    }
+
+    @Test
+    @DisplayName("성공: 커밋 직전에 처리되는 세션 환불도 히스토리가 저장된다")
+    void refund_session_before_commit_records_history() {
+        // given (세션 환불 = 세션 저장 시 SessionChangedEvent 발행)
+        UserSession session = UserSession.createPaid(Mockito.mock(User.class), SessionProductType.PT_10,
+                Modifier.system(), OffsetDateTime.now(), OffsetDateTime.now().plusMonths(3));
+        ApplicationEventPublisher publisher = context;
+        doAnswer(invocation -> {
+            publisher.publishEvent(SessionChangedEvent.refunded(session, invocation.getArgument(1), -10));
+            return null;
+        }).when(userSessionService).refundSession(eq(SESSION_ID), any());
+
+        // 트랜잭션 시작 + 결제 환불 이벤트 발행 (RefundEventListener는 BEFORE_COMMIT에 실행됨)
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        publisher.publishEvent(new RefundEvent("SESSION", SESSION_ID, "{}", 1L, Roles.MEMBER));
+        verifyNoInteractions(userSessionService);
+
+        // when (커밋 직전: BEFORE_COMMIT 리스너 -> 트랜잭션 매니저의 DB 커밋 직전 호출 순서)
+        TransactionSynchronizationUtils.triggerBeforeCommit(false);
+        historyWriter.beforeCommit(Mockito.mock(TransactionExecution.class));
+
+        // then (환불 히스토리가 같은 트랜잭션 안에서 저장됨)
+        ArgumentCaptor<UserSessionHistory> captor = ArgumentCaptor.forClass(UserSessionHistory.class);
+        verify(userSessionService).refundSession(eq(SESSION_ID), any());
+        verify(entityManager).persist(captor.capture());
+        verify(entityManager).flush();
+        assertThat(captor.getValue().getChangeType()).isEqualTo(SessionChangeType.REFUNDED);
+    }
+}
@@ -110,14 +110,28 @@ class UserTest {
                 PhoneNumber newPhone = new PhoneNumber("0499 111 222");
 
                 // when
-                user.updateProfile("UpdatedFirst", "UpdatedLast", newPhone);
+                boolean nameChanged = user.updateProfile("UpdatedFirst", "UpdatedLast", newPhone);
 
                 // then
+                assertThat(nameChanged).isTrue();
                 assertThat(user.getFirstName()).isEqualTo("UpdatedFirst");
                 assertThat(user.getLastName()).isEqualTo("UpdatedLast");
                 assertThat(user.getPhoneNumber()).isEqualTo(newPhone);
             }
 
+            @Test
+            @DisplayName("프로필 수정 시 이름이 그대로면(전화번호만 변경) 이름 변경 여부로 false를 반환한다.")
+            void update_profile_phone_only_returns_false() {
+                // given
+                User user = User.registUser(ID, FIRST, LAST, new PhoneNumber(VALID_PHONE_RAW), SexType.MALE);
+
+                // when
+                boolean nameChanged = user.updateProfile(FIRST, LAST, new PhoneNumber("0499 111 222"));
+
+                // then
+                assertThat(nameChanged).isFalse();
+            }
+
             @Test
             @DisplayName("프로필 수정 시에도 이름 정책을 위반하면 예외가 발생한다.")
             void update_fail_invalid_name() {
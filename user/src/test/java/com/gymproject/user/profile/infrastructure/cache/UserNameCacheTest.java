@@ -0,0 +1,128 @@
+package com.gymproject.user.profile.infrastructure.cache;
+
+import com.gymproject.common.security.SexType;
+import com.gymproject.support.cache.CacheEvictionBus;
+import com.gymproject.support.redis.RedisTool;
+import com.gymproject.user.domain.entity.util.DomainEventsTestUtils;
+import com.gymproject.user.profile.domain.entity.User;
+import com.gymproject.user.profile.domain.event.UserNameChangedEvent;
+import com.gymproject.user.profile.domain.vo.PhoneNumber;
+import com.gymproject.user.profile.infrastructure.listener.UserNameChangedListener;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 캐시 공통 동작(LRU, Redis, 무효화 전파)은 support 모듈의 TwoLevelCacheTest에서 검증
+class UserNameCacheTest {
+
+    private static final Long USER_ID = 1L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UserNameCache cache = new UserNameCache(
+            Mockito.mock(RedisTool.class), Mockito.mock(CacheEvictionBus.class), meterRegistry,
+            Duration.ofMinutes(5), 100, Duration.ofHours(1), false);
+    private final UserNameChangedListener listener = new UserNameChangedListener(cache);
+
+    // [Helper] DB 대신 쓰는 사용자 이름 (userId -> 이름)
+    private final Map<Long, String> db = new HashMap<>();
+    private final List<Collection<Long>> batchLoads = new ArrayList<>();
+
+    private Map<Long, String> loadAll(Collection<Long> userIds) {
+        batchLoads.add(List.copyOf(userIds));
+        Map<Long, String> names = new HashMap<>();
+        userIds.stream().filter(db::containsKey).forEach(id -> names.put(id, db.get(id)));
+        return names;
+    }
+
+    private String load(Long userId) {
+        batchLoads.add(List.of(userId));
+        return db.get(userId);
+    }
+
+    @Test
+    @DisplayName("여러 건 조회는 캐시에 있는 이름은 그대로 쓰고, 없는 사용자만 한번에 DB에서 읽는다")
+    void getAll_loads_only_missing() {
+        // given (1번은 단건 조회로 캐시됨)
+        db.putAll(Map.of(1L, "HONG GILDONG", 2L, "KIM CHULSU", 3L, "LEE YOUNGHEE"));
+        cache.get(1L, this::load);
+        batchLoads.clear();
+
+        // when
+        Map<Long, String> names = cache.getAll(List.of(1L, 2L, 3L, 2L), this::loadAll);
+
+        // then (중복 ID는 한번만, 캐시에 없는 2, 3번만 DB 조회 한번)
+        assertThat(names).containsExactlyInAnyOrderEntriesOf(db);
+        assertThat(batchLoads).hasSize(1);
+        assertThat(batchLoads.get(0)).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(meterRegistry.counter("user.name.cache", "result", "local").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("user.name.cache", "result", "miss").count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("두번째 여러 건 조회는 DB를 읽지 않고, DB에 없는 사용자는 결과에서 빠진다")
+    void getAll_second_call_hits_cache() {
+        // given
+        db.put(1L, "HONG GILDONG");
+        cache.getAll(List.of(1L, 99L), this::loadAll);
+
+        // when
+        Map<Long, String> names = cache.getAll(List.of(1L), this::loadAll);
+
+        // then
+        assertThat(names).containsExactly(Map.entry(1L, "HONG GILDONG"));
+        assertThat(batchLoads).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("프로필 수정으로 이름이 바뀌면 커밋 후 이벤트로 캐시가 지워지고 다음 조회에서 새 이름을 읽는다")
+    void updateProfile_evicts_changed_name() {
+        // given
+        User user = User.registUser(USER_ID, "GILDONG", "HONG", new PhoneNumber("0412345678"), SexType.M);
+        DomainEventsTestUtils.clearEvents(user);
+        db.put(USER_ID, user.getFullName());
+        String before = cache.get(USER_ID, this::load);
+
+        // when (이름 변경 -> 커밋 후 리스너 실행)
+        user.updateProfile("CHULSU", "HONG", null);
+        db.put(USER_ID, user.getFullName());
+        DomainEventsTestUtils.getEvents(user).stream()
+                .filter(UserNameChangedEvent.class::isInstance)
+                .map(UserNameChangedEvent.class::cast)
+                .forEach(listener::handle);
+        String after = cache.get(USER_ID, this::load);
+
+        // then
+        assertThat(after).isNotEqualTo(before).isEqualTo(user.getFullName());
+        assertThat(batchLoads).hasSize(2);
+        assertThat(meterRegistry.counter("user.name.cache.evictions").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이름이 그대로면(전화번호만 수정) 캐시를 지우지 않는다")
+    void updateProfile_without_name_change_keeps_cache() {
+        // given
+        User user = User.registUser(USER_ID, "GILDONG", "HONG", new PhoneNumber("0412345678"), SexType.M);
+        DomainEventsTestUtils.clearEvents(user);
+        db.put(USER_ID, user.getFullName());
+        cache.get(USER_ID, this::load);
+
+        // when
+        boolean nameChanged = user.updateProfile("GILDONG", "HONG", new PhoneNumber("0498765432"));
+
+        // then
+        assertThat(nameChanged).isFalse();
+        assertThat(DomainEventsTestUtils.getEvents(user)).noneMatch(UserNameChangedEvent.class::isInstance);
+        cache.get(USER_ID, this::load);
+        assertThat(batchLoads).hasSize(1);
+    }
+}